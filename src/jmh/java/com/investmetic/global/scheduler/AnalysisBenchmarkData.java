@@ -0,0 +1,66 @@
+package com.investmetic.global.scheduler;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.withSettings;
+
+import com.investmetic.domain.strategy.model.entity.DailyAnalysis;
+import com.investmetic.domain.strategy.model.entity.Strategy;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * 벤치마크용 가상 일간 분석 데이터와 저장소 stub.
+ */
+final class AnalysisBenchmarkData {
+
+    static final LocalDate START_DATE = LocalDate.of(2000, 1, 1);
+
+    private static final long SEED = 42L;
+
+    private AnalysisBenchmarkData() {
+    }
+
+    /**
+     * 호출 기록을 남기지 않는 stub. 반복 호출해도 메모리가 늘지 않아 할당률 측정에 영향을 주지 않는다.
+     */
+    static <T> T stub(Class<T> type) {
+        return mock(type, withSettings().stubOnly());
+    }
+
+    /**
+     * 재계산 전(입출금, 일손익만 있는) 일간 분석. 첫날 원금 입금 후 매일 정규분포 손익, 약 20 거래일마다 입출금.
+     */
+    static List<DailyAnalysis> pendingSeries(Strategy strategy, int days) {
+        Random random = new Random(SEED + strategy.getStrategyId());
+        List<DailyAnalysis> series = new ArrayList<>(days);
+
+        for (int day = 0; day < days; day++) {
+            long transaction;
+            if (day == 0) {
+                transaction = 100_000_000L;
+            } else if (random.nextInt(20) == 0) {
+                transaction = (random.nextInt(11) - 5) * 1_000_000L;
+            } else {
+                transaction = 0L;
+            }
+            long dailyProfitLoss = Math.round(random.nextGaussian() * 1_000_000 + 20_000);
+
+            series.add(DailyAnalysis.builder()
+                    .dailyAnalysisId((long) day + 1)
+                    .strategy(strategy)
+                    .dailyDate(START_DATE.plusDays(day))
+                    .transaction(transaction)
+                    .dailyProfitLoss(dailyProfitLoss)
+                    .build());
+        }
+        return series;
+    }
+
+    static Strategy strategy(long strategyId) {
+        return Strategy.builder()
+                .strategyId(strategyId)
+                .build();
+    }
+}
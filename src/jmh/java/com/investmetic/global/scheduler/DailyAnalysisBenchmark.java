@@ -0,0 +1,66 @@
+package com.investmetic.global.scheduler;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+
+import com.investmetic.domain.strategy.model.DailyAnalysisSeries;
+import com.investmetic.domain.strategy.model.entity.DailyAnalysis;
+import com.investmetic.domain.strategy.model.entity.Strategy;
+import com.investmetic.domain.strategy.repository.AnalysisBulkRepository;
+import com.investmetic.domain.strategy.repository.DailyAnalysisAccumulatorRepository;
+import com.investmetic.domain.strategy.repository.DailyAnalysisRepository;
+import com.investmetic.domain.strategy.repository.DailyAnalysisSeriesRepository;
+import com.investmetic.domain.strategy.repository.DailyAnalysisStagingRepository;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 전략 한 건의 전체 일간 분석 재계산 (첫 거래일부터). 조회/저장은 stub 이므로 메모리 계산 시간만 측정한다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class DailyAnalysisBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int days;
+
+    private Strategy strategy;
+
+    private DailyAnalysisScheduler dailyAnalysisScheduler;
+
+    @Setup
+    public void setUp() {
+        strategy = AnalysisBenchmarkData.strategy(1L);
+        List<DailyAnalysis> pendingSeries = AnalysisBenchmarkData.pendingSeries(strategy, days);
+
+        DailyAnalysisSeriesRepository dailyAnalysisSeriesRepository =
+                AnalysisBenchmarkData.stub(DailyAnalysisSeriesRepository.class);
+        DailyAnalysisAccumulatorRepository dailyAnalysisAccumulatorRepository =
+                AnalysisBenchmarkData.stub(DailyAnalysisAccumulatorRepository.class);
+
+        // 재계산 결과가 원본을 바꾸지 않도록 조회할 때마다 배열로 새로 구성
+        when(dailyAnalysisSeriesRepository.findByStrategy(any()))
+                .thenAnswer(invocation -> DailyAnalysisSeries.from(strategy, pendingSeries));
+        when(dailyAnalysisAccumulatorRepository.findById(anyLong())).thenReturn(Optional.empty());
+
+        dailyAnalysisScheduler = new DailyAnalysisScheduler(AnalysisBenchmarkData.stub(DailyAnalysisRepository.class),
+                dailyAnalysisAccumulatorRepository, AnalysisBenchmarkData.stub(AnalysisBulkRepository.class),
+                AnalysisBenchmarkData.stub(DailyAnalysisStagingRepository.class), dailyAnalysisSeriesRepository);
+    }
+
+    @Benchmark
+    public DailyAnalysisSeries recalculateDailyAnalyses() {
+        return dailyAnalysisScheduler.recalculateDailyAnalyses(strategy, AnalysisBenchmarkData.START_DATE);
+    }
+}
@@ -0,0 +1,52 @@
+package com.investmetic.global.scheduler;
+
+import static org.mockito.Mockito.when;
+
+import com.investmetic.domain.strategy.repository.AnalysisBulkRepository;
+import com.investmetic.domain.strategy.repository.StrategyRepository;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 전체 전략 SM Score 계산. 최신 KP Ratio 조회와 갱신은 stub 이므로 DB 왕복 시간은 포함하지 않는다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class SmScoreBenchmark {
+
+    @Param({"100", "1000", "10000", "50000"})
+    private int strategyCount;
+
+    private StrategyCalculatorScheduler strategyCalculatorScheduler;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42L);
+        List<Object[]> sources = new ArrayList<>(strategyCount);
+        for (int i = 1; i <= strategyCount; i++) {
+            sources.add(new Object[]{(long) i, random.nextGaussian(), 0.0, 0.0});
+        }
+
+        StrategyRepository strategyRepository = AnalysisBenchmarkData.stub(StrategyRepository.class);
+        when(strategyRepository.findSmScoreSources()).thenReturn(sources);
+
+        strategyCalculatorScheduler = new StrategyCalculatorScheduler(strategyRepository,
+                AnalysisBenchmarkData.stub(AnalysisBulkRepository.class));
+    }
+
+    @Benchmark
+    public void calculateSmScores() {
+        strategyCalculatorScheduler.calculateSmScores();
+    }
+}
@@ -0,0 +1,101 @@
+package com.investmetic.global.scheduler;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.when;
+
+import com.investmetic.domain.strategy.model.DailyAnalysisSeries;
+import com.investmetic.domain.strategy.model.entity.DailyAnalysis;
+import com.investmetic.domain.strategy.model.entity.Strategy;
+import com.investmetic.domain.strategy.model.entity.StrategyStatistics;
+import com.investmetic.domain.strategy.repository.AnalysisBulkRepository;
+import com.investmetic.domain.strategy.repository.DailyAnalysisAccumulatorRepository;
+import com.investmetic.domain.strategy.repository.DailyAnalysisRepository;
+import com.investmetic.domain.strategy.repository.DailyAnalysisSeriesRepository;
+import com.investmetic.domain.strategy.repository.DailyAnalysisStagingRepository;
+import com.investmetic.domain.strategy.repository.MonthlyAnalysisRepository;
+import com.investmetic.domain.strategy.repository.StrategyRepository;
+import com.investmetic.domain.strategy.repository.StrategyStatisticsRepository;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * 재계산된 일간 분석 한 건에 대한 KP Ratio, 월간 분석, 전략 통계 계산.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class StrategyKernelBenchmark {
+
+    // 2500 = 10년치 거래일
+    @Param({"1000", "2500", "10000", "100000"})
+    private int days;
+
+    private Strategy strategy;
+    private DailyAnalysisSeries dailyAnalyses;
+
+    private StrategyCalculatorScheduler strategyCalculatorScheduler;
+    private MonthlyAnalysisScheduler monthlyAnalysisScheduler;
+    private StrategyStatisticsScheduler strategyStatisticsScheduler;
+
+    @Setup
+    public void setUp() {
+        strategy = AnalysisBenchmarkData.strategy(1L);
+        List<DailyAnalysis> pendingSeries = AnalysisBenchmarkData.pendingSeries(strategy, days);
+
+        // 계산 대상인 재계산된 일간 분석 준비
+        DailyAnalysisRepository dailyAnalysisRepository = AnalysisBenchmarkData.stub(DailyAnalysisRepository.class);
+        DailyAnalysisAccumulatorRepository dailyAnalysisAccumulatorRepository =
+                AnalysisBenchmarkData.stub(DailyAnalysisAccumulatorRepository.class);
+        DailyAnalysisSeriesRepository dailyAnalysisSeriesRepository =
+                AnalysisBenchmarkData.stub(DailyAnalysisSeriesRepository.class);
+        when(dailyAnalysisSeriesRepository.findByStrategy(any()))
+                .thenReturn(DailyAnalysisSeries.from(strategy, pendingSeries));
+        when(dailyAnalysisAccumulatorRepository.findById(anyLong())).thenReturn(Optional.empty());
+        AnalysisBulkRepository analysisBulkRepository = AnalysisBenchmarkData.stub(AnalysisBulkRepository.class);
+        dailyAnalyses = new DailyAnalysisScheduler(dailyAnalysisRepository, dailyAnalysisAccumulatorRepository,
+                analysisBulkRepository, AnalysisBenchmarkData.stub(DailyAnalysisStagingRepository.class),
+                dailyAnalysisSeriesRepository)
+                .recalculateDailyAnalyses(strategy, AnalysisBenchmarkData.START_DATE);
+
+        strategyCalculatorScheduler = new StrategyCalculatorScheduler(
+                AnalysisBenchmarkData.stub(StrategyRepository.class), analysisBulkRepository);
+        monthlyAnalysisScheduler = new MonthlyAnalysisScheduler(analysisBulkRepository,
+                AnalysisBenchmarkData.stub(MonthlyAnalysisRepository.class));
+        strategyStatisticsScheduler = new StrategyStatisticsScheduler(
+                AnalysisBenchmarkData.stub(StrategyStatisticsRepository.class));
+    }
+
+    // 재계산 시에는 누적 상태의 KP Ratio 를 사용하므로 과거 일자 수정 등으로 전체 일자를 다시 계산하는 경우
+    @Benchmark
+    public double calculateKpRatio() {
+        return strategyCalculatorScheduler.calculateKpRatio(dailyAnalyses);
+    }
+
+    @Benchmark
+    public void calculateMonthlyAnalysis() {
+        monthlyAnalysisScheduler.calculateMonthlyAnalysis(dailyAnalyses);
+    }
+
+    @Benchmark
+    public boolean calculateStatistics() {
+        return strategyStatisticsScheduler.calculateStatistics(dailyAnalyses);
+    }
+
+    /**
+     * 저장소 조회 없이 통계 계산만 측정.
+     */
+    @Benchmark
+    public StrategyStatistics createStrategyStatistics() {
+        return strategyStatisticsScheduler.createStrategyStatistics(dailyAnalyses);
+    }
+}
@@ -0,0 +1,30 @@
+package com.investmetic.domain.strategy.controller;
+
+import com.investmetic.domain.strategy.dto.response.SchedulerStatusResponse;
+import com.investmetic.global.exception.BaseResponse;
+import com.investmetic.global.scheduler.SchedulerLeaderLease;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/admin/scheduler")
+@RequiredArgsConstructor
+@Tag(name = "전략 분석 스케줄러 관리 API", description = "전략 분석 스케줄러 상태 관련 API")
+public class AdminSchedulerController {
+
+    private final SchedulerLeaderLease schedulerLeaderLease;
+
+    @Operation(summary = "전략 분석 스케줄러 상태 조회 기능",
+            description = "현재 리더 서버, 리더 임대 경과 시간, 마지막 실행 결과를 조회한다.")
+    @PreAuthorize("hasAnyRole('ROLE_TRADER_ADMIN', 'ROLE_INVESTOR_ADMIN')")
+    @GetMapping("/status")
+    public ResponseEntity<BaseResponse<SchedulerStatusResponse>> getSchedulerStatus() {
+        return BaseResponse.success(schedulerLeaderLease.getStatus());
+    }
+}
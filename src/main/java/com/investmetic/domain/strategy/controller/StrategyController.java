@@ -3,12 +3,15 @@ package com.investmetic.domain.strategy.controller;
 import com.investmetic.domain.strategy.dto.request.StrategyModifyRequestDto;
 import com.investmetic.domain.strategy.dto.request.StrategyRegisterRequestDto;
 import com.investmetic.domain.strategy.dto.request.TraderDailyAnalysisRequestDto;
+import com.investmetic.domain.strategy.dto.response.DailyAnalysisImportResponse;
+import com.investmetic.domain.strategy.dto.response.DailyAnalysisPreviewResponse;
 import com.investmetic.domain.strategy.dto.response.DailyAnalysisResponse;
 import com.investmetic.domain.strategy.dto.response.MyStrategyDetailResponse;
 import com.investmetic.domain.strategy.dto.response.RegisterInfoResponseDto;
 import com.investmetic.domain.strategy.dto.response.StrategyModifyInfoResponseDto;
 import com.investmetic.domain.strategy.dto.response.common.MyStrategySimpleResponse;
 import com.investmetic.domain.strategy.dto.response.common.StrategySimpleResponse;
+import com.investmetic.domain.strategy.service.DailyAnalysisPreviewService;
 import com.investmetic.domain.strategy.service.StrategyAnalysisService;
 import com.investmetic.domain.strategy.service.StrategyDetailService;
 import com.investmetic.domain.strategy.service.StrategyListingService;
@@ -44,7 +47,9 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RequestPart;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.multipart.MultipartFile;
 
 @RestController
 @RequestMapping("/api/my-strategies")
@@ -55,6 +60,7 @@ public class StrategyController {
     private final StrategyDetailService strategyDetailService;
     private final StrategyService strategyService;
     private final StrategyListingService strategyListingService;
+    private final DailyAnalysisPreviewService dailyAnalysisPreviewService;
 
     @PostMapping("/register")
     @PreAuthorize("hasRole('ROLE_TRADER')")
@@ -113,6 +119,30 @@ public class StrategyController {
         return BaseResponse.success();
     }
 
+    @PostMapping(value = "/{strategyId}/daily-analysis/upload", consumes = MediaType.MULTIPART_FORM_DATA_VALUE)
+    @PreAuthorize("hasRole('ROLE_TRADER')")
+    @Operation(summary = "트레이더 전략 일간 분석 파일 일괄 등록 기능", description = "CSV, XLSX 파일 (일자, 입출금, 일손익 순서) 업로드")
+    public ResponseEntity<BaseResponse<DailyAnalysisImportResponse>> importStrategyDailyAnalysis(
+            @PathVariable Long strategyId,
+            @RequestPart("file") MultipartFile file,
+            @AuthenticationPrincipal CustomUserDetails customUserDetails
+    ) {
+        return BaseResponse.success(SuccessCode.CREATED,
+                strategyAnalysisService.importDailyAnalyses(strategyId, file, customUserDetails.getUserId()));
+    }
+
+    @PostMapping("/{strategyId}/daily-analysis/preview")
+    @PreAuthorize("hasRole('ROLE_TRADER')")
+    @Operation(summary = "트레이더 전략 일간 분석 수정 미리보기 기능", description = "수정/추가할 일간 분석을 반영한 통계를 저장하지 않고 계산")
+    public ResponseEntity<BaseResponse<DailyAnalysisPreviewResponse>> previewStrategyDailyAnalysis(
+            @PathVariable Long strategyId,
+            @RequestBody @Valid List<TraderDailyAnalysisRequestDto> dailyAnalysisRequestDtos,
+            @AuthenticationPrincipal CustomUserDetails customUserDetails
+    ) {
+        return BaseResponse.success(dailyAnalysisPreviewService.previewDailyAnalysis(strategyId,
+                dailyAnalysisRequestDtos, customUserDetails.getUserId()));
+    }
+
     @PatchMapping("/{strategyId}/daily-analysis")
     @PreAuthorize("hasRole('ROLE_TRADER')")
     @Operation(summary = "트레이더 전략 일간 분석 수정 기능", description = "<a href='https://field-sting-eff.notion.site/c9db716164ad405f8f4d4c622476e9f6?pvs=4' target='_blank'>API 명세서</a>")
@@ -92,8 +92,10 @@ public class StrategyDetailController {
     public ResponseEntity<BaseResponse<StrategyAnalysisResponse>> getStrategyAnalysis(
             @PathVariable Long strategyId,
             @RequestParam AnalysisOption option1,
-            @RequestParam AnalysisOption option2) {
-        StrategyAnalysisResponse result = strategyDetailService.getStrategyAnalysis(strategyId, option1, option2);
+            @RequestParam AnalysisOption option2,
+            @RequestParam(required = false) Integer maxPoints) {
+        StrategyAnalysisResponse result = strategyDetailService.getStrategyAnalysis(strategyId, option1, option2,
+                maxPoints);
         return BaseResponse.success(result);
     }
 
@@ -6,6 +6,7 @@ import com.investmetic.domain.strategy.model.DurationRange;
 import com.investmetic.domain.strategy.model.OperationCycle;
 import com.investmetic.domain.strategy.model.ProfitRange;
 import java.util.List;
+import java.util.stream.Collectors;
 import lombok.Getter;
 
 @Getter
@@ -20,4 +21,47 @@ public class SearchRequest {
     private RangeDto mddRange; // MDD 범위
     private RangeDto smScoreRange; // SM SCORE 범위
     private AlgorithmType algorithmType; // 알고리즘 타입
+
+    /**
+     * 검색어, 필터 없이 알고리즘 정렬만 요청했는지 여부 (알고리즘 순위표로 조회 가능)
+     */
+    public boolean hasOnlyAlgorithmType() {
+        return algorithmType != null
+                && (searchWord == null || searchWord.isEmpty())
+                && isEmpty(tradeTypeNames) && isEmpty(operationCycles) && isEmpty(stockTypeNames)
+                && isEmpty(durations) && isEmpty(profitRanges)
+                && principalRange == null && mddRange == null && smScoreRange == null;
+    }
+
+    /**
+     * 검색 결과 캐시 키. 목록 필터는 순서, 중복과 관계없이 같은 조건이므로 정렬하여 같은 키가 되게 하고, 구분자가 들어갈 수 있는 검색어는 마지막에
+     * 둔다.
+     */
+    public String toCacheKey() {
+        return String.join("|",
+                joinSorted(tradeTypeNames), joinSorted(operationCycles), joinSorted(stockTypeNames),
+                joinSorted(durations), joinSorted(profitRanges),
+                rangeKey(principalRange), rangeKey(mddRange), rangeKey(smScoreRange),
+                algorithmType != null ? algorithmType.name() : "",
+                searchWord != null ? searchWord : "");
+    }
+
+    private static String joinSorted(List<?> values) {
+        if (isEmpty(values)) {
+            return "";
+        }
+        return values.stream()
+                .map(String::valueOf)
+                .distinct()
+                .sorted()
+                .collect(Collectors.joining(","));
+    }
+
+    private static String rangeKey(RangeDto range) {
+        return range != null ? range.getMin() + "~" + range.getMax() : "";
+    }
+
+    private static boolean isEmpty(List<?> values) {
+        return values == null || values.isEmpty();
+    }
 }
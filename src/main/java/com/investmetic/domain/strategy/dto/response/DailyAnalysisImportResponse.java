@@ -0,0 +1,13 @@
+package com.investmetic.domain.strategy.dto.response;
+
+import java.time.LocalDate;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class DailyAnalysisImportResponse {
+
+    private int importedCount;      // 등록한 일간 분석 수
+    private LocalDate fromDate;     // 등록한 일자 중 가장 이른 일자 (이 일자부터 재계산)
+}
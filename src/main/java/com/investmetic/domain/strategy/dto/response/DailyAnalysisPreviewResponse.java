@@ -0,0 +1,47 @@
+package com.investmetic.domain.strategy.dto.response;
+
+import com.investmetic.domain.strategy.model.entity.StrategyStatistics;
+import java.time.LocalDate;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class DailyAnalysisPreviewResponse {
+
+    private LocalDate fromDate;             // 수정한 일자 중 가장 이른 일자
+    private int recalculatedDays;           // 다시 계산한 일수 (fromDate 보다 이른 재계산 대기 일자부터)
+    private PreviewStatistics current;      // 현재 저장된 통계 (통계가 없으면 null)
+    private PreviewStatistics preview;      // 수정을 반영한 통계 (일간 분석이 없으면 null)
+
+    @Getter
+    @Builder
+    public static class PreviewStatistics {
+
+        private Double kpRatio;                 // KP Ratio
+        private Long maxDrawdown;               // 최대 자본 인하 금액
+        private Double maxDrawdownRate;         // 최대 자본 인하율
+        private Long cumulativeProfitAmount;    // 누적 수익금액
+        private Double cumulativeProfitRate;    // 누적 수익률
+        private Long balance;                   // 잔고
+        private Double winRate;                 // 승률
+        private Double profitFactor;            // Profit Factor
+        private Integer totalTradeDays;         // 총 매매일수
+        private LocalDate endDate;              // 종료일
+
+        public static PreviewStatistics from(StrategyStatistics statistics, Double kpRatio) {
+            return PreviewStatistics.builder()
+                    .kpRatio(kpRatio)
+                    .maxDrawdown(statistics.getMaxDrawdown())
+                    .maxDrawdownRate(statistics.getMaxDrawdownRate())
+                    .cumulativeProfitAmount(statistics.getCumulativeProfitAmount())
+                    .cumulativeProfitRate(statistics.getCumulativeProfitRate())
+                    .balance(statistics.getBalance())
+                    .winRate(statistics.getWinRate())
+                    .profitFactor(statistics.getProfitFactor())
+                    .totalTradeDays(statistics.getTotalTradeDays())
+                    .endDate(statistics.getEndDate())
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,21 @@
+package com.investmetic.domain.strategy.dto.response;
+
+import java.time.LocalDateTime;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class SchedulerStatusResponse {
+
+    private String nodeId;                      // 조회한 서버
+    private String leaderNodeId;                // 현재 리더 서버 (없으면 null)
+    private Long fencingToken;                  // 현재 리더의 fencing token
+    private Long leaseAgeSeconds;               // 현재 리더가 임대를 얻은 뒤 경과 시간
+    private Long leaseRemainingMillis;          // 임대 만료까지 남은 시간
+    private String lastRunNodeId;               // 마지막 실행 서버
+    private Long lastRunJobExecutionId;         // 마지막 실행 Job ID
+    private String lastRunStatus;               // 마지막 실행 결과
+    private LocalDateTime lastRunStartedAt;     // 마지막 실행 시작 시각
+    private LocalDateTime lastRunEndedAt;       // 마지막 실행 종료 시각
+}
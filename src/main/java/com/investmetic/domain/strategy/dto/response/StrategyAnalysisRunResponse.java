@@ -0,0 +1,24 @@
+package com.investmetic.domain.strategy.dto.response;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class StrategyAnalysisRunResponse {
+
+    private Long jobExecutionId;            // 전략 분석 배치 Job ID
+    private String status;                  // 실행 결과
+    private LocalDateTime startedAt;        // 시작 시각
+    private LocalDateTime endedAt;          // 종료 시각
+    private Long durationMillis;            // 전체 실행 시간
+    private long strategyCount;             // 재계산한 전략 수
+    private long skipCount;                 // 실패하여 건너뛴 전략 수
+    private long dailyRowsRead;             // 조회한 일간 분석 수
+    private long dailyRowsWritten;          // 재계산하여 저장한 일간 분석 수
+    private Map<String, Long> phaseMillis;  // 단계별 실행 시간 합계 (파티션 병렬 실행 시간 포함)
+    private Long slowestStrategyId;         // 가장 오래 걸린 전략
+    private long slowestStrategyMillis;     // 가장 오래 걸린 전략의 재계산 시간
+}
@@ -1,6 +1,7 @@
 package com.investmetic.domain.strategy.model;
 
-import com.investmetic.domain.strategy.model.entity.QStrategyStatistics;
+import com.investmetic.domain.strategy.model.entity.QStrategy;
+import com.investmetic.domain.strategy.model.entity.StrategyStatistics;
 import com.querydsl.core.types.OrderSpecifier;
 import lombok.AllArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -10,30 +11,64 @@ import lombok.extern.slf4j.Slf4j;
 public enum AlgorithmType {
     EFFICIENT_STRATEGY("효율형 전략") {
         @Override
-        public OrderSpecifier<?> getOrderSpecifier(QStrategyStatistics stats) {
+        public OrderSpecifier<?> getOrderSpecifier(QStrategy strategy) {
             log.info("효율형 전략 선택");
-            return stats.cumulativeProfitRate.divide(stats.maxDrawdownRate).desc();
+            return strategy.efficientScore.desc();
+        }
+
+        @Override
+        public Double calculateScore(StrategyStatistics stats) {
+            return divide(stats.getCumulativeProfitRate(), stats.getMaxDrawdownRate());
         }
     },
     ATTACK_STRATEGY("공격형 전략") {
         @Override
-        public OrderSpecifier<?> getOrderSpecifier(QStrategyStatistics stats) {
+        public OrderSpecifier<?> getOrderSpecifier(QStrategy strategy) {
             log.info("공격형 전략 선택");
-            return stats.cumulativeProfitRate
-                    .divide(stats.winRate.multiply(0.01).subtract(1).abs()).desc();
+            return strategy.attackScore.desc();
+        }
+
+        @Override
+        public Double calculateScore(StrategyStatistics stats) {
+            if (stats.getWinRate() == null) {
+                return null;
+            }
+            return divide(stats.getCumulativeProfitRate(), Math.abs(stats.getWinRate() * 0.01 - 1));
         }
     },
     DEFENSIVE_STRATEGY("방어형 전략") {
         @Override
-        public OrderSpecifier<?> getOrderSpecifier(QStrategyStatistics stats) {
+        public OrderSpecifier<?> getOrderSpecifier(QStrategy strategy) {
             log.info("방어형 전략 선택");
-            return stats.mddRank.add(stats.stdDevRank)
-                    .add(stats.winRateRank).divide(3).desc();
+            return strategy.defensiveScore.desc();
+        }
+
+        @Override
+        public Double calculateScore(StrategyStatistics stats) {
+            if (stats.getMddRank() == null || stats.getStdDevRank() == null || stats.getWinRateRank() == null) {
+                return null;
+            }
+            return (stats.getMddRank() + stats.getStdDevRank() + stats.getWinRateRank()) / 3.0;
         }
     };
 
     private final String description;
 
 
-    public abstract OrderSpecifier<?> getOrderSpecifier(QStrategyStatistics stats);
+    /**
+     * 전략에 저장된 알고리즘 점수 내림차순 (StrategyRepository.updateAlgorithmScores 로 갱신).
+     */
+    public abstract OrderSpecifier<?> getOrderSpecifier(QStrategy strategy);
+
+    /**
+     * 전략에 저장되는 알고리즘 점수와 같은 정렬 점수 (클수록 상위). DB 와 마찬가지로 값이 없거나 0으로 나누면 null.
+     */
+    public abstract Double calculateScore(StrategyStatistics stats);
+
+    private static Double divide(Double dividend, Double divisor) {
+        if (dividend == null || divisor == null || divisor == 0) {
+            return null;
+        }
+        return dividend / divisor;
+    }
 }
@@ -0,0 +1,304 @@
+package com.investmetic.domain.strategy.model;
+
+import com.investmetic.domain.strategy.model.entity.DailyAnalysis;
+import com.investmetic.domain.strategy.model.entity.Strategy;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * 전략 한 건의 일간 분석(날짜 오름차순) 중 재계산과 지표 계산에 필요한 컬럼만 원시 타입 배열로 보관.
+ * <p>
+ * 일간 분석 엔티티 목록 대신 사용하여 일자마다 엔티티, 박싱된 Long/Double, 영속성 컨텍스트 스냅샷이 생기지 않게 한다. 전략 통계에서 마지막
+ * 일자의 값만 쓰는 누적 지표(최대 일간 이익, 승률 등)는 배열로 두지 않고 마지막 일자의 일간 분석 하나(lastDailyAnalysis)로 보관한다.
+ */
+public class DailyAnalysisSeries {
+
+    private static final int DEFAULT_CAPACITY = 16;
+
+    @Getter
+    private final Strategy strategy;
+
+    private int size;
+
+    private long[] dailyAnalysisIds; // 저장 전 일간 분석은 0
+    private int[] dailyDates; // epoch day
+    private long[] transactions;
+    private long[] dailyProfitLosses;
+    private int[] tradingDays;
+    private long[] principals;
+    private long[] balances;
+    private long[] deposits;
+    private long[] withdrawals;
+    private double[] dailyProfitLossRates;
+    private long[] cumulativeProfitLosses;
+    private double[] cumulativeProfitLossRates;
+    private double[] referencePrices;
+    private long[] peaks;
+    private long[] daysSincePeaks;
+    private long[] currentDrawdowns;
+    private double[] currentDrawdownRates;
+    private long[] drawDownPeriods;
+    private double[] maxDrawDownInRates;
+
+    @Getter
+    @Setter
+    private DailyAnalysis lastDailyAnalysis; // 마지막 일자의 전체 값
+
+    @Getter
+    @Setter
+    private LocalDate recalculatedFrom; // 이 일자 이후가 재계산됨 (null 이면 전체)
+
+    @Getter
+    @Setter
+    private Double kpRatio; // 누적 상태로 계산된 KP Ratio (null 이면 전체 일자로 계산)
+
+    public DailyAnalysisSeries(Strategy strategy, int capacity) {
+        this.strategy = strategy;
+        allocate(Math.max(capacity, DEFAULT_CAPACITY));
+    }
+
+    /**
+     * 계산된 일간 분석 목록(날짜 오름차순)으로 생성.
+     */
+    public static DailyAnalysisSeries from(Strategy strategy, List<DailyAnalysis> dailyAnalyses) {
+        DailyAnalysisSeries series = new DailyAnalysisSeries(strategy, dailyAnalyses.size());
+        for (DailyAnalysis dailyAnalysis : dailyAnalyses) {
+            int index = series.addDay(dailyAnalysis.getDailyAnalysisId(), dailyAnalysis.getDailyDate(),
+                    dailyAnalysis.getTransaction(), dailyAnalysis.getDailyProfitLoss());
+            series.set(index, dailyAnalysis);
+        }
+        return series;
+    }
+
+    /**
+     * 입출금, 일손익만 있는 일자를 마지막에 추가. 나머지 값은 setCalculatedDay 또는 set 으로 채운다.
+     *
+     * @return 추가된 일자의 위치
+     */
+    public int addDay(Long dailyAnalysisId, LocalDate dailyDate, long transaction, long dailyProfitLoss) {
+        if (size == dailyDates.length) {
+            grow();
+        }
+        int index = size++;
+        dailyAnalysisIds[index] = dailyAnalysisId != null ? dailyAnalysisId : 0L;
+        dailyDates[index] = (int) dailyDate.toEpochDay();
+        transactions[index] = transaction;
+        dailyProfitLosses[index] = dailyProfitLoss;
+        return index;
+    }
+
+    /**
+     * 다른 일간 분석의 sourceIndex 일자를 마지막에 복사.
+     *
+     * @return 추가된 일자의 위치
+     */
+    public int addDay(DailyAnalysisSeries source, int sourceIndex) {
+        int index = addDay(source.getDailyAnalysisId(sourceIndex), source.getDailyDate(sourceIndex),
+                source.transactions[sourceIndex], source.dailyProfitLosses[sourceIndex]);
+        setCalculatedDay(index, source.tradingDays[sourceIndex], source.principals[sourceIndex],
+                source.balances[sourceIndex], source.deposits[sourceIndex], source.withdrawals[sourceIndex],
+                source.dailyProfitLossRates[sourceIndex], source.cumulativeProfitLosses[sourceIndex],
+                source.cumulativeProfitLossRates[sourceIndex], source.referencePrices[sourceIndex],
+                source.peaks[sourceIndex], source.daysSincePeaks[sourceIndex], source.currentDrawdowns[sourceIndex],
+                source.currentDrawdownRates[sourceIndex], source.drawDownPeriods[sourceIndex],
+                source.maxDrawDownInRates[sourceIndex]);
+        return index;
+    }
+
+    /**
+     * 계산된 일간 분석의 값을 index 일자에 반영. 마지막 일자이면 lastDailyAnalysis 도 교체한다.
+     */
+    public void set(int index, DailyAnalysis dailyAnalysis) {
+        transactions[index] = dailyAnalysis.getTransaction();
+        dailyProfitLosses[index] = dailyAnalysis.getDailyProfitLoss();
+        setCalculatedDay(index, dailyAnalysis.getTradingDays(), valueOf(dailyAnalysis.getPrincipal()),
+                valueOf(dailyAnalysis.getBalance()), valueOf(dailyAnalysis.getDeposit()),
+                valueOf(dailyAnalysis.getWithdrawal()), valueOf(dailyAnalysis.getDailyProfitLossRate()),
+                valueOf(dailyAnalysis.getCumulativeProfitLoss()),
+                valueOf(dailyAnalysis.getCumulativeProfitLossRate()), valueOf(dailyAnalysis.getReferencePrice()),
+                valueOf(dailyAnalysis.getPeak()), valueOf(dailyAnalysis.getDaysSincePeak()),
+                valueOf(dailyAnalysis.getCurrentDrawdown()), valueOf(dailyAnalysis.getCurrentDrawdownRate()),
+                valueOf(dailyAnalysis.getDrawDownPeriod()), valueOf(dailyAnalysis.getMaxDrawDownInRate()));
+        if (index == size - 1) {
+            lastDailyAnalysis = dailyAnalysis;
+        }
+    }
+
+    /**
+     * index 일자의 계산된 값 반영.
+     */
+    public void setCalculatedDay(int index, int tradingDays, long principal, long balance, long deposit,
+                                 long withdrawal, double dailyProfitLossRate, long cumulativeProfitLoss,
+                                 double cumulativeProfitLossRate, double referencePrice, long peak,
+                                 long daysSincePeak, long currentDrawdown, double currentDrawdownRate,
+                                 long drawDownPeriod, double maxDrawDownInRate) {
+        this.tradingDays[index] = tradingDays;
+        principals[index] = principal;
+        balances[index] = balance;
+        deposits[index] = deposit;
+        withdrawals[index] = withdrawal;
+        dailyProfitLossRates[index] = dailyProfitLossRate;
+        cumulativeProfitLosses[index] = cumulativeProfitLoss;
+        cumulativeProfitLossRates[index] = cumulativeProfitLossRate;
+        referencePrices[index] = referencePrice;
+        peaks[index] = peak;
+        daysSincePeaks[index] = daysSincePeak;
+        currentDrawdowns[index] = currentDrawdown;
+        currentDrawdownRates[index] = currentDrawdownRate;
+        drawDownPeriods[index] = drawDownPeriod;
+        maxDrawDownInRates[index] = maxDrawDownInRate;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * fromDate 이후 첫 일자의 위치, 없으면 size.
+     */
+    public int indexOf(LocalDate fromDate) {
+        int key = (int) fromDate.toEpochDay();
+        int index = Arrays.binarySearch(dailyDates, 0, size, key);
+        return index >= 0 ? index : -(index + 1);
+    }
+
+    public Long getDailyAnalysisId(int index) {
+        return dailyAnalysisIds[index] != 0 ? dailyAnalysisIds[index] : null;
+    }
+
+    public LocalDate getDailyDate(int index) {
+        return LocalDate.ofEpochDay(dailyDates[index]);
+    }
+
+    public int getEpochDay(int index) {
+        return dailyDates[index];
+    }
+
+    public long getTransaction(int index) {
+        return transactions[index];
+    }
+
+    public long getDailyProfitLoss(int index) {
+        return dailyProfitLosses[index];
+    }
+
+    public int getTradingDays(int index) {
+        return tradingDays[index];
+    }
+
+    public long getPrincipal(int index) {
+        return principals[index];
+    }
+
+    public long getBalance(int index) {
+        return balances[index];
+    }
+
+    public long getDeposit(int index) {
+        return deposits[index];
+    }
+
+    public long getWithdrawal(int index) {
+        return withdrawals[index];
+    }
+
+    public double getDailyProfitLossRate(int index) {
+        return dailyProfitLossRates[index];
+    }
+
+    public long getCumulativeProfitLoss(int index) {
+        return cumulativeProfitLosses[index];
+    }
+
+    public double getCumulativeProfitLossRate(int index) {
+        return cumulativeProfitLossRates[index];
+    }
+
+    public double getReferencePrice(int index) {
+        return referencePrices[index];
+    }
+
+    public long getPeak(int index) {
+        return peaks[index];
+    }
+
+    public long getDaysSincePeak(int index) {
+        return daysSincePeaks[index];
+    }
+
+    public long getCurrentDrawdown(int index) {
+        return currentDrawdowns[index];
+    }
+
+    public double getCurrentDrawdownRate(int index) {
+        return currentDrawdownRates[index];
+    }
+
+    public long getDrawDownPeriod(int index) {
+        return drawDownPeriods[index];
+    }
+
+    public double getMaxDrawDownInRate(int index) {
+        return maxDrawDownInRates[index];
+    }
+
+    private void allocate(int capacity) {
+        dailyAnalysisIds = new long[capacity];
+        dailyDates = new int[capacity];
+        transactions = new long[capacity];
+        dailyProfitLosses = new long[capacity];
+        tradingDays = new int[capacity];
+        principals = new long[capacity];
+        balances = new long[capacity];
+        deposits = new long[capacity];
+        withdrawals = new long[capacity];
+        dailyProfitLossRates = new double[capacity];
+        cumulativeProfitLosses = new long[capacity];
+        cumulativeProfitLossRates = new double[capacity];
+        referencePrices = new double[capacity];
+        peaks = new long[capacity];
+        daysSincePeaks = new long[capacity];
+        currentDrawdowns = new long[capacity];
+        currentDrawdownRates = new double[capacity];
+        drawDownPeriods = new long[capacity];
+        maxDrawDownInRates = new double[capacity];
+    }
+
+    private void grow() {
+        int capacity = dailyDates.length + (dailyDates.length >> 1);
+        dailyAnalysisIds = Arrays.copyOf(dailyAnalysisIds, capacity);
+        dailyDates = Arrays.copyOf(dailyDates, capacity);
+        transactions = Arrays.copyOf(transactions, capacity);
+        dailyProfitLosses = Arrays.copyOf(dailyProfitLosses, capacity);
+        tradingDays = Arrays.copyOf(tradingDays, capacity);
+        principals = Arrays.copyOf(principals, capacity);
+        balances = Arrays.copyOf(balances, capacity);
+        deposits = Arrays.copyOf(deposits, capacity);
+        withdrawals = Arrays.copyOf(withdrawals, capacity);
+        dailyProfitLossRates = Arrays.copyOf(dailyProfitLossRates, capacity);
+        cumulativeProfitLosses = Arrays.copyOf(cumulativeProfitLosses, capacity);
+        cumulativeProfitLossRates = Arrays.copyOf(cumulativeProfitLossRates, capacity);
+        referencePrices = Arrays.copyOf(referencePrices, capacity);
+        peaks = Arrays.copyOf(peaks, capacity);
+        daysSincePeaks = Arrays.copyOf(daysSincePeaks, capacity);
+        currentDrawdowns = Arrays.copyOf(currentDrawdowns, capacity);
+        currentDrawdownRates = Arrays.copyOf(currentDrawdownRates, capacity);
+        drawDownPeriods = Arrays.copyOf(drawDownPeriods, capacity);
+        maxDrawDownInRates = Arrays.copyOf(maxDrawDownInRates, capacity);
+    }
+
+    private static long valueOf(Long value) {
+        return value != null ? value : 0L;
+    }
+
+    private static double valueOf(Double value) {
+        return value != null ? value : 0.0;
+    }
+}
@@ -0,0 +1,24 @@
+package com.investmetic.domain.strategy.model;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+
+/**
+ * 분석 차트 집계 단위. 세밀한 단위부터 선언되어 있으며 maxPoints 에 맞는 가장 세밀한 단위를 고를 때 이 순서를 사용한다.
+ */
+public enum RollupResolution {
+    WEEK,   // ISO 주 (월요일 시작, MySQL YEARWEEK(date, 3))
+    MONTH,  // 월
+    YEAR;   // 연
+
+    /**
+     * date 가 속한 기간의 시작 일자.
+     */
+    public LocalDate periodStart(LocalDate date) {
+        return switch (this) {
+            case WEEK -> date.with(DayOfWeek.MONDAY);
+            case MONTH -> date.withDayOfMonth(1);
+            case YEAR -> date.withDayOfYear(1);
+        };
+    }
+}
@@ -0,0 +1,87 @@
+package com.investmetic.domain.strategy.model.entity;
+
+import com.investmetic.domain.strategy.model.RollupResolution;
+import com.investmetic.global.common.BaseTimeEntity;
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDate;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 분석 차트용 주간/월간/연간 집계 (전략, 집계 단위, 기간당 한 건).
+ * <p>
+ * 일간 분석 재계산 후 재계산된 기간만 일간 분석에서 다시 집계된다. 입출금, 일손익은 기간 합계, 일간 손익률은 기간 평균(월간 분석과 동일)이며,
+ * 나머지 누적/상태 지표는 기간 마지막 거래일의 값이다.
+ */
+@Entity
+@Getter
+@Builder
+@Table(uniqueConstraints = @UniqueConstraint(columnNames = {"strategy_id", "resolution", "period_date"}))
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class AnalysisRollup extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "analysis_rollup_id")
+    private Long analysisRollupId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "strategy_id", nullable = false)
+    private Strategy strategy;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 10)
+    private RollupResolution resolution; // 집계 단위
+
+    @Column(nullable = false)
+    private LocalDate periodDate; // 기간 마지막 거래일
+
+    private Long balance; // 잔고
+
+    private Long principal; // 원금
+
+    private Long cumulativeTransactionAmount; // 누적 입출금
+
+    private Long transaction; // 기간 입출금 합계
+
+    private Long dailyProfitLoss; // 기간 손익 합계
+
+    private Double dailyProfitLossRate; // 기간 일간 손익률 평균
+
+    private Long cumulativeProfitLoss; // 누적 손익
+
+    private Double cumulativeProfitLossRate; // 누적 손익률
+
+    private Long currentDrawdown; // 현재 자본인하금액
+
+    private Double currentDrawdownRate; // 현재 자본인하율
+
+    private Long averageProfitLoss; // 평균 손익
+
+    private Double averageProfitLossRatio; // 평균 손익비율
+
+    private Double winRate; // 승률
+
+    private Double profitFactor; // Profit Factor
+
+    private Double roa; // ROA
+
+    private Long totalProfit; // 총 이익
+
+    private Long totalLoss; // 총 손실
+}
@@ -8,8 +8,10 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
 import java.time.LocalDate;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
@@ -20,6 +22,7 @@ import lombok.NoArgsConstructor;
 @Builder(toBuilder = true)
 @Entity
 @Getter
+@Table(indexes = @Index(name = "idx_daily_analysis_strategy_date", columnList = "strategy_id, daily_date"))
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class DailyAnalysis extends BaseEntity {
@@ -172,14 +175,5 @@ public class DailyAnalysis extends BaseEntity {
 
     @Builder.Default
     @Enumerated(EnumType.STRING)
-    private Proceed proceed = Proceed.YES; // 등록, 수정 시 NO
-
-    public void modifyDailyAnalysis(Long transaction, Long dailyProfitLoss) {
-        this.transaction = transaction;
-        this.dailyProfitLoss = dailyProfitLoss;
-    }
-
-    public void setProceed(Proceed proceed) {
-        this.proceed = proceed;
-    }
+    private Proceed proceed = Proceed.YES; // 스테이징 도입 전에 등록, 수정되어 재계산되지 않은 일간 분석은 NO
 }
@@ -0,0 +1,214 @@
+package com.investmetic.domain.strategy.model.entity;
+
+import com.investmetic.domain.strategy.model.DailyAnalysisSeries;
+import com.investmetic.global.common.BaseTimeEntity;
+import com.investmetic.global.util.RunningKpRatio;
+import com.investmetic.global.util.RunningVariance;
+import jakarta.persistence.AttributeOverride;
+import jakarta.persistence.AttributeOverrides;
+import jakarta.persistence.Column;
+import jakarta.persistence.Embedded;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import java.time.LocalDate;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 전략별 일간 분석 누적 상태.
+ * <p>
+ * lastDailyDate 까지 반영된 합계, 개수, 최대/최소값과 일간 손익의 평균/분산, KP Ratio 계산 상태를 보관하여 다음 거래일의 일간 분석과
+ * KP Ratio 를 이전 일간 분석 전체 조회 없이 계산할 수 있게 한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DailyAnalysisAccumulator extends BaseTimeEntity {
+
+    @Id
+    private Long strategyId;
+
+    private LocalDate lastDailyDate; // 마지막으로 반영된 일자
+
+    private int tradingDays; // 반영된 거래일수
+
+    private long transactionSum; // 누적 입출금
+
+    private long depositSum; // 누적 입금
+
+    private long withdrawalSum; // 누적 출금
+
+    private long profitLossSum; // 누적 손익
+
+    private long totalProfit; // 총 이익
+
+    private long profitableDays; // 이익일수
+
+    private long totalLoss; // 총 손실
+
+    private long lossDays; // 손실일수
+
+    private long maxDailyProfit; // 최대 일간 이익
+
+    private double maxDailyProfitRate; // 최대 일간 이익률
+
+    private long maxDailyLoss; // 최대 일간 손실
+
+    private double maxDailyLossRate; // 최대 일간 손실률
+
+    private long maxCumulativeProfitLoss; // 최대 누적 손익
+
+    private double maxCumulativeProfitLossRate; // 최대 누적 손익률
+
+    private double maxReferencePrice; // 최대 기준가
+
+    private long maxDrawdown; // 최대 자본인하금액
+
+    private double maxDrawdownRate; // 최대 자본인하율
+
+    @Embedded
+    @AttributeOverrides({
+            @AttributeOverride(name = "count", column = @Column(name = "profit_loss_count")),
+            @AttributeOverride(name = "mean", column = @Column(name = "profit_loss_mean")),
+            @AttributeOverride(name = "m2", column = @Column(name = "profit_loss_m2"))
+    })
+    private RunningVariance profitLossVariance = new RunningVariance(); // 일간 손익 평균, 분산
+
+    @Embedded
+    @AttributeOverrides({
+            @AttributeOverride(name = "count", column = @Column(name = "kp_count")),
+            @AttributeOverride(name = "highProfitLossRate", column = @Column(name = "kp_high_profit_loss_rate")),
+            @AttributeOverride(name = "minDrawdown", column = @Column(name = "kp_min_drawdown")),
+            @AttributeOverride(name = "sumDrawdown", column = @Column(name = "kp_sum_drawdown")),
+            @AttributeOverride(name = "drawdownPeriod", column = @Column(name = "kp_drawdown_period")),
+            @AttributeOverride(name = "lastProfitLossRate", column = @Column(name = "kp_last_profit_loss_rate"))
+    })
+    private RunningKpRatio kpRatioState = new RunningKpRatio(); // KP Ratio 계산 상태
+
+    public DailyAnalysisAccumulator(Long strategyId) {
+        this.strategyId = strategyId;
+    }
+
+    /**
+     * 일간 분석의 처음부터 toIndex 전날까지로 누적 상태를 처음부터 다시 구성.
+     */
+    public void rebuild(DailyAnalysisSeries series, int toIndex) {
+        reset();
+        for (int i = 0; i < toIndex; i++) {
+            accumulate(series, i);
+        }
+    }
+
+    /**
+     * 계산이 끝난 index 일자를 누적 상태에 반영.
+     */
+    public void accumulate(DailyAnalysisSeries series, int index) {
+        accumulateDay(series.getDailyDate(index), series.getTransaction(index), series.getDeposit(index),
+                series.getWithdrawal(index), series.getDailyProfitLoss(index), series.getDailyProfitLossRate(index),
+                series.getCumulativeProfitLossRate(index), series.getReferencePrice(index));
+        accumulateDrawdown(series.getCurrentDrawdown(index), series.getCurrentDrawdownRate(index));
+    }
+
+    /**
+     * 하루치 입출금, 손익을 반영. 자본인하는 누적 손익이 반영된 뒤 계산되므로 accumulateDrawdown 으로 따로 반영한다.
+     */
+    public void accumulateDay(LocalDate dailyDate, long transaction, long deposit, long withdrawal,
+                              long dailyProfitLoss, double dailyProfitLossRate, double cumulativeProfitLossRate,
+                              double referencePrice) {
+        lastDailyDate = dailyDate;
+        tradingDays++;
+
+        transactionSum += transaction;
+        depositSum += deposit;
+        withdrawalSum += withdrawal;
+        profitLossSum += dailyProfitLoss;
+
+        if (dailyProfitLoss > 0) {
+            totalProfit += dailyProfitLoss;
+            profitableDays++;
+        } else if (dailyProfitLoss < 0) {
+            totalLoss += dailyProfitLoss;
+            lossDays++;
+        }
+
+        // 최대값은 양수만, 최소값은 음수만 대상 (없으면 0)
+        maxDailyProfit = Math.max(maxDailyProfit, dailyProfitLoss);
+        maxDailyLoss = Math.min(maxDailyLoss, dailyProfitLoss);
+        maxCumulativeProfitLoss = Math.max(maxCumulativeProfitLoss, profitLossSum);
+
+        if (dailyProfitLossRate > maxDailyProfitRate) {
+            maxDailyProfitRate = dailyProfitLossRate;
+        }
+        if (dailyProfitLossRate < maxDailyLossRate) {
+            maxDailyLossRate = dailyProfitLossRate;
+        }
+        if (cumulativeProfitLossRate > maxCumulativeProfitLossRate) {
+            maxCumulativeProfitLossRate = cumulativeProfitLossRate;
+        }
+        if (referencePrice > maxReferencePrice) {
+            maxReferencePrice = referencePrice;
+        }
+
+        profitLossVariance.add(dailyProfitLoss);
+        kpRatioState.add(cumulativeProfitLossRate);
+    }
+
+    /**
+     * 하루치 자본인하를 반영.
+     */
+    public void accumulateDrawdown(long currentDrawdown, double currentDrawdownRate) {
+        maxDrawdown = Math.min(maxDrawdown, currentDrawdown);
+        if (currentDrawdownRate < maxDrawdownRate) {
+            maxDrawdownRate = currentDrawdownRate;
+        }
+    }
+
+    /**
+     * 일간 손익의 모표준편차.
+     */
+    public double getProfitLossStandardDeviation() {
+        return profitLossVariance.getPopulationStandardDeviation();
+    }
+
+    /**
+     * 반영된 일자까지의 KP Ratio.
+     */
+    public double getKpRatio() {
+        return kpRatioState.getKpRatio();
+    }
+
+    /**
+     * 누적 상태가 index 일자까지 정확히 반영된 상태인지 확인. 과거 데이터가 수정/삭제되어 재계산하는 경우 false. KP Ratio 상태가 저장되기
+     * 전의 누적 상태도 false 이다.
+     */
+    public boolean isAccumulatedUntil(DailyAnalysisSeries series, int index) {
+        return series.getDailyDate(index).equals(lastDailyDate)
+                && series.getTradingDays(index) == tradingDays
+                && kpRatioState.getCount() == tradingDays;
+    }
+
+    private void reset() {
+        lastDailyDate = null;
+        tradingDays = 0;
+        transactionSum = 0;
+        depositSum = 0;
+        withdrawalSum = 0;
+        profitLossSum = 0;
+        totalProfit = 0;
+        profitableDays = 0;
+        totalLoss = 0;
+        lossDays = 0;
+        maxDailyProfit = 0;
+        maxDailyProfitRate = 0.0;
+        maxDailyLoss = 0;
+        maxDailyLossRate = 0.0;
+        maxCumulativeProfitLoss = 0;
+        maxCumulativeProfitLossRate = 0.0;
+        maxReferencePrice = 0.0;
+        maxDrawdown = 0;
+        maxDrawdownRate = 0.0;
+        profitLossVariance = new RunningVariance();
+        kpRatioState = new RunningKpRatio();
+    }
+}
@@ -0,0 +1,54 @@
+package com.investmetic.domain.strategy.model.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.JoinColumn;
+import jakarta.persistence.ManyToOne;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 등록/수정되어 재계산을 기다리는 일간 분석 (전략, 일자당 한 건).
+ * <p>
+ * 재계산 시 같은 일자의 일간 분석 입출금, 일손익을 대체하거나 새 일자로 추가된 뒤 삭제된다. 다시 등록될 때마다 version 이 증가하며, 읽었을 때의
+ * version 과 같을 때만 삭제하므로 재계산 중에 들어온 수정은 다음 실행에서 반영된다. 재계산 시작 일자는 재계산 큐의 dirtyFromDate 로 관리한다.
+ */
+@Entity
+@Getter
+@Builder
+@Table(uniqueConstraints = @UniqueConstraint(columnNames = {"strategy_id", "daily_date"}))
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DailyAnalysisStaging {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "daily_analysis_staging_id")
+    private Long dailyAnalysisStagingId;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "strategy_id", nullable = false)
+    private Strategy strategy;
+
+    private LocalDate dailyDate; // 날짜
+
+    private Long transaction; // 입출금 거래
+
+    private Long dailyProfitLoss; // 일손익
+
+    @Builder.Default
+    private long version = 1; // 등록 횟수
+
+    private LocalDateTime stagedAt; // 마지막 등록 시각
+}
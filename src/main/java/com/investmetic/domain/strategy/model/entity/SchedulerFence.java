@@ -0,0 +1,24 @@
+package com.investmetic.domain.strategy.model.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 스케줄러별 마지막 리더의 fencing token.
+ * <p>
+ * 새 리더가 리더 임대를 얻으면 더 큰 token 으로 갱신하고, 리더는 재계산 트랜잭션마다 이 token 이 자신의 token 과 같은지 확인한다. 임대가 만료된
+ * 이전 리더가 늦게 커밋하는 것을 DB 에서 막기 위해 사용한다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class SchedulerFence {
+
+    @Id
+    private String schedulerName;
+
+    private long token; // 마지막 리더의 fencing token
+}
@@ -14,11 +14,13 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToOne;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
+import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -31,6 +33,12 @@ import org.hibernate.annotations.ColumnDefault;
 @Builder(toBuilder = true)
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(indexes = {
+        // 검색 목록(승인, 공개) 알고리즘 정렬을 인덱스 순서로 LIMIT 조회
+        @Index(name = "idx_strategy_visible_efficient_score", columnList = "is_approved, is_public, efficient_score"),
+        @Index(name = "idx_strategy_visible_attack_score", columnList = "is_approved, is_public, attack_score"),
+        @Index(name = "idx_strategy_visible_defensive_score", columnList = "is_approved, is_public, defensive_score")
+})
 public class Strategy extends BaseEntity {
 
     @Id
@@ -83,6 +91,13 @@ public class Strategy extends BaseEntity {
     @Builder.Default
     private Double smScore = 0.0;
 
+    // 알고리즘별 정렬 점수 (AlgorithmType.calculateScore), 전략 분석 Job 에서 통계/순위 갱신 후 계산
+    private Double efficientScore; // 효율형 전략 점수
+
+    private Double attackScore; // 공격형 전략 점수
+
+    private Double defensiveScore; // 방어형 전략 점수
+
     @ColumnDefault("0.0")
     @Builder.Default
     private Double averageRating = 0.0; // 평균별점
@@ -0,0 +1,30 @@
+package com.investmetic.domain.strategy.model.entity;
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 일간 분석이 등록/수정/삭제되어 재계산이 필요한 전략 (전략당 한 건).
+ * <p>
+ * 일간 분석 변경과 같은 트랜잭션에서 upsert 되며, 다시 등록될 때마다 재계산 시작 일자는 더 이른 일자로 갱신되고 version 이 증가한다. 재계산이
+ * 끝나면 읽었을 때의 version 과 같을 때만 삭제하므로 재계산 중에 들어온 변경은 다음 실행에서 다시 계산된다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class StrategyRecalculationQueue {
+
+    @Id
+    private Long strategyId;
+
+    private LocalDate dirtyFromDate; // 재계산 시작 일자
+
+    private long version; // 등록 횟수
+
+    private LocalDateTime enqueuedAt; // 마지막 등록 시각
+}
@@ -6,6 +6,7 @@ import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import java.time.LocalDate;
+import java.util.Objects;
 import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
@@ -143,6 +144,15 @@ public class StrategyStatistics extends BaseTimeEntity {
         this.winRateRank = winRateRank;
     }
 
+    /**
+     * 순위 계산에 쓰이는 값(MDD, 수익률 표준편차, 승률)이 같은지 여부
+     */
+    public boolean hasSameRankValues(StrategyStatistics other) {
+        return Objects.equals(maxDrawdownRate, other.getMaxDrawdownRate())
+                && Objects.equals(dailyProfitLossStdDev, other.getDailyProfitLossStdDev())
+                && Objects.equals(winRate, other.getWinRate());
+    }
+
     public void updateExistingStatistics(StrategyStatistics updated) {
         this.operationPeriod = updated.getOperationPeriod();
         this.cumulativeTransactionAmount = updated.getCumulativeTransactionAmount();
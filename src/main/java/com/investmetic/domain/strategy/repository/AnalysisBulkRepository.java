@@ -0,0 +1,215 @@
+package com.investmetic.domain.strategy.repository;
+
+import com.investmetic.domain.strategy.model.entity.DailyAnalysis;
+import com.investmetic.domain.strategy.model.entity.DailyAnalysisStaging;
+import com.investmetic.domain.strategy.model.entity.MonthlyAnalysis;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.Collection;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 일간/월간 분석(및 전략 점수)을 JDBC batch 로 저장하는 저장소.
+ * <p>
+ * IDENTITY 전략 엔티티는 Hibernate insert batching 이 되지 않으므로 재계산 결과처럼 한 번에 많은 행을 저장할 때 사용한다. batchSize 단위로
+ * INSERT ... ON DUPLICATE KEY UPDATE 를 묶어서 전송하며, 영속성 컨텍스트를 거치지 않으므로 같은 트랜잭션에서 이미 조회한 엔티티에는 반영되지 않는다.
+ * (MySQL 드라이버의 rewriteBatchedStatements=true 설정 시 batch 가 하나의 multi-row INSERT 로 전송된다.)
+ */
+@Repository
+@RequiredArgsConstructor
+public class AnalysisBulkRepository {
+
+    private static final List<String> DAILY_ANALYSIS_COLUMNS = List.of(
+            "daily_analysis_id", "strategy_id", "daily_date", "`transaction`", "daily_profit_loss", "trading_days",
+            "principal", "balance", "valuation_profit_loss", "kp_ratio", "sm_score", "reference_price",
+            "cumulative_transaction_amount", "deposit", "cumulative_deposit", "withdrawal", "cumulative_withdrawal",
+            "daily_profit_loss_rate", "max_daily_profit", "max_daily_profit_rate", "max_daily_loss",
+            "max_daily_loss_rate", "total_profit", "profitable_days", "average_profit", "total_loss", "loss_days",
+            "average_loss", "cumulative_profit_loss", "cumulative_profit_loss_rate", "max_cumulative_profit_loss",
+            "max_cumulative_profit_loss_rate", "average_profit_loss", "average_profit_loss_ratio", "peak",
+            "peak_ratio", "days_since_peak", "current_drawdown", "current_drawdown_rate", "draw_down_period",
+            "max_drawdown", "max_drawdown_rate", "win_rate", "profit_factor", "roa", "coefficient_of_variation",
+            "sharp_ratio", "max_draw_down_in_rate", "proceed");
+
+    private static final List<String> MONTHLY_ANALYSIS_COLUMNS = List.of(
+            "monthly_analysis_id", "strategy_id", "monthly_date", "monthly_average_principal",
+            "deposits_withdrawals", "monthly_profit_loss", "monthly_profit_loss_rate", "cumulative_profit_loss",
+            "cumulative_profit_loss_rate");
+
+    // 일간 분석은 PK 기준, 월간 분석은 (strategy_id, monthly_date) 유니크 키 기준으로 upsert
+    private static final String UPSERT_DAILY_ANALYSIS_SQL = upsertSql("daily_analysis", DAILY_ANALYSIS_COLUMNS, 2);
+
+    private static final String UPSERT_MONTHLY_ANALYSIS_SQL = upsertSql("monthly_analysis", MONTHLY_ANALYSIS_COLUMNS, 3);
+
+    // (strategy_id, daily_date) 유니크 키 기준으로 upsert, 다시 등록되면 version 증가
+    private static final String STAGE_DAILY_ANALYSIS_SQL = """
+            INSERT INTO daily_analysis_staging
+                (strategy_id, daily_date, `transaction`, daily_profit_loss, version, staged_at)
+            VALUES (?, ?, ?, ?, 1, NOW(6))
+            ON DUPLICATE KEY UPDATE
+                `transaction` = VALUES(`transaction`),
+                daily_profit_loss = VALUES(daily_profit_loss),
+                version = version + 1,
+                staged_at = NOW(6)
+            """;
+
+    private static final String UNSTAGE_DAILY_ANALYSIS_SQL =
+            "DELETE FROM daily_analysis_staging WHERE daily_analysis_staging_id = ? AND version = ?";
+
+    private static final String UPDATE_STRATEGY_SCORES_SQL =
+            "UPDATE strategy SET kp_ratio = ?, sm_score = ?, updated_at = NOW(6) WHERE strategy_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${analysis.bulk.batch-size:500}")
+    private int batchSize;
+
+    /**
+     * 일간 분석 upsert. dailyAnalysisId 가 없는 행은 새로 추가된다.
+     */
+    public void upsertDailyAnalyses(Collection<DailyAnalysis> dailyAnalyses) {
+        if (dailyAnalyses.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(UPSERT_DAILY_ANALYSIS_SQL, dailyAnalyses, batchSize,
+                (ps, dailyAnalysis) -> setParameters(ps,
+                        dailyAnalysis.getDailyAnalysisId(),
+                        dailyAnalysis.getStrategy().getStrategyId(),
+                        dailyAnalysis.getDailyDate(),
+                        dailyAnalysis.getTransaction(),
+                        dailyAnalysis.getDailyProfitLoss(),
+                        dailyAnalysis.getTradingDays(),
+                        dailyAnalysis.getPrincipal(),
+                        dailyAnalysis.getBalance(),
+                        dailyAnalysis.getValuationProfitLoss(),
+                        dailyAnalysis.getKpRatio(),
+                        dailyAnalysis.getSmScore(),
+                        dailyAnalysis.getReferencePrice(),
+                        dailyAnalysis.getCumulativeTransactionAmount(),
+                        dailyAnalysis.getDeposit(),
+                        dailyAnalysis.getCumulativeDeposit(),
+                        dailyAnalysis.getWithdrawal(),
+                        dailyAnalysis.getCumulativeWithdrawal(),
+                        dailyAnalysis.getDailyProfitLossRate(),
+                        dailyAnalysis.getMaxDailyProfit(),
+                        dailyAnalysis.getMaxDailyProfitRate(),
+                        dailyAnalysis.getMaxDailyLoss(),
+                        dailyAnalysis.getMaxDailyLossRate(),
+                        dailyAnalysis.getTotalProfit(),
+                        dailyAnalysis.getProfitableDays(),
+                        dailyAnalysis.getAverageProfit(),
+                        dailyAnalysis.getTotalLoss(),
+                        dailyAnalysis.getLossDays(),
+                        dailyAnalysis.getAverageLoss(),
+                        dailyAnalysis.getCumulativeProfitLoss(),
+                        dailyAnalysis.getCumulativeProfitLossRate(),
+                        dailyAnalysis.getMaxCumulativeProfitLoss(),
+                        dailyAnalysis.getMaxCumulativeProfitLossRate(),
+                        dailyAnalysis.getAverageProfitLoss(),
+                        dailyAnalysis.getAverageProfitLossRatio(),
+                        dailyAnalysis.getPeak(),
+                        dailyAnalysis.getPeakRatio(),
+                        dailyAnalysis.getDaysSincePeak(),
+                        dailyAnalysis.getCurrentDrawdown(),
+                        dailyAnalysis.getCurrentDrawdownRate(),
+                        dailyAnalysis.getDrawDownPeriod(),
+                        dailyAnalysis.getMaxDrawdown(),
+                        dailyAnalysis.getMaxDrawdownRate(),
+                        dailyAnalysis.getWinRate(),
+                        dailyAnalysis.getProfitFactor(),
+                        dailyAnalysis.getRoa(),
+                        dailyAnalysis.getCoefficientOfVariation(),
+                        dailyAnalysis.getSharpRatio(),
+                        dailyAnalysis.getMaxDrawDownInRate(),
+                        dailyAnalysis.getProceed().name()));
+    }
+
+    /**
+     * 월간 분석 upsert. 같은 전략, 같은 월의 월간 분석이 있으면 값을 갱신한다.
+     */
+    public void upsertMonthlyAnalyses(Collection<MonthlyAnalysis> monthlyAnalyses) {
+        if (monthlyAnalyses.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(UPSERT_MONTHLY_ANALYSIS_SQL, monthlyAnalyses, batchSize,
+                (ps, monthlyAnalysis) -> setParameters(ps,
+                        monthlyAnalysis.getMonthlyAnalysisId(),
+                        monthlyAnalysis.getStrategy().getStrategyId(),
+                        monthlyAnalysis.getMonthlyDate(),
+                        monthlyAnalysis.getMonthlyAveragePrincipal(),
+                        monthlyAnalysis.getDepositsWithdrawals(),
+                        monthlyAnalysis.getMonthlyProfitLoss(),
+                        monthlyAnalysis.getMonthlyProfitLossRate(),
+                        monthlyAnalysis.getCumulativeProfitLoss(),
+                        monthlyAnalysis.getCumulativeProfitLossRate()));
+    }
+
+    /**
+     * 재계산을 기다리는 일간 분석 upsert. 같은 전략, 같은 일자가 이미 있으면 입출금, 일손익을 갱신하고 version 을 올린다.
+     */
+    public void stageDailyAnalyses(Collection<DailyAnalysisStaging> stagedAnalyses) {
+        if (stagedAnalyses.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(STAGE_DAILY_ANALYSIS_SQL, stagedAnalyses, batchSize,
+                (ps, stagedAnalysis) -> setParameters(ps,
+                        stagedAnalysis.getStrategy().getStrategyId(),
+                        stagedAnalysis.getDailyDate(),
+                        stagedAnalysis.getTransaction(),
+                        stagedAnalysis.getDailyProfitLoss()));
+    }
+
+    /**
+     * 재계산에 반영된 스테이징 삭제. 읽은 뒤 다시 등록되어 version 이 바뀐 행은 남겨 다음 재계산에 반영한다.
+     */
+    public void unstageDailyAnalyses(Collection<DailyAnalysisStaging> stagedAnalyses) {
+        if (stagedAnalyses.isEmpty()) {
+            return;
+        }
+        jdbcTemplate.batchUpdate(UNSTAGE_DAILY_ANALYSIS_SQL, stagedAnalyses, batchSize,
+                (ps, stagedAnalysis) -> setParameters(ps,
+                        stagedAnalysis.getDailyAnalysisStagingId(),
+                        stagedAnalysis.getVersion()));
+    }
+
+    /**
+     * 전략의 KP Ratio, SM Score 갱신. 앞의 count 개만 반영한다.
+     */
+    public void updateStrategyScores(long[] strategyIds, double[] kpRatios, double[] smScores, int count) {
+        if (count == 0) {
+            return;
+        }
+        List<Integer> indexes = IntStream.range(0, count).boxed().toList();
+        jdbcTemplate.batchUpdate(UPDATE_STRATEGY_SCORES_SQL, indexes, batchSize,
+                (ps, i) -> setParameters(ps, kpRatios[i], smScores[i], strategyIds[i]));
+    }
+
+    private static void setParameters(PreparedStatement ps, Object... values) throws SQLException {
+        for (int i = 0; i < values.length; i++) {
+            ps.setObject(i + 1, values[i]);
+        }
+    }
+
+    /**
+     * 앞의 keyColumnCount 개 컬럼(키)은 갱신하지 않는 upsert 쿼리 생성. created_at, updated_at 은 DB 시간으로 기록한다.
+     */
+    private static String upsertSql(String table, List<String> columns, int keyColumnCount) {
+        String placeholders = columns.stream()
+                .map(column -> "?")
+                .collect(Collectors.joining(", "));
+        String updates = columns.stream()
+                .skip(keyColumnCount)
+                .map(column -> column + " = VALUES(" + column + ")")
+                .collect(Collectors.joining(", "));
+
+        return "INSERT INTO " + table + " (" + String.join(", ", columns) + ", created_at, updated_at) "
+                + "VALUES (" + placeholders + ", NOW(6), NOW(6)) "
+                + "ON DUPLICATE KEY UPDATE " + updates + ", updated_at = NOW(6)";
+    }
+}
@@ -0,0 +1,58 @@
+package com.investmetic.domain.strategy.repository;
+
+import com.investmetic.domain.strategy.model.entity.AnalysisRollup;
+import com.investmetic.domain.strategy.model.entity.Strategy;
+import java.time.LocalDate;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface AnalysisRollupRepository extends JpaRepository<AnalysisRollup, Long>, AnalysisRollupRepositoryCustom {
+
+    /**
+     * fromDate(기간 시작 일자) 이후 기간의 집계 삭제. 일간 분석이 모두 삭제된 기간의 집계도 함께 지워진다.
+     */
+    @Modifying
+    @Query(value = """
+                DELETE FROM analysis_rollup
+                WHERE strategy_id = :strategyId AND resolution = :resolution AND period_date >= :fromDate
+            """, nativeQuery = true)
+    int deleteFromPeriod(@Param("strategyId") Long strategyId, @Param("resolution") String resolution,
+                         @Param("fromDate") LocalDate fromDate);
+
+    /**
+     * fromDate(기간 시작 일자) 이후 일간 분석을 기간별로 집계하여 저장. 기간 마지막 거래일의 일간 분석에 기간 합계/평균을 합친다.
+     */
+    @Modifying
+    @Query(value = """
+                INSERT INTO analysis_rollup (strategy_id, resolution, period_date, balance, principal,
+                    cumulative_transaction_amount, `transaction`, daily_profit_loss, daily_profit_loss_rate,
+                    cumulative_profit_loss, cumulative_profit_loss_rate, current_drawdown, current_drawdown_rate,
+                    average_profit_loss, average_profit_loss_ratio, win_rate, profit_factor, roa, total_profit,
+                    total_loss, created_at, updated_at)
+                SELECT d.strategy_id, :resolution, d.daily_date, d.balance, d.principal,
+                    d.cumulative_transaction_amount, period.transaction_sum, period.profit_loss_sum,
+                    period.profit_loss_rate, d.cumulative_profit_loss, d.cumulative_profit_loss_rate,
+                    d.current_drawdown, d.current_drawdown_rate, d.average_profit_loss, d.average_profit_loss_ratio,
+                    d.win_rate, d.profit_factor, d.roa, d.total_profit, d.total_loss, NOW(6), NOW(6)
+                FROM (
+                    SELECT MAX(daily_date) AS period_date, SUM(`transaction`) AS transaction_sum,
+                        SUM(daily_profit_loss) AS profit_loss_sum, AVG(daily_profit_loss_rate) AS profit_loss_rate
+                    FROM daily_analysis
+                    WHERE strategy_id = :strategyId AND daily_date >= :fromDate
+                    GROUP BY CASE :resolution
+                        WHEN 'WEEK' THEN YEARWEEK(daily_date, 3)
+                        WHEN 'MONTH' THEN EXTRACT(YEAR_MONTH FROM daily_date)
+                        ELSE YEAR(daily_date)
+                    END
+                ) period
+                JOIN daily_analysis d ON d.strategy_id = :strategyId AND d.daily_date = period.period_date
+            """, nativeQuery = true)
+    int insertFromPeriod(@Param("strategyId") Long strategyId, @Param("resolution") String resolution,
+                         @Param("fromDate") LocalDate fromDate);
+
+    boolean existsByStrategyStrategyId(Long strategyId);
+
+    void deleteAllByStrategy(Strategy strategy);
+}
@@ -0,0 +1,19 @@
+package com.investmetic.domain.strategy.repository;
+
+import com.investmetic.domain.strategy.dto.AnalysisDataDto;
+import com.investmetic.domain.strategy.dto.response.StrategyAnalysisResponse;
+import com.investmetic.domain.strategy.model.AnalysisOption;
+import com.investmetic.domain.strategy.model.RollupResolution;
+import java.util.List;
+import java.util.Map;
+
+public interface AnalysisRollupRepositoryCustom {
+
+    List<AnalysisDataDto> findSingleOptionAnalysisData(Long strategyId, RollupResolution resolution,
+                                                       AnalysisOption option);
+
+    StrategyAnalysisResponse findStrategyAnalysisData(Long strategyId, RollupResolution resolution,
+                                                      AnalysisOption option1, AnalysisOption option2);
+
+    Map<RollupResolution, Long> countByResolution(Long strategyId);
+}
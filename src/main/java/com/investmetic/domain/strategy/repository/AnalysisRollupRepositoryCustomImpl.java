@@ -0,0 +1,110 @@
+package com.investmetic.domain.strategy.repository;
+
+import static com.investmetic.domain.strategy.model.entity.QAnalysisRollup.analysisRollup;
+
+import com.investmetic.domain.strategy.dto.AnalysisDataDto;
+import com.investmetic.domain.strategy.dto.response.StrategyAnalysisResponse;
+import com.investmetic.domain.strategy.model.AnalysisOption;
+import com.investmetic.domain.strategy.model.RollupResolution;
+import com.investmetic.global.exception.BusinessException;
+import com.investmetic.global.exception.ErrorCode;
+import com.querydsl.core.Tuple;
+import com.querydsl.core.types.Projections;
+import com.querydsl.core.types.dsl.NumberExpression;
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+
+@RequiredArgsConstructor
+public class AnalysisRollupRepositoryCustomImpl implements AnalysisRollupRepositoryCustom {
+
+    private final JPAQueryFactory queryFactory;
+
+    @Override
+    public List<AnalysisDataDto> findSingleOptionAnalysisData(Long strategyId, RollupResolution resolution,
+                                                              AnalysisOption option) {
+        return queryFactory
+                .select(Projections.constructor(AnalysisDataDto.class,
+                        analysisRollup.periodDate.stringValue(), // 기간 마지막 거래일
+                        findByOption(option)))                   // 옵션에 따른 Y축 데이터
+                .from(analysisRollup)
+                .where(analysisRollup.strategy.strategyId.eq(strategyId),
+                        analysisRollup.resolution.eq(resolution))
+                .orderBy(analysisRollup.periodDate.asc())
+                .fetch();
+    }
+
+    @Override
+    public StrategyAnalysisResponse findStrategyAnalysisData(Long strategyId, RollupResolution resolution,
+                                                             AnalysisOption option1, AnalysisOption option2) {
+        List<Tuple> results = queryFactory
+                .select(
+                        analysisRollup.periodDate.stringValue(),
+                        findByOption(option1),
+                        findByOption(option2))
+                .from(analysisRollup)
+                .where(analysisRollup.strategy.strategyId.eq(strategyId),
+                        analysisRollup.resolution.eq(resolution))
+                .orderBy(analysisRollup.periodDate.asc())
+                .fetch();
+
+        List<String> dates = new ArrayList<>();
+        List<Double> firstYAxis = new ArrayList<>();
+        List<Double> secondYAxis = new ArrayList<>();
+
+        for (Tuple result : results) {
+            dates.add(result.get(0, String.class));
+            firstYAxis.add(result.get(1, Double.class));
+            secondYAxis.add(result.get(2, Double.class));
+        }
+
+        return StrategyAnalysisResponse.builder()
+                .dates(dates)
+                .data(Map.of(
+                        option1.name(), firstYAxis,
+                        option2.name(), secondYAxis))
+                .build();
+    }
+
+    @Override
+    public Map<RollupResolution, Long> countByResolution(Long strategyId) {
+        List<Tuple> results = queryFactory
+                .select(analysisRollup.resolution, analysisRollup.count())
+                .from(analysisRollup)
+                .where(analysisRollup.strategy.strategyId.eq(strategyId))
+                .groupBy(analysisRollup.resolution)
+                .fetch();
+
+        Map<RollupResolution, Long> counts = new EnumMap<>(RollupResolution.class);
+        for (Tuple result : results) {
+            counts.put(result.get(analysisRollup.resolution), result.get(analysisRollup.count()));
+        }
+        return counts;
+    }
+
+    private NumberExpression<Double> findByOption(AnalysisOption option) {
+        return switch (option) {
+            case BALANCE -> analysisRollup.balance.doubleValue();
+            case PRINCIPAL -> analysisRollup.principal.doubleValue();
+            case CUMULATIVE_TRANSACTION_AMOUNT -> analysisRollup.cumulativeTransactionAmount.doubleValue();
+            case TRANSACTION -> analysisRollup.transaction.doubleValue();
+            case DAILY_PROFIT_LOSS -> analysisRollup.dailyProfitLoss.doubleValue();
+            case DAILY_PROFIT_LOSS_RATE -> analysisRollup.dailyProfitLossRate;
+            case CUMULATIVE_PROFIT_LOSS -> analysisRollup.cumulativeProfitLoss.doubleValue();
+            case CUMULATIVE_PROFIT_LOSS_RATE -> analysisRollup.cumulativeProfitLossRate;
+            case CURRENT_DRAWDOWN -> analysisRollup.currentDrawdown.doubleValue();
+            case CURRENT_DRAWDOWN_RATE -> analysisRollup.currentDrawdownRate;
+            case AVERAGE_PROFIT_LOSS -> analysisRollup.averageProfitLoss.doubleValue();
+            case AVERAGE_PROFIT_LOSS_RATIO -> analysisRollup.averageProfitLossRatio;
+            case WIN_RATE -> analysisRollup.winRate;
+            case PROFIT_FACTOR -> analysisRollup.profitFactor;
+            case ROA -> analysisRollup.roa;
+            case TOTAL_PROFIT -> analysisRollup.totalProfit.doubleValue();
+            case TOTAL_LOSS -> analysisRollup.totalLoss.doubleValue();
+            default -> throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        };
+    }
+}
@@ -0,0 +1,7 @@
+package com.investmetic.domain.strategy.repository;
+
+import com.investmetic.domain.strategy.model.entity.DailyAnalysisAccumulator;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface DailyAnalysisAccumulatorRepository extends JpaRepository<DailyAnalysisAccumulator, Long> {
+}
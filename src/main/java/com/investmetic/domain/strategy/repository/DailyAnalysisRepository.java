@@ -4,38 +4,28 @@ import com.investmetic.domain.strategy.model.entity.DailyAnalysis;
 import com.investmetic.domain.strategy.model.entity.Strategy;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 public interface DailyAnalysisRepository extends JpaRepository<DailyAnalysis, Long>, DailyAnalysisRepositoryCustom {
     List<DailyAnalysis> findByStrategy(Strategy strategyId);
 
-    @Query("SELECT d FROM DailyAnalysis d WHERE d.strategy = :strategy AND d.dailyDate > :targetDate ORDER BY d.dailyDate ASC LIMIT 1")
-    Optional<DailyAnalysis> findByAfterDate(@Param("strategy") Strategy strategy,
-                                            @Param("targetDate") LocalDate targetDate);
-
     Optional<DailyAnalysis> findByDailyAnalysisId(Long dailyAnalysisId);
 
     @Query("SELECT d FROM DailyAnalysis d WHERE d.strategy.strategyId = :strategyId ORDER BY d.dailyDate ASC")
     List<DailyAnalysis> findByStrategyId(Long strategyId);
 
-    @Query("SELECT d FROM DailyAnalysis d WHERE d.strategy = :strategy AND d.dailyDate = :dailyDate AND d.proceed = 'NO'")
-    Optional<DailyAnalysis> findByStrategyAndDailyDateAndProceedIsFalse(
-            @Param("strategy") Strategy strategy,
-            @Param("dailyDate") LocalDate dailyDate);
-
-    @Query("SELECT d FROM DailyAnalysis d WHERE d.strategy = :strategy AND d.dailyDate = :dailyDate AND d.proceed = 'YES'")
-    Optional<DailyAnalysis> findByStrategyAndDailyDateAndProceedIsTrue(
-            @Param("strategy") Strategy strategy,
-            @Param("dailyDate") LocalDate dailyDate);
+    long countByStrategyStrategyId(Long strategyId);
 
-    @Query("SELECT d FROM DailyAnalysis d WHERE d.strategy = :strategy AND d.dailyDate = :dailyDate " +
-            "ORDER BY CASE WHEN d.proceed = 'NO' THEN 1 ELSE 2 END LIMIT 1")
-    Optional<DailyAnalysis> findDailyAnalysisByStrategyAndDate(@Param("strategy") Strategy strategy,
-                                                               @Param("dailyDate") LocalDate dailyDate);
+    // 등록하려는 일자 중 이미 일간 분석이 있는 일자
+    @Query("SELECT d.dailyDate FROM DailyAnalysis d WHERE d.strategy = :strategy AND d.dailyDate IN :dailyDates")
+    List<LocalDate> findDailyDatesByStrategyAndDailyDateIn(@Param("strategy") Strategy strategy,
+                                                          @Param("dailyDates") Collection<LocalDate> dailyDates);
 
     // 특정 전략의 해당 날짜의 이전 데이터들 가져오기
     @Query("SELECT d FROM DailyAnalysis d WHERE d.strategy.strategyId = :strategyId AND d.dailyDate <= :startDate ORDER BY d.dailyDate ASC")
@@ -63,20 +53,10 @@ public interface DailyAnalysisRepository extends JpaRepository<DailyAnalysis, Lo
     @Query("SELECT d FROM DailyAnalysis d WHERE d.strategy.strategyId = :strategyId ORDER BY d.dailyDate ASC")
     List<DailyAnalysis> findAllByStrategy(@Param("strategyId") Long strategyId);
 
-    @Query("SELECT d FROM DailyAnalysis d WHERE d.proceed = 'NO'")
-    List<DailyAnalysis> findAllByProceedIsFalse();
-
-    @Query("""
-            SELECT d FROM DailyAnalysis d
-                WHERE d.proceed = 'NO'
-                  AND d.dailyDate = (
-                      SELECT MIN(d2.dailyDate) FROM DailyAnalysis d2
-                      WHERE d2.strategy.strategyId = d.strategy.strategyId
-                        AND d2.proceed = 'NO'
-                  )
-                ORDER BY d.dailyDate ASC
-            """)
-    List<DailyAnalysis> findEligibleDailyAnalysis();
+    // 스테이징 도입 전에 등록/수정되어 재계산되지 않은 일간 분석 삭제 (스테이징으로 이동한 뒤 실행)
+    @Modifying
+    @Query("DELETE FROM DailyAnalysis d WHERE d.proceed = 'NO'")
+    int deleteLegacyPendingDailyAnalyses();
 
     // 특정 개수 데이터 조회
     @Query("SELECT d FROM DailyAnalysis d WHERE d.strategy.strategyId = :strategyId AND d.dailyDate < :currentDate ORDER BY d.dailyDate DESC LIMIT :limitCount")
@@ -8,16 +8,13 @@ import com.investmetic.domain.strategy.dto.response.QDailyAnalysisResponse;
 import com.investmetic.domain.strategy.dto.response.StrategyAnalysisResponse;
 import com.investmetic.domain.strategy.model.AnalysisOption;
 import com.investmetic.domain.strategy.model.entity.Proceed;
-import com.investmetic.domain.strategy.model.entity.QDailyAnalysis;
 import com.investmetic.global.exception.BusinessException;
 import com.investmetic.global.exception.ErrorCode;
 import com.querydsl.core.Tuple;
 import com.querydsl.core.types.Projections;
-import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.Expressions;
 import com.querydsl.core.types.dsl.NumberExpression;
 import com.querydsl.core.types.dsl.Wildcard;
-import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import java.util.ArrayList;
@@ -122,7 +119,7 @@ public class DailyAnalysisRepositoryCustomImpl implements DailyAnalysisRepositor
                         dailyAnalysis.cumulativeProfitLoss,
                         dailyAnalysis.cumulativeProfitLossRate))
                 .from(dailyAnalysis)
-                .where(dailyAnalysis.strategy.strategyId.eq(strategyId),dailyAnalysis.proceed.eq(Proceed.YES))
+                .where(dailyAnalysis.strategy.strategyId.eq(strategyId), dailyAnalysis.proceed.eq(Proceed.YES))
                 .fetch();
     }
 
@@ -139,8 +136,7 @@ public class DailyAnalysisRepositoryCustomImpl implements DailyAnalysisRepositor
                         dailyAnalysis.cumulativeProfitLoss,
                         dailyAnalysis.cumulativeProfitLossRate))
                 .from(dailyAnalysis)
-                .where(dailyAnalysis.strategy.strategyId.eq(strategyId),
-                        isLatestDailyAnalysis(dailyAnalysis, strategyId))
+                .where(dailyAnalysis.strategy.strategyId.eq(strategyId), dailyAnalysis.proceed.eq(Proceed.YES))
                 .orderBy(dailyAnalysis.dailyDate.desc())
                 .offset(pageable.getOffset())
                 .limit(pageable.getPageSize())
@@ -150,23 +146,11 @@ public class DailyAnalysisRepositoryCustomImpl implements DailyAnalysisRepositor
         JPAQuery<Long> countQuery = queryFactory
                 .select(Wildcard.count)
                 .from(dailyAnalysis)
-                .where(dailyAnalysis.strategy.strategyId.eq(strategyId));
+                .where(dailyAnalysis.strategy.strategyId.eq(strategyId), dailyAnalysis.proceed.eq(Proceed.YES));
 
         return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
     }
 
-    private BooleanExpression isLatestDailyAnalysis(QDailyAnalysis d1, Long strategyId) {
-
-        QDailyAnalysis d2 = new QDailyAnalysis("d2");
-
-        return d1.proceed.eq(
-                JPAExpressions.select(d2.proceed.min())
-                        .from(d2)
-                        .where(d2.strategy.strategyId.eq(strategyId)
-                                .and(d2.dailyDate.eq(d1.dailyDate)))
-        );
-    }
-
     public NumberExpression<Double> findByOption(AnalysisOption option) {
         switch (option) {
             case BALANCE -> {
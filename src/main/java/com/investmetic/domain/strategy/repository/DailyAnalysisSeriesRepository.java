@@ -0,0 +1,52 @@
+package com.investmetic.domain.strategy.repository;
+
+import com.investmetic.domain.strategy.model.DailyAnalysisSeries;
+import com.investmetic.domain.strategy.model.entity.Strategy;
+import java.time.LocalDate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 재계산에 필요한 일간 분석 컬럼만 조회하여 DailyAnalysisSeries 로 읽는 저장소.
+ * <p>
+ * 행마다 엔티티를 만들지 않고 ResultSet 에서 바로 배열에 채우며, 영속성 컨텍스트를 거치지 않으므로 같은 트랜잭션에서 JDBC 로 저장한 값도
+ * 조회된다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class DailyAnalysisSeriesRepository {
+
+    // 스테이징 도입 전에 등록되어 아직 스테이징으로 옮기지 않은(proceed = NO) 일간 분석은 같은 일자에 두 행이 있을 수 있으므로 제외
+    private static final String COUNT_SQL =
+            "SELECT COUNT(*) FROM daily_analysis WHERE strategy_id = ? AND proceed = 'YES'";
+
+    private static final String SELECT_SERIES_SQL = """
+            SELECT daily_analysis_id, daily_date, `transaction`, daily_profit_loss, trading_days, principal, balance,
+                   deposit, withdrawal, daily_profit_loss_rate, cumulative_profit_loss, cumulative_profit_loss_rate,
+                   reference_price, peak, days_since_peak, current_drawdown, current_drawdown_rate, draw_down_period,
+                   max_draw_down_in_rate
+            FROM daily_analysis
+            WHERE strategy_id = ? AND proceed = 'YES'
+            ORDER BY daily_date
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 전략의 전체 일간 분석 (날짜 오름차순). 마지막 일자의 전체 값(lastDailyAnalysis)은 조회하지 않는다.
+     */
+    public DailyAnalysisSeries findByStrategy(Strategy strategy) {
+        Integer count = jdbcTemplate.queryForObject(COUNT_SQL, Integer.class, strategy.getStrategyId());
+        DailyAnalysisSeries series = new DailyAnalysisSeries(strategy, count != null ? count : 0);
+
+        jdbcTemplate.query(SELECT_SERIES_SQL, rs -> {
+            int index = series.addDay(rs.getLong(1), rs.getObject(2, LocalDate.class), rs.getLong(3), rs.getLong(4));
+            series.setCalculatedDay(index, rs.getInt(5), rs.getLong(6), rs.getLong(7), rs.getLong(8),
+                    rs.getLong(9), rs.getDouble(10), rs.getLong(11), rs.getDouble(12), rs.getDouble(13),
+                    rs.getLong(14), rs.getLong(15), rs.getLong(16), rs.getDouble(17), rs.getLong(18),
+                    rs.getDouble(19));
+        }, strategy.getStrategyId());
+        return series;
+    }
+}
@@ -0,0 +1,46 @@
+package com.investmetic.domain.strategy.repository;
+
+import com.investmetic.domain.strategy.model.entity.DailyAnalysisStaging;
+import com.investmetic.domain.strategy.model.entity.Strategy;
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface DailyAnalysisStagingRepository extends JpaRepository<DailyAnalysisStaging, Long> {
+
+    @Query("SELECT s FROM DailyAnalysisStaging s WHERE s.strategy.strategyId = :strategyId ORDER BY s.dailyDate ASC")
+    List<DailyAnalysisStaging> findByStrategyId(@Param("strategyId") Long strategyId);
+
+    // 등록하려는 일자 중 재계산을 기다리는 일자
+    @Query("SELECT s.dailyDate FROM DailyAnalysisStaging s WHERE s.strategy = :strategy AND s.dailyDate IN :dailyDates")
+    List<LocalDate> findDailyDatesByStrategyAndDailyDateIn(@Param("strategy") Strategy strategy,
+                                                          @Param("dailyDates") Collection<LocalDate> dailyDates);
+
+    boolean existsByStrategyAndDailyDate(Strategy strategy, LocalDate dailyDate);
+
+    @Modifying
+    @Query("DELETE FROM DailyAnalysisStaging s WHERE s.strategy = :strategy AND s.dailyDate = :dailyDate")
+    void deleteByStrategyAndDailyDate(@Param("strategy") Strategy strategy, @Param("dailyDate") LocalDate dailyDate);
+
+    @Modifying
+    @Query("DELETE FROM DailyAnalysisStaging s WHERE s.strategy = :strategy")
+    void deleteAllByStrategy(@Param("strategy") Strategy strategy);
+
+    /**
+     * 스테이징 도입 전에 proceed = NO 로 등록된 일간 분석을 스테이징으로 이동. 같은 일자가 이미 있으면 스테이징 값을 유지한다.
+     */
+    @Modifying
+    @Query(value = """
+                INSERT INTO daily_analysis_staging
+                    (strategy_id, daily_date, `transaction`, daily_profit_loss, version, staged_at)
+                SELECT d.strategy_id, d.daily_date, d.`transaction`, d.daily_profit_loss, 1, NOW(6)
+                FROM daily_analysis d
+                WHERE d.proceed = 'NO'
+                ON DUPLICATE KEY UPDATE version = daily_analysis_staging.version
+            """, nativeQuery = true)
+    int stageLegacyPendingDailyAnalyses();
+}
@@ -4,7 +4,6 @@ import com.investmetic.domain.strategy.model.entity.MonthlyAnalysis;
 import com.investmetic.domain.strategy.model.entity.Strategy;
 import java.time.LocalDate;
 import java.util.List;
-import java.util.Optional;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -17,7 +16,11 @@ public interface MonthlyAnalysisRepository extends JpaRepository<MonthlyAnalysis
 
     List<MonthlyAnalysis> findByStrategyStrategyId(Long strategyId);
 
-    Optional<MonthlyAnalysis> findByStrategyAndMonthlyDate(Strategy strategy, LocalDate monthlyDate);
+    // 재집계할 월(fromMonthlyDate) 이후 저장된 월간 분석
+    @Query("SELECT m FROM MonthlyAnalysis m WHERE m.strategy.strategyId = :strategyId "
+            + "AND m.monthlyDate >= :fromMonthlyDate")
+    List<MonthlyAnalysis> findByStrategyIdFromMonthlyDate(@Param("strategyId") Long strategyId,
+                                                          @Param("fromMonthlyDate") LocalDate fromMonthlyDate);
 
     void deleteAllByStrategy(Strategy strategy);
 }
@@ -0,0 +1,29 @@
+package com.investmetic.domain.strategy.repository;
+
+import com.investmetic.domain.strategy.model.entity.SchedulerFence;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface SchedulerFenceRepository extends JpaRepository<SchedulerFence, String> {
+
+    /**
+     * fencing token 갱신. 더 작은 token 으로는 갱신되지 않는다. 이전 리더의 진행 중인 트랜잭션(공유 잠금)이 끝날 때까지 대기한다.
+     */
+    @Modifying
+    @Query(value = """
+                INSERT INTO scheduler_fence (scheduler_name, token)
+                VALUES (:schedulerName, :token)
+                ON DUPLICATE KEY UPDATE token = GREATEST(token, VALUES(token))
+            """, nativeQuery = true)
+    void advance(@Param("schedulerName") String schedulerName, @Param("token") long token);
+
+    /**
+     * 현재 fencing token 을 공유 잠금으로 조회. 트랜잭션이 끝날 때까지 새 리더가 token 을 갱신하지 못한다.
+     */
+    @Query(value = "SELECT token FROM scheduler_fence WHERE scheduler_name = :schedulerName FOR SHARE",
+            nativeQuery = true)
+    Optional<Long> findTokenForShare(@Param("schedulerName") String schedulerName);
+}
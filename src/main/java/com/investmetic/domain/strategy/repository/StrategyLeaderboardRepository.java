@@ -0,0 +1,135 @@
+package com.investmetic.domain.strategy.repository;
+
+import com.investmetic.domain.strategy.model.AlgorithmType;
+import com.investmetic.domain.strategy.model.IsApproved;
+import com.investmetic.domain.strategy.model.IsPublic;
+import com.investmetic.domain.strategy.model.entity.Strategy;
+import com.investmetic.domain.strategy.model.entity.StrategyStatistics;
+import com.investmetic.global.util.AfterCommitUtil;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ZSetOperations.TypedTuple;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 알고리즘별 전략 순위표 (Redis sorted set, member = 전략 id, score = AlgorithmType.calculateScore).
+ * <p>
+ * 검색 목록과 같이 승인, 공개된 전략을 모두 담으며(통계가 없는 전략은 가장 뒤) 전략 분석 Job 이 끝날 때마다 다시 만든다. 그 사이 승인/공개
+ * 상태가 바뀐 전략은 updateStrategy 로 반영한다. Redis 는 DB 와 함께 롤백되지 않으므로 모든 변경은 트랜잭션 커밋 후에 반영한다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class StrategyLeaderboardRepository {
+
+    private static final String KEY_PREFIX = "STRATEGY_LEADERBOARD:";
+    private static final String TEMP_KEY_SUFFIX = ":TEMP";
+
+    // 값이 없는 전략은 DB 정렬(DESC 에서 NULL 이 마지막)과 같이 가장 뒤에 둔다
+    private static final double NULL_SCORE = -Double.MAX_VALUE;
+
+    private final StringRedisTemplate redisTemplate;
+
+    /**
+     * 전략 id -> 통계(없으면 null)로 모든 순위표를 다시 만든다. 임시 키에 채운 뒤 RENAME 하므로 조회 중에 순위표가 비지 않는다. 점수는 바로
+     * 계산하고 Redis 반영은 트랜잭션 커밋 후에 한다.
+     * <p>
+     * RENAME 은 순위표 전체를 통계를 조회한 시점의 값으로 덮어쓰므로, 조회 이후 RENAME 전에 커밋된 updateStrategy/remove 변경은 사라지고
+     * 다음 전략 분석 Job 에서 다시 반영된다.
+     */
+    public void rebuild(Map<Long, StrategyStatistics> statisticsByStrategyId) {
+        Map<AlgorithmType, Set<TypedTuple<String>>> membersByAlgorithmType = new EnumMap<>(AlgorithmType.class);
+        for (AlgorithmType algorithmType : AlgorithmType.values()) {
+            Set<TypedTuple<String>> members = new HashSet<>(statisticsByStrategyId.size() * 2);
+            statisticsByStrategyId.forEach((strategyId, statistics) ->
+                    members.add(TypedTuple.of(strategyId.toString(), score(algorithmType, statistics))));
+            membersByAlgorithmType.put(algorithmType, members);
+        }
+
+        AfterCommitUtil.run(() -> membersByAlgorithmType.forEach((algorithmType, members) -> {
+            String key = key(algorithmType);
+            if (members.isEmpty()) {
+                redisTemplate.delete(key);
+                return;
+            }
+
+            String tempKey = key + TEMP_KEY_SUFFIX;
+            redisTemplate.delete(tempKey);
+            redisTemplate.opsForZSet().add(tempKey, members);
+            redisTemplate.rename(tempKey, key);
+        }));
+    }
+
+    /**
+     * 승인/공개 상태가 바뀐 전략 반영 (트랜잭션 커밋 후). 아직 만들어지지 않은 순위표에는 추가하지 않는다.
+     */
+    public void updateStrategy(Strategy strategy) {
+        boolean visible = strategy.getIsApproved() == IsApproved.APPROVED && strategy.getIsPublic() == IsPublic.PUBLIC;
+        if (!visible) {
+            remove(strategy.getStrategyId());
+            return;
+        }
+
+        // 엔티티는 커밋 전에 읽어 점수를 계산
+        String member = strategy.getStrategyId().toString();
+        StrategyStatistics statistics = strategy.getStrategyStatistics();
+        Map<AlgorithmType, Double> scores = new EnumMap<>(AlgorithmType.class);
+        for (AlgorithmType algorithmType : AlgorithmType.values()) {
+            scores.put(algorithmType, score(algorithmType, statistics));
+        }
+
+        AfterCommitUtil.run(() -> scores.forEach((algorithmType, score) -> {
+            String key = key(algorithmType);
+            if (Boolean.TRUE.equals(redisTemplate.hasKey(key))) {
+                redisTemplate.opsForZSet().add(key, member, score);
+            }
+        }));
+    }
+
+    // 트랜잭션 커밋 후 모든 순위표에서 제거
+    public void remove(Long strategyId) {
+        AfterCommitUtil.run(() -> {
+            for (AlgorithmType algorithmType : AlgorithmType.values()) {
+                redisTemplate.opsForZSet().remove(key(algorithmType), strategyId.toString());
+            }
+        });
+    }
+
+    /**
+     * 점수 내림차순 offset 부터 size 개의 전략 id
+     */
+    public List<Long> findStrategyIds(AlgorithmType algorithmType, long offset, int size) {
+        Set<String> members = redisTemplate.opsForZSet()
+                .reverseRange(key(algorithmType), offset, offset + size - 1);
+
+        List<Long> strategyIds = new ArrayList<>();
+        if (members != null) {
+            for (String member : members) {
+                strategyIds.add(Long.valueOf(member));
+            }
+        }
+        return strategyIds;
+    }
+
+    /**
+     * 순위표의 전략 수. 순위표가 없으면 0
+     */
+    public long count(AlgorithmType algorithmType) {
+        Long count = redisTemplate.opsForZSet().zCard(key(algorithmType));
+        return count != null ? count : 0L;
+    }
+
+    private double score(AlgorithmType algorithmType, StrategyStatistics statistics) {
+        Double score = statistics != null ? algorithmType.calculateScore(statistics) : null;
+        return score != null && !score.isNaN() && !score.isInfinite() ? score : NULL_SCORE;
+    }
+
+    private String key(AlgorithmType algorithmType) {
+        return KEY_PREFIX + algorithmType.name();
+    }
+}
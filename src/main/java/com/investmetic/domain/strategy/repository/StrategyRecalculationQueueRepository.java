@@ -0,0 +1,52 @@
+package com.investmetic.domain.strategy.repository;
+
+import com.investmetic.domain.strategy.model.entity.StrategyRecalculationQueue;
+import java.time.LocalDate;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface StrategyRecalculationQueueRepository extends JpaRepository<StrategyRecalculationQueue, Long> {
+
+    /**
+     * 재계산 대상 전략 등록. 이미 등록된 전략이면 재계산 시작 일자를 더 이른 일자로 갱신.
+     */
+    @Modifying
+    @Query(value = """
+                INSERT INTO strategy_recalculation_queue (strategy_id, dirty_from_date, version, enqueued_at)
+                VALUES (:strategyId, :dirtyFromDate, 1, NOW(6))
+                ON DUPLICATE KEY UPDATE
+                    dirty_from_date = LEAST(dirty_from_date, VALUES(dirty_from_date)),
+                    version = version + 1,
+                    enqueued_at = NOW(6)
+            """, nativeQuery = true)
+    void enqueue(@Param("strategyId") Long strategyId, @Param("dirtyFromDate") LocalDate dirtyFromDate);
+
+    /**
+     * 재계산을 기다리는 스테이징이 있는 전략을 모두 등록. 큐 도입 전에 등록된 일간 분석을 위해 애플리케이션 시작 시 한 번 실행한다.
+     */
+    @Modifying
+    @Query(value = """
+                INSERT INTO strategy_recalculation_queue (strategy_id, dirty_from_date, version, enqueued_at)
+                SELECT pending.strategy_id, pending.dirty_from_date, 1, NOW(6)
+                FROM (
+                    SELECT strategy_id, MIN(daily_date) AS dirty_from_date
+                    FROM daily_analysis_staging
+                    GROUP BY strategy_id
+                ) pending
+                ON DUPLICATE KEY UPDATE
+                    dirty_from_date = LEAST(strategy_recalculation_queue.dirty_from_date, pending.dirty_from_date),
+                    version = version + 1,
+                    enqueued_at = NOW(6)
+            """, nativeQuery = true)
+    int enqueuePendingDailyAnalyses();
+
+    /**
+     * 재계산이 끝난 전략 삭제. 재계산 중에 다시 등록되어 version 이 바뀌었으면 삭제하지 않는다.
+     */
+    @Modifying
+    @Query(value = "DELETE FROM strategy_recalculation_queue WHERE strategy_id = :strategyId AND version = :version",
+            nativeQuery = true)
+    int dequeue(@Param("strategyId") Long strategyId, @Param("version") long version);
+}
@@ -3,6 +3,7 @@ package com.investmetic.domain.strategy.repository;
 import com.investmetic.domain.strategy.model.entity.Strategy;
 import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
@@ -28,4 +29,48 @@ public interface StrategyRepository extends JpaRepository<Strategy, Long>, Strat
             """,
             nativeQuery = true)
     List<Object[]> findTop20ProfitRatesByStrategyIds(@Param("strategyIds") List<Long> strategyIds);
+
+    /**
+     * SM Score 계산용 (전략 id, 최신 일간 분석의 KP Ratio(없으면 0), 현재 KP Ratio, 현재 SM Score). 엔티티를 읽지 않는다.
+     */
+    @Query(value = """
+            SELECT s.strategy_id,
+                COALESCE((SELECT d.kp_ratio FROM daily_analysis d
+                          WHERE d.strategy_id = s.strategy_id
+                          ORDER BY d.daily_date DESC LIMIT 1), 0.0) AS latest_kp_ratio,
+                s.kp_ratio,
+                s.sm_score
+            FROM strategy s
+            """,
+            nativeQuery = true)
+    List<Object[]> findSmScoreSources();
+
+    /**
+     * 통계, 순위로 알고리즘별 정렬 점수(AlgorithmType.calculateScore 와 같은 식)를 계산하여 바뀐 전략만 갱신. 통계가 없거나 0으로 나누면
+     * null 이다.
+     *
+     * @return 점수가 바뀐 전략 수
+     */
+    @Modifying
+    @Query(value = """
+            UPDATE strategy s
+            JOIN (
+                SELECT
+                    str.strategy_id,
+                    st.cumulative_profit_rate / NULLIF(st.max_drawdown_rate, 0) AS efficientScore,
+                    st.cumulative_profit_rate / NULLIF(ABS(st.win_rate * 0.01 - 1), 0) AS attackScore,
+                    (st.mdd_rank + st.std_dev_rank + st.win_rate_rank) / 3.0 AS defensiveScore
+                FROM strategy str
+                LEFT JOIN strategy_statistics st ON st.strategy_statistics_id = str.strategy_statistics_id
+            ) scored
+            ON s.strategy_id = scored.strategy_id
+            SET s.efficient_score = scored.efficientScore,
+                s.attack_score = scored.attackScore,
+                s.defensive_score = scored.defensiveScore
+            WHERE NOT (s.efficient_score <=> scored.efficientScore
+                AND s.attack_score <=> scored.attackScore
+                AND s.defensive_score <=> scored.defensiveScore)
+            """,
+            nativeQuery = true)
+    int updateAlgorithmScores();
 }
@@ -9,6 +9,7 @@ import com.investmetic.domain.strategy.dto.response.TopRankingStrategyResponseDt
 import com.investmetic.domain.strategy.dto.response.common.MyStrategySimpleResponse;
 import com.investmetic.domain.strategy.dto.response.common.StrategySimpleResponse;
 import com.investmetic.domain.strategy.model.IsApproved;
+import com.investmetic.domain.strategy.model.entity.StrategyStatistics;
 import com.querydsl.core.types.OrderSpecifier;
 import java.util.List;
 import java.util.Map;
@@ -26,6 +27,10 @@ public interface StrategyRepositoryCustom {
 
     Page<StrategySimpleResponse> searchBy(SearchRequest searchRequest, Pageable pageable);
 
+    List<StrategySimpleResponse> findSimpleResponsesByIds(List<Long> strategyIds);
+
+    Map<Long, StrategyStatistics> findLeaderboardStatistics();
+
     Page<MyStrategySimpleResponse> findMyStrategies(Long userId, Pageable pageable);
 
     Page<StrategySimpleResponse> findSubscribedStrategies(Long userId, Pageable pageable);
@@ -31,6 +31,7 @@ import com.investmetic.domain.strategy.model.IsApproved;
 import com.investmetic.domain.strategy.model.IsPublic;
 import com.investmetic.domain.strategy.model.OperationCycle;
 import com.investmetic.domain.strategy.model.ProfitRange;
+import com.investmetic.domain.strategy.model.entity.StrategyStatistics;
 import com.querydsl.core.BooleanBuilder;
 import com.querydsl.core.Tuple;
 import com.querydsl.core.types.OrderSpecifier;
@@ -42,6 +43,7 @@ import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.stream.Collectors;
@@ -199,6 +201,54 @@ public class StrategyRepositoryCustomImpl implements StrategyRepositoryCustom {
         return PageableExecutionUtils.getPage(content, pageable, countQuery::fetchOne);
     }
 
+    /**
+     * 알고리즘 순위표에서 조회한 전략 id 의 목록 카드 조회. 순위표 갱신 후 비공개/미승인된 전략은 제외된다. (순서는 보장하지 않음)
+     */
+    @Override
+    public List<StrategySimpleResponse> findSimpleResponsesByIds(List<Long> strategyIds) {
+        return queryFactory
+                .select(new QStrategySimpleResponse(
+                        strategy.strategyId,
+                        strategy.strategyName,
+                        user.imageUrl,
+                        user.nickname,
+                        tradeType.tradeTypeIconUrl,
+                        tradeType.tradeTypeName,
+                        strategyStatistics.maxDrawdown,
+                        strategy.smScore,
+                        strategyStatistics.cumulativeProfitRate,
+                        strategyStatistics.recentYearProfitRate,
+                        strategy.subscriptionCount,
+                        strategy.averageRating,
+                        strategy.reviewCount
+                ))
+                .from(strategy)
+                .leftJoin(strategy.strategyStatistics, strategyStatistics)
+                .join(strategy.tradeType, tradeType)
+                .join(strategy.user, user)
+                .where(isApprovedAndPublic(), strategy.strategyId.in(strategyIds))
+                .fetch();
+    }
+
+    /**
+     * 알고리즘 순위표를 만들 승인, 공개된 전략의 통계 (전략 id -> 통계, 통계가 없으면 null)
+     */
+    @Override
+    public Map<Long, StrategyStatistics> findLeaderboardStatistics() {
+        List<Tuple> results = queryFactory
+                .select(strategy.strategyId, strategyStatistics)
+                .from(strategy)
+                .leftJoin(strategy.strategyStatistics, strategyStatistics)
+                .where(isApprovedAndPublic())
+                .fetch();
+
+        Map<Long, StrategyStatistics> statisticsByStrategyId = new LinkedHashMap<>();
+        for (Tuple result : results) {
+            statisticsByStrategyId.put(result.get(strategy.strategyId), result.get(strategyStatistics));
+        }
+        return statisticsByStrategyId;
+    }
+
     /**
      * 나의 전략목록 조회(트레이더), 최신순 정렬
      *
@@ -290,7 +340,7 @@ public class StrategyRepositoryCustomImpl implements StrategyRepositoryCustom {
 
     // ENUM에서 알고리즘 공식 처리 (전략 패턴)
     private OrderSpecifier<?> getOrderByAlgorithm(AlgorithmType algorithmType) {
-        return algorithmType != null ? algorithmType.getOrderSpecifier(strategyStatistics)
+        return algorithmType != null ? algorithmType.getOrderSpecifier(strategy)
                 : strategyStatistics.cumulativeProfitRate.desc();
     }
 
@@ -0,0 +1,79 @@
+package com.investmetic.domain.strategy.repository;
+
+import com.investmetic.domain.strategy.dto.request.SearchRequest;
+import com.investmetic.global.util.AfterCommitUtil;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+/**
+ * 전략 검색 결과 페이지 캐시 (Redis, 값 = "전체 개수|전략 id,전략 id,...").
+ * <p>
+ * 카드 데이터와 구독 여부는 조회할 때마다 다시 채우므로 검색 조건, 페이지별 전략 id 순서와 전체 개수만 보관한다. 키에 캐시 버전을 포함하여
+ * invalidate 로 버전을 올리면 이전 버전의 캐시는 더 이상 조회되지 않고 TTL 이 지나면 삭제된다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class StrategySearchCacheRepository {
+
+    private static final String KEY_PREFIX = "STRATEGY_SEARCH:";
+    private static final String VERSION_KEY = "STRATEGY_SEARCH_VERSION";
+
+    private final StringRedisTemplate redisTemplate;
+
+    @Value("${strategy.search.cache-ttl-seconds:60}")
+    private long ttlSeconds;
+
+    /**
+     * 현재 캐시 버전의 검색 결과 캐시 키. 조회 중에 무효화되면 무효화 전 결과가 새 버전으로 저장되지 않도록 조회와 저장에 같은 키를 사용한다.
+     */
+    public String key(SearchRequest request, Pageable pageable) {
+        String version = redisTemplate.opsForValue().get(VERSION_KEY);
+        return KEY_PREFIX + (version != null ? version : "0") + ":" + pageable.getPageNumber() + ":"
+                + pageable.getPageSize() + ":" + request.toCacheKey();
+    }
+
+    /**
+     * 캐시된 검색 결과 페이지의 전략 id (검색 순서)와 전체 개수
+     */
+    public Optional<Page<Long>> find(String key, Pageable pageable) {
+        String value = redisTemplate.opsForValue().get(key);
+        if (value == null) {
+            return Optional.empty();
+        }
+
+        int separator = value.indexOf('|');
+        long total = Long.parseLong(value.substring(0, separator));
+        List<Long> strategyIds = new ArrayList<>();
+        if (separator + 1 < value.length()) {
+            for (String strategyId : value.substring(separator + 1).split(",")) {
+                strategyIds.add(Long.valueOf(strategyId));
+            }
+        }
+        return Optional.of(new PageImpl<>(strategyIds, pageable, total));
+    }
+
+    public void save(String key, List<Long> strategyIds, long total) {
+        String value = total + "|" + strategyIds.stream()
+                .map(String::valueOf)
+                .collect(Collectors.joining(","));
+        redisTemplate.opsForValue().set(key, value, Duration.ofSeconds(ttlSeconds));
+    }
+
+    /**
+     * 전략 분석 Job 이나 승인/공개 상태 변경 후 모든 검색 결과 캐시 무효화. 트랜잭션 안에서 호출하면 커밋 후에 버전을 올려 커밋 전 검색 결과가
+     * 새 버전으로 저장되지 않게 한다.
+     */
+    public void invalidate() {
+        AfterCommitUtil.run(() -> redisTemplate.opsForValue().increment(VERSION_KEY));
+    }
+}
@@ -1,9 +1,11 @@
 package com.investmetic.domain.strategy.repository;
 
 import com.investmetic.domain.strategy.model.entity.StrategyStatistics;
+import java.time.LocalDate;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface StrategyStatisticsRepository extends JpaRepository<StrategyStatistics, Long> {
 
@@ -29,4 +31,59 @@ public interface StrategyStatisticsRepository extends JpaRepository<StrategyStat
                     s.win_rate_rank = ranked.winRateRank
             """, nativeQuery = true)
     void updateRanks();
+
+    /**
+     * updateRanks 와 같은 순위를 계산하되 순위가 바뀐 행만 갱신.
+     *
+     * @return 순위가 바뀐 행 수
+     */
+    @Modifying
+    @Query(value = """
+                UPDATE strategy_statistics s
+                JOIN (
+                    SELECT
+                        strategy_statistics_id,
+                        RANK() OVER (ORDER BY max_drawdown_rate ASC) AS mddRank,
+                        RANK() OVER (ORDER BY daily_profit_loss_std_dev ASC) AS stdDevRank,
+                        RANK() OVER (ORDER BY win_rate DESC) AS winRateRank
+                    FROM strategy_statistics
+                ) ranked
+                ON s.strategy_statistics_id = ranked.strategy_statistics_id
+                SET s.mdd_rank = ranked.mddRank,
+                    s.std_dev_rank = ranked.stdDevRank,
+                    s.win_rate_rank = ranked.winRateRank
+                WHERE NOT (s.mdd_rank <=> ranked.mddRank
+                    AND s.std_dev_rank <=> ranked.stdDevRank
+                    AND s.win_rate_rank <=> ranked.winRateRank)
+            """, nativeQuery = true)
+    int updateChangedRanks();
+
+    /**
+     * 모든 전략의 최근 1년 수익률을 fromDate 기준으로 다시 계산하여 바뀐 행만 갱신. 기간 끝 잔고는 통계에 저장된 마지막 일자 잔고를 사용하고,
+     * 기간 시작 잔고는 전략별로 (strategy_id, daily_date) 인덱스에서 fromDate 이후 첫 일간 분석 한 건만 읽는다. fromDate 이후 일간 분석이
+     * 없으면 0 이다.
+     *
+     * @return 최근 1년 수익률이 바뀐 행 수
+     */
+    @Modifying
+    @Query(value = """
+                UPDATE strategy_statistics s
+                JOIN (
+                    SELECT
+                        st.strategy_statistics_id,
+                        COALESCE((
+                            SELECT (st.balance - d.balance) / CAST(d.balance AS DOUBLE) * 100
+                            FROM daily_analysis d
+                            WHERE d.strategy_id = str.strategy_id AND d.daily_date >= :fromDate
+                            ORDER BY d.daily_date ASC
+                            LIMIT 1
+                        ), 0.0) AS recentYearProfitRate
+                    FROM strategy str
+                    JOIN strategy_statistics st ON st.strategy_statistics_id = str.strategy_statistics_id
+                ) recent
+                ON s.strategy_statistics_id = recent.strategy_statistics_id
+                SET s.recent_year_profit_rate = recent.recentYearProfitRate
+                WHERE NOT (s.recent_year_profit_rate <=> recent.recentYearProfitRate)
+            """, nativeQuery = true)
+    int updateRecentYearProfitRates(@Param("fromDate") LocalDate fromDate);
 }
@@ -3,7 +3,9 @@ package com.investmetic.domain.strategy.service;
 import com.investmetic.domain.strategy.dto.response.AdminStrategyResponseDto;
 import com.investmetic.domain.strategy.model.IsApproved;
 import com.investmetic.domain.strategy.model.entity.Strategy;
+import com.investmetic.domain.strategy.repository.StrategyLeaderboardRepository;
 import com.investmetic.domain.strategy.repository.StrategyRepository;
+import com.investmetic.domain.strategy.repository.StrategySearchCacheRepository;
 import com.investmetic.global.common.PageResponseDto;
 import com.investmetic.global.exception.BusinessException;
 import com.investmetic.global.exception.ErrorCode;
@@ -19,6 +21,8 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class AdminStrategyService {
     private final StrategyRepository strategyRepository;
+    private final StrategyLeaderboardRepository strategyLeaderboardRepository;
+    private final StrategySearchCacheRepository strategySearchCacheRepository;
 
     @Transactional
     public void manageAproveState(Long strategyId, IsApproved isApproved) {
@@ -26,6 +30,10 @@ public class AdminStrategyService {
                 .orElseThrow(() -> new BusinessException(ErrorCode.STRATEGY_NOT_FOUND));
         // Fixme : 권한 체크 로직 추가 예정
         strategy.setIsApproved(isApproved);
+
+        // 알고리즘 순위표에 승인 상태 반영
+        strategyLeaderboardRepository.updateStrategy(strategy);
+        strategySearchCacheRepository.invalidate();
     }
 
     @Transactional
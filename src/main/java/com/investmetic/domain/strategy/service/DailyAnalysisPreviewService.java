@@ -0,0 +1,101 @@
+package com.investmetic.domain.strategy.service;
+
+import com.investmetic.domain.strategy.dto.request.TraderDailyAnalysisRequestDto;
+import com.investmetic.domain.strategy.dto.response.DailyAnalysisPreviewResponse;
+import com.investmetic.domain.strategy.dto.response.DailyAnalysisPreviewResponse.PreviewStatistics;
+import com.investmetic.domain.strategy.model.DailyAnalysisSeries;
+import com.investmetic.domain.strategy.model.entity.DailyAnalysisStaging;
+import com.investmetic.domain.strategy.model.entity.Strategy;
+import com.investmetic.domain.strategy.model.entity.StrategyStatistics;
+import com.investmetic.domain.strategy.repository.StrategyRepository;
+import com.investmetic.global.exception.BusinessException;
+import com.investmetic.global.exception.ErrorCode;
+import com.investmetic.global.scheduler.DailyAnalysisScheduler;
+import com.investmetic.global.scheduler.StrategyCalculatorScheduler;
+import com.investmetic.global.scheduler.StrategyStatisticsScheduler;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * 일간 분석 수정 미리보기. 수정/추가할 일간 분석을 반영한 일간 분석, KP Ratio, 전략 통계를 메모리에서만 계산하고 DB 에는 저장하지 않는다.
+ */
+@Service
+@RequiredArgsConstructor
+public class DailyAnalysisPreviewService {
+    private final StrategyRepository strategyRepository;
+    private final DailyAnalysisScheduler dailyAnalysisScheduler;
+    private final StrategyCalculatorScheduler strategyCalculatorScheduler;
+    private final StrategyStatisticsScheduler strategyStatisticsScheduler;
+
+    @Transactional(readOnly = true)
+    public DailyAnalysisPreviewResponse previewDailyAnalysis(Long strategyId,
+                                                             List<TraderDailyAnalysisRequestDto> analysisRequests,
+                                                             Long userId) {
+        Strategy strategy = findStrategyById(strategyId);
+
+        verifyUserPermission(strategy, userId);
+
+        Set<LocalDate> dateSet = new HashSet<>();
+        List<DailyAnalysisStaging> edits = new ArrayList<>(analysisRequests.size());
+        LocalDate fromDate = null;
+        for (TraderDailyAnalysisRequestDto analysisRequest : analysisRequests) {
+            if (!dateSet.add(analysisRequest.getDate())) {
+                throw new BusinessException(ErrorCode.DUPLICATE_DATE_IN_REQUEST);
+            }
+            if (fromDate == null || analysisRequest.getDate().isBefore(fromDate)) {
+                fromDate = analysisRequest.getDate();
+            }
+            edits.add(DailyAnalysisStaging.builder()
+                    .strategy(strategy)
+                    .dailyDate(analysisRequest.getDate())
+                    .transaction(analysisRequest.getTransaction())
+                    .dailyProfitLoss(analysisRequest.getDailyProfitLoss())
+                    .build());
+        }
+
+        DailyAnalysisSeries dailyAnalyses = dailyAnalysisScheduler.previewDailyAnalyses(strategy, edits);
+
+        StrategyStatistics currentStatistics = strategy.getStrategyStatistics();
+        PreviewStatistics current = currentStatistics != null
+                ? PreviewStatistics.from(currentStatistics, strategy.getKpRatio())
+                : null;
+
+        if (dailyAnalyses.isEmpty()) {
+            return DailyAnalysisPreviewResponse.builder()
+                    .fromDate(fromDate)
+                    .current(current)
+                    .build();
+        }
+
+        // 수정보다 이른 재계산 대기 스테이징이 있으면 그 일자부터 다시 계산됨
+        LocalDate recalculatedFrom = dailyAnalyses.getRecalculatedFrom();
+        int recalculatedDays = recalculatedFrom == null
+                ? 0
+                : dailyAnalyses.size() - dailyAnalyses.indexOf(recalculatedFrom);
+
+        return DailyAnalysisPreviewResponse.builder()
+                .fromDate(fromDate)
+                .recalculatedDays(recalculatedDays)
+                .current(current)
+                .preview(PreviewStatistics.from(strategyStatisticsScheduler.createStrategyStatistics(dailyAnalyses),
+                        strategyCalculatorScheduler.calculateKpRatio(dailyAnalyses)))
+                .build();
+    }
+
+    private Strategy findStrategyById(Long strategyId) {
+        return strategyRepository.findById(strategyId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.STRATEGY_NOT_FOUND));
+    }
+
+    private void verifyUserPermission(Strategy strategy, Long userId) {
+        if (!strategy.getUser().getUserId().equals(userId)) {
+            throw new BusinessException(ErrorCode.FORBIDDEN_ACCESS);
+        }
+    }
+}
@@ -1,31 +1,51 @@
 package com.investmetic.domain.strategy.service;
 
 import com.investmetic.domain.strategy.dto.request.TraderDailyAnalysisRequestDto;
+import com.investmetic.domain.strategy.dto.response.DailyAnalysisImportResponse;
 import com.investmetic.domain.strategy.dto.response.DailyAnalysisResponse;
 import com.investmetic.domain.strategy.model.entity.DailyAnalysis;
-import com.investmetic.domain.strategy.model.entity.Proceed;
+import com.investmetic.domain.strategy.model.entity.DailyAnalysisStaging;
 import com.investmetic.domain.strategy.model.entity.Strategy;
+import com.investmetic.domain.strategy.repository.AnalysisBulkRepository;
+import com.investmetic.domain.strategy.repository.AnalysisRollupRepository;
+import com.investmetic.domain.strategy.repository.DailyAnalysisAccumulatorRepository;
 import com.investmetic.domain.strategy.repository.DailyAnalysisRepository;
+import com.investmetic.domain.strategy.repository.DailyAnalysisStagingRepository;
+import com.investmetic.domain.strategy.repository.StrategyRecalculationQueueRepository;
 import com.investmetic.domain.strategy.repository.StrategyRepository;
 import com.investmetic.global.common.PageResponseDto;
 import com.investmetic.global.exception.BusinessException;
 import com.investmetic.global.exception.ErrorCode;
+import com.investmetic.global.util.excelupload.DailyAnalysisUploadReader;
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashSet;
 import java.util.List;
-import java.util.Optional;
 import java.util.Set;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.multipart.MultipartFile;
 
 @Service
 @RequiredArgsConstructor
 public class StrategyAnalysisService {
     private final DailyAnalysisRepository dailyAnalysisRepository;
+    private final DailyAnalysisStagingRepository dailyAnalysisStagingRepository;
     private final StrategyRepository strategyRepository;
+    private final StrategyRecalculationQueueRepository strategyRecalculationQueueRepository;
+    private final AnalysisBulkRepository analysisBulkRepository;
+    private final AnalysisRollupRepository analysisRollupRepository;
+    private final DailyAnalysisAccumulatorRepository dailyAnalysisAccumulatorRepository;
+    private final DailyAnalysisUploadReader dailyAnalysisUploadReader;
+
+    @Value("${analysis.import.chunk-size:1000}")
+    private int importChunkSize;
 
     @Transactional
     public void createDailyAnalysis(Long strategyId, List<TraderDailyAnalysisRequestDto> analysisRequests,
@@ -41,25 +61,45 @@ public class StrategyAnalysisService {
 
         verifyUserPermission(strategy, userId);
 
-        for (TraderDailyAnalysisRequestDto analysisRequest : analysisRequests) {
-            Optional<DailyAnalysis> existsDailyData = dailyAnalysisRepository.findDailyAnalysisByStrategyAndDate(
-                    strategy,
-                    analysisRequest.getDate());
+        List<LocalDate> existingDates = findExistingDailyDates(strategy, dateSet);
+        if (!existingDates.isEmpty()) {
+            throw new BusinessException(ErrorCode.DAILY_ANALYSIS_ALREADY_EXISTS);
+        }
 
-            if (existsDailyData.isPresent()) {
-                throw new BusinessException(ErrorCode.DAILY_ANALYSIS_ALREADY_EXISTS);
-            }
+        analysisBulkRepository.stageDailyAnalyses(toStagedAnalyses(strategy, analysisRequests));
+
+        // 등록한 일자 중 가장 이른 일자부터 재계산
+        if (!dateSet.isEmpty()) {
+            strategyRecalculationQueueRepository.enqueue(strategyId, Collections.min(dateSet));
+        }
+    }
+
+    /**
+     * CSV, XLSX 파일의 일간 분석을 한 번에 등록. 파일을 chunk 단위로 읽어 chunk 마다 이미 등록된 일자를 IN 조건으로 확인하고
+     * 스테이징에 batch insert 한다. 중복 일자가 있으면 전체 등록을 취소한다.
+     */
+    @Transactional
+    public DailyAnalysisImportResponse importDailyAnalyses(Long strategyId, MultipartFile file, Long userId) {
+        Strategy strategy = findStrategyById(strategyId);
+
+        verifyUserPermission(strategy, userId);
 
-            DailyAnalysis dailyAnalysis = DailyAnalysis.builder()
-                    .strategy(strategy)
-                    .dailyDate(analysisRequest.getDate())
-                    .transaction(analysisRequest.getTransaction())
-                    .dailyProfitLoss(analysisRequest.getDailyProfitLoss())
-                    .proceed(Proceed.NO)
-                    .build();
+        Set<LocalDate> dateSet = new HashSet<>();
+        dailyAnalysisUploadReader.read(file, importChunkSize,
+                analysisRequests -> stagePendingDailyAnalyses(strategy, analysisRequests, dateSet));
 
-            dailyAnalysisRepository.save(dailyAnalysis);
+        if (dateSet.isEmpty()) {
+            return DailyAnalysisImportResponse.builder().build();
         }
+
+        // 등록한 일자 중 가장 이른 일자부터 재계산
+        LocalDate fromDate = Collections.min(dateSet);
+        strategyRecalculationQueueRepository.enqueue(strategyId, fromDate);
+
+        return DailyAnalysisImportResponse.builder()
+                .importedCount(dateSet.size())
+                .fromDate(fromDate)
+                .build();
     }
 
     @Transactional
@@ -68,24 +108,15 @@ public class StrategyAnalysisService {
 
         verifyUserPermission(strategy, userId);
 
-        DailyAnalysis existsDailyData = dailyAnalysisRepository.findDailyAnalysisByStrategyAndDate(
-                        strategy,
-                        analysisRequest.getDate())
-                .orElseThrow(() -> new BusinessException(ErrorCode.DAILY_ANALYSIS_NOT_FOUND));
-
-        if (existsDailyData.getProceed() == Proceed.YES) {
-            DailyAnalysis dailyAnalysis = DailyAnalysis.builder()
-                    .strategy(strategy)
-                    .dailyDate(analysisRequest.getDate())
-                    .transaction(analysisRequest.getTransaction())
-                    .dailyProfitLoss(analysisRequest.getDailyProfitLoss())
-                    .proceed(Proceed.NO)
-                    .build();
-
-            dailyAnalysisRepository.save(dailyAnalysis);
-        } else {
-            existsDailyData.modifyDailyAnalysis(analysisRequest.getTransaction(), analysisRequest.getDailyProfitLoss());
+        // 계산된 일간 분석이나 재계산을 기다리는 일간 분석이 있어야 수정 가능
+        if (!dailyAnalysisRepository.existsByStrategyAndDailyDate(strategy, analysisRequest.getDate())
+                && !dailyAnalysisStagingRepository.existsByStrategyAndDailyDate(strategy, analysisRequest.getDate())) {
+            throw new BusinessException(ErrorCode.DAILY_ANALYSIS_NOT_FOUND);
         }
+
+        analysisBulkRepository.stageDailyAnalyses(toStagedAnalyses(strategy, List.of(analysisRequest)));
+
+        strategyRecalculationQueueRepository.enqueue(strategyId, analysisRequest.getDate());
     }
 
     @Transactional
@@ -96,7 +127,12 @@ public class StrategyAnalysisService {
 
         strategy.resetStrategyDailyAnalysis();
 
+        dailyAnalysisStagingRepository.deleteAllByStrategy(strategy);
         dailyAnalysisRepository.deleteAllByStrategy(strategy);
+
+        // 다시 등록한 일간 분석이 이전보다 늦은 일자부터 시작해도 이전 기간의 집계, 누적 상태가 남지 않도록 함께 삭제
+        analysisRollupRepository.deleteAllByStrategy(strategy);
+        dailyAnalysisAccumulatorRepository.deleteById(strategy.getStrategyId());
     }
 
     @Transactional
@@ -108,11 +144,14 @@ public class StrategyAnalysisService {
         DailyAnalysis dailyAnalysis = dailyAnalysisRepository.findByDailyAnalysisId(analysisId)
                 .orElseThrow(() -> new BusinessException((ErrorCode.INVALID_TYPE_VALUE)));
 
+        // 같은 일자의 재계산을 기다리는 수정도 함께 삭제
         LocalDate dailyDate = dailyAnalysis.getDailyDate();
-        Optional<DailyAnalysis> nextDailyAnalysis = dailyAnalysisRepository.findByAfterDate(strategy, dailyDate);
-        nextDailyAnalysis.ifPresent(analysis -> analysis.setProceed(Proceed.NO));
+        dailyAnalysisStagingRepository.deleteByStrategyAndDailyDate(strategy, dailyDate);
 
         dailyAnalysisRepository.deleteByStrategyAndDailyAnalysisId(strategy, analysisId);
+
+        // 삭제한 일자 이후 일자부터 재계산
+        strategyRecalculationQueueRepository.enqueue(strategyId, dailyDate);
     }
 
     @Transactional(readOnly = true)
@@ -121,6 +160,50 @@ public class StrategyAnalysisService {
         return new PageResponseDto<>(myDailyAnalysis);
     }
 
+    private void stagePendingDailyAnalyses(Strategy strategy, List<TraderDailyAnalysisRequestDto> analysisRequests,
+                                           Set<LocalDate> dateSet) {
+        List<LocalDate> dates = new ArrayList<>(analysisRequests.size());
+        for (TraderDailyAnalysisRequestDto analysisRequest : analysisRequests) {
+            // 이전 chunk 를 포함한 파일 전체에서 중복 확인
+            if (!dateSet.add(analysisRequest.getDate())) {
+                throw new BusinessException(analysisRequest.getDate() + " : "
+                        + ErrorCode.DUPLICATE_DATE_IN_REQUEST.getMessage(), ErrorCode.DUPLICATE_DATE_IN_REQUEST);
+            }
+            dates.add(analysisRequest.getDate());
+        }
+
+        List<LocalDate> existingDates = findExistingDailyDates(strategy, dates);
+        if (!existingDates.isEmpty()) {
+            throw new BusinessException(existingDates.get(0) + " : "
+                    + ErrorCode.DAILY_ANALYSIS_ALREADY_EXISTS.getMessage(), ErrorCode.DAILY_ANALYSIS_ALREADY_EXISTS);
+        }
+
+        analysisBulkRepository.stageDailyAnalyses(toStagedAnalyses(strategy, analysisRequests));
+    }
+
+    // 계산된 일간 분석과 재계산을 기다리는 일간 분석 중 dates 에 해당하는 일자
+    private List<LocalDate> findExistingDailyDates(Strategy strategy, Collection<LocalDate> dates) {
+        if (dates.isEmpty()) {
+            return List.of();
+        }
+        List<LocalDate> existingDates = new ArrayList<>(
+                dailyAnalysisRepository.findDailyDatesByStrategyAndDailyDateIn(strategy, dates));
+        existingDates.addAll(dailyAnalysisStagingRepository.findDailyDatesByStrategyAndDailyDateIn(strategy, dates));
+        return existingDates;
+    }
+
+    private List<DailyAnalysisStaging> toStagedAnalyses(Strategy strategy,
+                                                        List<TraderDailyAnalysisRequestDto> analysisRequests) {
+        return analysisRequests.stream()
+                .map(analysisRequest -> DailyAnalysisStaging.builder()
+                        .strategy(strategy)
+                        .dailyDate(analysisRequest.getDate())
+                        .transaction(analysisRequest.getTransaction())
+                        .dailyProfitLoss(analysisRequest.getDailyProfitLoss())
+                        .build())
+                .toList();
+    }
+
     private Strategy findStrategyById(Long strategyId) {
         return strategyRepository.findById(strategyId)
                 .orElseThrow(() -> new BusinessException(ErrorCode.STRATEGY_NOT_FOUND));
@@ -10,8 +10,10 @@ import com.investmetic.domain.strategy.dto.response.StrategyAnalysisResponse;
 import com.investmetic.domain.strategy.dto.response.StrategyDetailResponse;
 import com.investmetic.domain.strategy.dto.response.statistic.StrategyStatisticsResponse;
 import com.investmetic.domain.strategy.model.AnalysisOption;
+import com.investmetic.domain.strategy.model.RollupResolution;
 import com.investmetic.domain.strategy.model.entity.Strategy;
 import com.investmetic.domain.strategy.model.entity.StrategyStatistics;
+import com.investmetic.domain.strategy.repository.AnalysisRollupRepository;
 import com.investmetic.domain.strategy.repository.DailyAnalysisRepository;
 import com.investmetic.domain.strategy.repository.MonthlyAnalysisRepository;
 import com.investmetic.domain.strategy.repository.StrategyRepository;
@@ -35,6 +37,7 @@ import org.springframework.transaction.annotation.Transactional;
 public class StrategyDetailService {
     private final DailyAnalysisRepository dailyAnalysisRepository;
     private final MonthlyAnalysisRepository monthlyAnalysisRepository;
+    private final AnalysisRollupRepository analysisRollupRepository;
     private final StrategyRepository strategyRepository;
     private final SubscriptionRepository subscriptionRepository;
     private final AccountVerificationRepository accountVerificationRepository;
@@ -104,12 +107,26 @@ public class StrategyDetailService {
      */
     public StrategyAnalysisResponse getStrategyAnalysis(Long strategyId, AnalysisOption option1,
                                                         AnalysisOption option2) {
+        return getStrategyAnalysis(strategyId, option1, option2, null);
+    }
+
+    /**
+     * 전략 분석 데이터 조회. maxPoints 가 주어지면 일간 분석 대신 maxPoints 개 이하인 가장 세밀한 집계 단위로 조회한다.
+     */
+    public StrategyAnalysisResponse getStrategyAnalysis(Long strategyId, AnalysisOption option1,
+                                                        AnalysisOption option2, Integer maxPoints) {
         validateOption(option1, option2);
+        validateMaxPoints(maxPoints);
         validateStrategyExists(strategyId);
 
+        RollupResolution resolution = selectResolution(strategyId, maxPoints);
+
         // 동일 옵션 처리
         if (option1.equals(option2)) {
-            return getSingleOptionAnalysis(strategyId, option1);
+            return getSingleOptionAnalysis(strategyId, resolution, option1);
+        }
+        if (resolution != null) {
+            return analysisRollupRepository.findStrategyAnalysisData(strategyId, resolution, option1, option2);
         }
         return dailyAnalysisRepository.findStrategyAnalysisData(strategyId, option1, option2);
 
@@ -121,8 +138,40 @@ public class StrategyDetailService {
         }
     }
 
-    private StrategyAnalysisResponse getSingleOptionAnalysis(Long strategyId, AnalysisOption option) {
-        List<AnalysisDataDto> data = dailyAnalysisRepository.findSingleOptionAnalysisData(strategyId, option);
+    private void validateMaxPoints(Integer maxPoints) {
+        if (maxPoints != null && maxPoints < 1) {
+            throw new BusinessException(ErrorCode.INVALID_INPUT_VALUE);
+        }
+    }
+
+    /**
+     * maxPoints 개 이하인 가장 세밀한 집계 단위. 일간 분석으로 충분하거나 집계가 아직 없으면 null (일간 분석 조회).
+     */
+    private RollupResolution selectResolution(Long strategyId, Integer maxPoints) {
+        if (maxPoints == null || dailyAnalysisRepository.countByStrategyStrategyId(strategyId) <= maxPoints) {
+            return null;
+        }
+
+        // 재계산 전이라 집계가 없는 전략은 일간 분석으로 조회
+        Map<RollupResolution, Long> counts = analysisRollupRepository.countByResolution(strategyId);
+        if (counts.isEmpty()) {
+            return null;
+        }
+
+        for (RollupResolution resolution : RollupResolution.values()) {
+            if (counts.getOrDefault(resolution, 0L) <= maxPoints) {
+                return resolution;
+            }
+        }
+        // 연간 집계도 maxPoints 보다 많으면 가장 큰 단위로 조회
+        return RollupResolution.YEAR;
+    }
+
+    private StrategyAnalysisResponse getSingleOptionAnalysis(Long strategyId, RollupResolution resolution,
+                                                             AnalysisOption option) {
+        List<AnalysisDataDto> data = resolution != null
+                ? analysisRollupRepository.findSingleOptionAnalysisData(strategyId, resolution, option)
+                : dailyAnalysisRepository.findSingleOptionAnalysisData(strategyId, option);
 
         List<String> dates = data.stream()
                 .map(AnalysisDataDto::getDate)
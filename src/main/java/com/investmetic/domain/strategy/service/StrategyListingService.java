@@ -13,16 +13,21 @@ import com.investmetic.domain.strategy.dto.response.common.StrategySimpleRespons
 import com.investmetic.domain.strategy.model.entity.StockType;
 import com.investmetic.domain.strategy.model.entity.TradeType;
 import com.investmetic.domain.strategy.repository.StockTypeRepository;
+import com.investmetic.domain.strategy.repository.StrategyLeaderboardRepository;
 import com.investmetic.domain.strategy.repository.StrategyRepository;
 import com.investmetic.domain.strategy.repository.StrategyRepositoryCustomImpl;
+import com.investmetic.domain.strategy.repository.StrategySearchCacheRepository;
 import com.investmetic.domain.strategy.repository.TradeTypeRepository;
 import com.investmetic.global.common.PageResponseDto;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -37,6 +42,8 @@ public class StrategyListingService {
     private final StockTypeRepository stockTypeRepository;
     private final TradeTypeRepository tradeTypeRepository;
     private final StrategyRepositoryCustomImpl strategyRepositoryCustomImpl;
+    private final StrategyLeaderboardRepository strategyLeaderboardRepository;
+    private final StrategySearchCacheRepository strategySearchCacheRepository;
 
 
     /**
@@ -48,12 +55,77 @@ public class StrategyListingService {
      * @return 전략 목록에 대한 페이지 응답
      */
     public PageResponseDto<StrategySimpleResponse> search(SearchRequest request, Long userId, Pageable pageable) {
-        // 데이터 조회
-        Page<StrategySimpleResponse> content = strategyRepository.searchBy(request, pageable);
+        // 데이터 조회 (필터 없이 알고리즘 정렬만 요청하면 순위표에서 조회)
+        Page<StrategySimpleResponse> content = request.hasOnlyAlgorithmType()
+                ? searchByLeaderboard(request, pageable)
+                : null;
+        if (content == null) {
+            content = searchWithCache(request, pageable);
+        }
+        // 구독 여부는 회원마다 다르므로 캐시와 관계없이 조회
         Map<Long, Boolean> subscriptionMap = generateSubscriptionMap(userId, getStrategyIds(content));
         return processStrategyResponses(content, subscriptionMap);
     }
 
+    /**
+     * 캐시된 검색 결과(전략 id 순서, 전체 개수)가 있으면 카드 데이터만 채우고, 없거나 캐시 이후 비공개/삭제된 전략이 있으면 DB 에서 검색하여
+     * 캐시한다.
+     */
+    private Page<StrategySimpleResponse> searchWithCache(SearchRequest request, Pageable pageable) {
+        String cacheKey = strategySearchCacheRepository.key(request, pageable);
+        Page<StrategySimpleResponse> content = strategySearchCacheRepository.find(cacheKey, pageable)
+                .map(cached -> findPageByIds(cached.getContent(), pageable, cached.getTotalElements()))
+                .orElse(null);
+        if (content != null) {
+            return content;
+        }
+
+        content = strategyRepository.searchBy(request, pageable);
+        strategySearchCacheRepository.save(cacheKey, getStrategyIds(content), content.getTotalElements());
+        return content;
+    }
+
+    /**
+     * 알고리즘 순위표(Redis)에서 한 페이지의 전략 id 를 조회한 뒤 카드 데이터를 채운다.
+     *
+     * @return 순위표가 없거나 순위표 갱신 후 비공개/삭제된 전략이 있으면 null (DB 정렬로 조회)
+     */
+    private Page<StrategySimpleResponse> searchByLeaderboard(SearchRequest request, Pageable pageable) {
+        long total = strategyLeaderboardRepository.count(request.getAlgorithmType());
+        if (total == 0) {
+            return null;
+        }
+
+        List<Long> strategyIds = strategyLeaderboardRepository.findStrategyIds(request.getAlgorithmType(),
+                pageable.getOffset(), pageable.getPageSize());
+        return findPageByIds(strategyIds, pageable, total);
+    }
+
+    /**
+     * 전략 id 순서대로 카드 데이터를 채운 페이지.
+     *
+     * @return 비공개/삭제되어 조회되지 않는 전략이 있으면 null
+     */
+    private Page<StrategySimpleResponse> findPageByIds(List<Long> strategyIds, Pageable pageable, long total) {
+        if (strategyIds.isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, total);
+        }
+
+        Map<Long, StrategySimpleResponse> responses = strategyRepository.findSimpleResponsesByIds(strategyIds)
+                .stream()
+                .collect(Collectors.toMap(StrategySimpleResponse::getStrategyId, Function.identity()));
+        if (responses.size() != strategyIds.size()) {
+            return null;
+        }
+
+        // 순위표/검색 결과 순서대로 정렬
+        List<StrategySimpleResponse> content = new ArrayList<>(strategyIds.size());
+        for (Long strategyId : strategyIds) {
+            content.add(responses.get(strategyId));
+        }
+        return new PageImpl<>(content, pageable, total);
+    }
+
     /**
      * 나의 전략목록 조회 (트레이더) - 구독여부 미포함
      *
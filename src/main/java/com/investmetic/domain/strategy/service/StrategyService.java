@@ -20,11 +20,16 @@ import com.investmetic.domain.strategy.model.entity.StockType;
 import com.investmetic.domain.strategy.model.entity.StockTypeGroup;
 import com.investmetic.domain.strategy.model.entity.Strategy;
 import com.investmetic.domain.strategy.model.entity.TradeType;
+import com.investmetic.domain.strategy.repository.AnalysisRollupRepository;
+import com.investmetic.domain.strategy.repository.DailyAnalysisAccumulatorRepository;
 import com.investmetic.domain.strategy.repository.DailyAnalysisRepository;
+import com.investmetic.domain.strategy.repository.DailyAnalysisStagingRepository;
 import com.investmetic.domain.strategy.repository.MonthlyAnalysisRepository;
 import com.investmetic.domain.strategy.repository.StockTypeGroupRepository;
 import com.investmetic.domain.strategy.repository.StockTypeRepository;
+import com.investmetic.domain.strategy.repository.StrategyLeaderboardRepository;
 import com.investmetic.domain.strategy.repository.StrategyRepository;
+import com.investmetic.domain.strategy.repository.StrategySearchCacheRepository;
 import com.investmetic.domain.strategy.repository.StrategyStatisticsRepository;
 import com.investmetic.domain.strategy.repository.TradeTypeRepository;
 import com.investmetic.domain.subscription.repository.SubscriptionRepository;
@@ -56,7 +61,12 @@ public class StrategyService {
     private final UserRepository userRepository;
     private final StockTypeGroupRepository stockTypeGroupRepository;
     private final DailyAnalysisRepository dailyAnalysisRepository;
+    private final DailyAnalysisStagingRepository dailyAnalysisStagingRepository;
     private final MonthlyAnalysisRepository monthlyAnalysisRepository;
+    private final AnalysisRollupRepository analysisRollupRepository;
+    private final DailyAnalysisAccumulatorRepository dailyAnalysisAccumulatorRepository;
+    private final StrategyLeaderboardRepository strategyLeaderboardRepository;
+    private final StrategySearchCacheRepository strategySearchCacheRepository;
     private final SubscriptionRepository subscriptionRepository;
     private final ReviewRepository reviewRepository;
     private final StrategyStatisticsRepository strategyStatisticsRepository;
@@ -73,6 +83,10 @@ public class StrategyService {
         verifyUserPermission(strategy, userId);
 
         strategy.setIsPublic(strategy.getIsPublic() == IsPublic.PUBLIC ? IsPublic.PRIVATE : IsPublic.PUBLIC);
+
+        // 알고리즘 순위표, 검색 결과 캐시에 공개 상태 반영
+        strategyLeaderboardRepository.updateStrategy(strategy);
+        strategySearchCacheRepository.invalidate();
     }
 
     @Transactional(readOnly = true)
@@ -140,6 +154,8 @@ public class StrategyService {
 
         // 전략 삭제
         strategyRepository.deleteById(strategyId);
+        strategyLeaderboardRepository.remove(strategyId);
+        strategySearchCacheRepository.invalidate();
     }
 
     private void deleteAssociatedData(Strategy strategy) {
@@ -148,8 +164,11 @@ public class StrategyService {
 
         // 종속된 데이터 삭제
         stockTypeGroupRepository.deleteAllByStrategy(strategy);
+        dailyAnalysisStagingRepository.deleteAllByStrategy(strategy);
         dailyAnalysisRepository.deleteAllByStrategy(strategy);
         monthlyAnalysisRepository.deleteAllByStrategy(strategy);
+        analysisRollupRepository.deleteAllByStrategy(strategy);
+        dailyAnalysisAccumulatorRepository.deleteById(strategy.getStrategyId());
         subscriptionRepository.deleteAllByStrategy(strategy);
         reviewRepository.deleteAllByStrategy(strategy);
         deleteAllQnA(strategy.getStrategyId());
@@ -0,0 +1,22 @@
+package com.investmetic.global.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JpaBatchConfig {
+
+    /**
+     * 일간 분석 재계산 결과처럼 한 번에 여러 건을 수정하는 경우 UPDATE 를 JDBC batch 로 묶어서 전송. 설정 파일에 값이 있으면 그 값을 따른다.
+     */
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchCustomizer(@Value("${jpa.jdbc.batch-size:500}") int batchSize) {
+        return hibernateProperties -> {
+            hibernateProperties.putIfAbsent(AvailableSettings.STATEMENT_BATCH_SIZE, batchSize);
+            hibernateProperties.putIfAbsent(AvailableSettings.ORDER_UPDATES, true);
+        };
+    }
+}
@@ -0,0 +1,39 @@
+package com.investmetic.global.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+@Configuration
+public class SchedulerConfig {
+
+    /**
+     * 전략 분석 재계산용 스레드 풀. 전략 분석 배치의 파티션 하나당 스레드 하나로 실행되며, pool-size 를 지정하지 않으면 CPU 코어 수만큼
+     * 사용한다. DB 커넥션 풀 크기는 pool-size 보다 커야 한다.
+     */
+    @Bean
+    public ThreadPoolTaskExecutor analysisExecutor(@Value("${analysis.scheduler.pool-size:0}") int poolSize) {
+        int threadCount = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threadCount);
+        executor.setMaxPoolSize(threadCount);
+        executor.setThreadNamePrefix("analysis-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        return executor;
+    }
+
+    /**
+     * {@code @Scheduled} 작업 실행용 스케줄러. 전략 분석 배치, 리더 임대 연장, 날짜 기준 통계 갱신이 서로 기다리지 않도록 작업마다 스레드를
+     * 하나씩(3개 이상) 사용한다.
+     */
+    @Bean
+    public ThreadPoolTaskScheduler taskScheduler(@Value("${analysis.scheduler.scheduling-pool-size:3}") int poolSize) {
+        ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(Math.max(poolSize, 3));
+        scheduler.setThreadNamePrefix("scheduling-");
+        return scheduler;
+    }
+}
@@ -91,6 +91,8 @@ public class SecurityConfig {
                 .authorizeHttpRequests(auth -> auth
                         .requestMatchers("/").permitAll()
                         .requestMatchers("/profile").authenticated() // /profile은 인증 필요
+                        .requestMatchers("/actuator/health").permitAll()
+                        .requestMatchers("/actuator/**").hasAnyRole("TRADER_ADMIN", "INVESTOR_ADMIN") // 운영 지표는 관리자만
                         .anyRequest().permitAll() // 모든 요청 허용
                 );
         http
@@ -0,0 +1,211 @@
+package com.investmetic.global.config;
+
+import com.investmetic.domain.strategy.repository.StrategyRepository;
+import com.investmetic.domain.strategy.repository.StrategySearchCacheRepository;
+import com.investmetic.domain.strategy.repository.StrategyStatisticsRepository;
+import com.investmetic.global.scheduler.SchedulerFencingException;
+import com.investmetic.global.scheduler.SchedulerLeaderLease;
+import com.investmetic.global.scheduler.StrategyAnalysisMetrics;
+import com.investmetic.global.scheduler.StrategyAnalysisMetrics.Phase;
+import com.investmetic.global.scheduler.StrategyCalculatorScheduler;
+import com.investmetic.global.scheduler.StrategyLeaderboardScheduler;
+import com.investmetic.global.scheduler.batch.StrategyAnalysisJobListener;
+import com.investmetic.global.scheduler.batch.StrategyIdRangePartitioner;
+import com.investmetic.global.scheduler.batch.StrategyRecalculationProcessor;
+import com.investmetic.global.scheduler.batch.StrategyRecalculationResult;
+import com.investmetic.global.scheduler.batch.StrategyRecalculationSkipListener;
+import com.investmetic.global.scheduler.batch.StrategyRecalculationTarget;
+import com.investmetic.global.scheduler.batch.StrategyRecalculationWriter;
+import java.time.LocalDate;
+import java.util.Map;
+import javax.sql.DataSource;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.Step;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.configuration.annotation.EnableBatchProcessing;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.job.builder.JobBuilder;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.batch.core.step.builder.StepBuilder;
+import org.springframework.batch.item.database.JdbcPagingItemReader;
+import org.springframework.batch.item.database.Order;
+import org.springframework.batch.item.database.builder.JdbcPagingItemReaderBuilder;
+import org.springframework.batch.repeat.RepeatStatus;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.batch.BatchDataSourceScriptDatabaseInitializer;
+import org.springframework.boot.autoconfigure.batch.BatchProperties;
+import org.springframework.boot.sql.init.DatabaseInitializationMode;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.transaction.PlatformTransactionManager;
+
+/**
+ * 전략 분석 배치 Job.
+ * <p>
+ * 재계산 큐에 등록된 전략을 전략 ID 구간별 파티션으로 재계산 (chunk 단위 커밋) -> 순위, SM Score 계산 순서로 실행된다. Job 실행 이력은 BATCH_
+ * 메타 테이블에 저장되므로 중간에 실패하면 실패한 파티션의 마지막 커밋된 chunk 다음부터 재시작할 수 있다. 애플리케이션 시작 시 자동 실행하지 않고
+ * Scheduler 에서 실행한다.
+ */
+@Configuration
+@EnableBatchProcessing
+@RequiredArgsConstructor
+public class StrategyAnalysisJobConfig {
+
+    public static final String JOB_NAME = "strategyAnalysisJob";
+
+    private static final String RECALCULATION_WORKER_STEP = "strategyRecalculationWorkerStep";
+
+    private final JobRepository jobRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    @Value("${analysis.batch.chunk-size:10}")
+    private int chunkSize;
+
+    @Value("${analysis.batch.retry-limit:3}")
+    private int retryLimit;
+
+    @Value("${analysis.batch.skip-limit:100}")
+    private int skipLimit;
+
+    @Value("${analysis.ranks.changed-only:true}")
+    private boolean changedRanksOnly; // false 이면 전체 전략 순위를 모두 다시 기록
+
+    /**
+     * 운영 DB(MySQL)에도 BATCH_ 메타 테이블 생성. 이미 있으면 오류를 무시한다.
+     */
+    @Bean
+    public BatchDataSourceScriptDatabaseInitializer batchDataSourceInitializer(DataSource dataSource) {
+        BatchProperties.Jdbc jdbc = new BatchProperties.Jdbc();
+        jdbc.setInitializeSchema(DatabaseInitializationMode.ALWAYS);
+        return new BatchDataSourceScriptDatabaseInitializer(dataSource, jdbc);
+    }
+
+    @Bean
+    public Job strategyAnalysisJob(Step strategyRecalculationStep, Step strategyScoreStep,
+                                   StrategyAnalysisJobListener strategyAnalysisJobListener) {
+        return new JobBuilder(JOB_NAME, jobRepository)
+                .listener(strategyAnalysisJobListener)
+                .start(strategyRecalculationStep)
+                .next(strategyScoreStep)
+                .build();
+    }
+
+    /**
+     * 전략 ID 구간별로 나눈 파티션을 analysisExecutor 스레드 풀에서 병렬 실행.
+     */
+    @Bean
+    public Step strategyRecalculationStep(Step strategyRecalculationWorkerStep, JdbcTemplate jdbcTemplate,
+                                          ThreadPoolTaskExecutor analysisExecutor) {
+        return new StepBuilder("strategyRecalculationStep", jobRepository)
+                .partitioner(RECALCULATION_WORKER_STEP, new StrategyIdRangePartitioner(jdbcTemplate))
+                .step(strategyRecalculationWorkerStep)
+                .gridSize(analysisExecutor.getCorePoolSize())
+                .taskExecutor(analysisExecutor)
+                .build();
+    }
+
+    /**
+     * 파티션 하나의 재계산. 일시적인 DB 오류(락 대기, 데드락 등)는 재시도하고, 데이터 문제로 실패한 전략은 건너뛴다.
+     */
+    @Bean
+    public Step strategyRecalculationWorkerStep(
+            JdbcPagingItemReader<StrategyRecalculationTarget> strategyRecalculationReader,
+            StrategyRecalculationProcessor strategyRecalculationProcessor,
+            StrategyRecalculationWriter strategyRecalculationWriter,
+            StrategyRecalculationSkipListener strategyRecalculationSkipListener) {
+        return new StepBuilder(RECALCULATION_WORKER_STEP, jobRepository)
+                .<StrategyRecalculationTarget, StrategyRecalculationResult>chunk(chunkSize, transactionManager)
+                .reader(strategyRecalculationReader)
+                .processor(strategyRecalculationProcessor)
+                .writer(strategyRecalculationWriter)
+                .faultTolerant()
+                .retry(TransientDataAccessException.class)
+                .retryLimit(retryLimit)
+                // 전략 하나의 실패로 Step 이 실패하지 않도록 모든 예외는 건너뛰고 (건너뛴 전략은 큐에 남아 다음 실행에서 다시 계산)
+                // 리더 임대를 잃은 경우(fencing token 확인 실패)에만 Step 을 실패시킨다
+                .skip(Exception.class)
+                .noSkip(SchedulerFencingException.class)
+                .skipLimit(skipLimit)
+                .listener(strategyRecalculationSkipListener)
+                .build();
+    }
+
+    /**
+     * 파티션 구간 안에서 재계산 큐의 전략을 전략 ID 순서로 읽는 reader. 마지막으로 읽은 전략 ID 를 저장하므로 재시작 시 다음 전략부터 읽는다.
+     */
+    @Bean
+    @StepScope
+    public JdbcPagingItemReader<StrategyRecalculationTarget> strategyRecalculationReader(
+            DataSource dataSource,
+            @Value("#{stepExecutionContext['" + StrategyIdRangePartitioner.MIN_ID + "']}") Long minId,
+            @Value("#{stepExecutionContext['" + StrategyIdRangePartitioner.MAX_ID + "']}") Long maxId) {
+        return new JdbcPagingItemReaderBuilder<StrategyRecalculationTarget>()
+                .name("strategyRecalculationReader")
+                .dataSource(dataSource)
+                .selectClause("SELECT strategy_id, dirty_from_date, version")
+                .fromClause("FROM strategy_recalculation_queue")
+                .whereClause("WHERE strategy_id BETWEEN :minId AND :maxId")
+                .sortKeys(Map.of("strategy_id", Order.ASCENDING))
+                .parameterValues(Map.of("minId", minId, "maxId", maxId))
+                .pageSize(chunkSize)
+                .rowMapper((rs, rowNum) -> new StrategyRecalculationTarget(
+                        rs.getLong("strategy_id"), rs.getObject("dirty_from_date", LocalDate.class),
+                        rs.getLong("version")))
+                .build();
+    }
+
+    /**
+     * 순위 계산 값이 바뀐 파티션이 있으면 Job 당 한 번만 순위 갱신 후 알고리즘별 정렬 점수, 전체 전략 SM Score 계산, 알고리즘별
+     * 순위표 재생성, 검색 결과 캐시 무효화. 재시작된 Job 이면 이전 실행에서 완료된 파티션도 확인한다.
+     */
+    @Bean
+    public Step strategyScoreStep(JobExplorer jobExplorer, StrategyStatisticsRepository strategyStatisticsRepository,
+                                  StrategyRepository strategyRepository,
+                                  StrategyCalculatorScheduler strategyCalculatorScheduler,
+                                  StrategyLeaderboardScheduler strategyLeaderboardScheduler,
+                                  StrategySearchCacheRepository strategySearchCacheRepository,
+                                  StrategyAnalysisMetrics strategyAnalysisMetrics,
+                                  SchedulerLeaderLease schedulerLeaderLease) {
+        return new StepBuilder("strategyScoreStep", jobRepository)
+                .tasklet((contribution, chunkContext) -> {
+                    // 다른 서버가 리더가 되었으면 커밋하지 않고 step 실패
+                    schedulerLeaderLease.verifyFencingToken();
+
+                    JobInstance jobInstance = chunkContext.getStepContext().getStepExecution().getJobExecution()
+                            .getJobInstance();
+                    boolean ranksChanged = jobExplorer.getJobExecutions(jobInstance).stream()
+                            .flatMap(jobExecution -> jobExecution.getStepExecutions().stream())
+                            .map(StepExecution::getExecutionContext)
+                            .anyMatch(context -> context.containsKey(StrategyRecalculationWriter.RANKS_CHANGED));
+
+                    if (ranksChanged) {
+                        // mdd, 수익률표준편차, 승률 순위 업데이트 쿼리
+                        strategyAnalysisMetrics.recordPhase(Phase.RANKS, () -> {
+                            if (changedRanksOnly) {
+                                strategyStatisticsRepository.updateChangedRanks();
+                            } else {
+                                strategyStatisticsRepository.updateRanks();
+                            }
+                        });
+                    }
+
+                    // 통계는 순위와 관계없이 바뀌므로 항상 계산 (바뀐 전략만 갱신)
+                    strategyAnalysisMetrics.recordPhase(Phase.ALGORITHM_SCORE,
+                            strategyRepository::updateAlgorithmScores);
+                    strategyAnalysisMetrics.recordPhase(Phase.SM_SCORE, strategyCalculatorScheduler::calculateSmScores);
+                    strategyAnalysisMetrics.recordPhase(Phase.LEADERBOARD,
+                            strategyLeaderboardScheduler::rebuildLeaderboards);
+
+                    // 통계, 점수가 바뀌었으므로 캐시된 검색 결과 순서도 무효화 (tasklet 트랜잭션 커밋 후)
+                    strategySearchCacheRepository.invalidate();
+                    return RepeatStatus.FINISHED;
+                }, transactionManager)
+                .build();
+    }
+}
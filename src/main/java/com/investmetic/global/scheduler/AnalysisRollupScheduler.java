@@ -0,0 +1,37 @@
+package com.investmetic.global.scheduler;
+
+import com.investmetic.domain.strategy.model.DailyAnalysisSeries;
+import com.investmetic.domain.strategy.model.RollupResolution;
+import com.investmetic.domain.strategy.repository.AnalysisRollupRepository;
+import java.time.LocalDate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class AnalysisRollupScheduler {
+    private final AnalysisRollupRepository analysisRollupRepository;
+
+    /**
+     * 재계산된 일자(recalculatedFrom)가 속한 기간부터 주간/월간/연간 집계를 지우고 일간 분석에서 다시 집계. 일간 분석과 같은 트랜잭션에서
+     * 실행되므로 JDBC 로 저장된 재계산 결과가 그대로 집계된다. 집계가 아직 없는 전략(집계 도입 전 전략)은 첫 일자부터 전체 집계한다.
+     */
+    public void calculateRollups(DailyAnalysisSeries dailyAnalyses) {
+        Long strategyId = dailyAnalyses.getStrategy().getStrategyId();
+        LocalDate recalculatedFrom = dailyAnalyses.getRecalculatedFrom();
+        if (recalculatedFrom == null || !analysisRollupRepository.existsByStrategyStrategyId(strategyId)) {
+            if (dailyAnalyses.isEmpty()) {
+                return;
+            }
+            recalculatedFrom = dailyAnalyses.getDailyDate(0);
+        }
+
+        for (RollupResolution resolution : RollupResolution.values()) {
+            LocalDate periodStart = resolution.periodStart(recalculatedFrom);
+            analysisRollupRepository.deleteFromPeriod(strategyId, resolution.name(), periodStart);
+            if (!dailyAnalyses.isEmpty()) {
+                analysisRollupRepository.insertFromPeriod(strategyId, resolution.name(), periodStart);
+            }
+        }
+    }
+}
@@ -1,14 +1,21 @@
 package com.investmetic.global.scheduler;
 
+import com.investmetic.domain.strategy.model.DailyAnalysisSeries;
 import com.investmetic.domain.strategy.model.entity.DailyAnalysis;
+import com.investmetic.domain.strategy.model.entity.DailyAnalysisAccumulator;
+import com.investmetic.domain.strategy.model.entity.DailyAnalysisStaging;
 import com.investmetic.domain.strategy.model.entity.Proceed;
+import com.investmetic.domain.strategy.model.entity.Strategy;
+import com.investmetic.domain.strategy.repository.AnalysisBulkRepository;
+import com.investmetic.domain.strategy.repository.DailyAnalysisAccumulatorRepository;
 import com.investmetic.domain.strategy.repository.DailyAnalysisRepository;
-import com.investmetic.global.exception.BusinessException;
-import com.investmetic.global.exception.ErrorCode;
+import com.investmetic.domain.strategy.repository.DailyAnalysisSeriesRepository;
+import com.investmetic.domain.strategy.repository.DailyAnalysisStagingRepository;
 import com.investmetic.global.util.RoundUtil;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
+import java.util.TreeMap;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -17,192 +24,312 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class DailyAnalysisScheduler {
     private final DailyAnalysisRepository dailyAnalysisRepository;
-
+    private final DailyAnalysisAccumulatorRepository dailyAnalysisAccumulatorRepository;
+    private final AnalysisBulkRepository analysisBulkRepository;
+    private final DailyAnalysisStagingRepository dailyAnalysisStagingRepository;
+    private final DailyAnalysisSeriesRepository dailyAnalysisSeriesRepository;
+
+    /**
+     * 전략의 일간 분석과 재계산을 기다리는 스테이징을 한 번씩 조회하여 fromDate 부터 마지막 일자까지 메모리에서 순서대로 재계산하고, 재계산된
+     * 일간 분석을 batch upsert 로 저장한 뒤 반영한 스테이징을 삭제.
+     *
+     * @return 재계산 결과가 반영된 전략의 전체 일간 분석 (날짜 오름차순)
+     */
     @Transactional
-    public void calculateDailyAnalysis(DailyAnalysis currentAnalysis) {
-        // 1. 전날 데이터 가져오기
-        Optional<DailyAnalysis> previousAnalysisOpt = dailyAnalysisRepository.findLatestBefore(
-                currentAnalysis.getStrategy().getStrategyId(),
-                currentAnalysis.getDailyDate()
-        );
-
-        if (previousAnalysisOpt.isEmpty()) {
-            // 원금 (현재 거래 금액을 가져옴)
-            Long principal = currentAnalysis.getTransaction();
-
-            // 잔고 계산 (일간 손익 + 원금)
-            Long balance = currentAnalysis.getDailyProfitLoss() + principal;
-
-            // 평가손익 계산 (원금 - 잔고)
-            Long valuationProfitLoss = principal - balance;
-
-            // 기준가 및 일간 손익률 계산
-            // 기준가(referencePrice) = 잔고 / 원금 * 1000, 원금이 0인 경우 0 반환
-            double referencePrice = principal != 0 ? (double) balance / principal * 1000 : 0;
-            // 일간 손익률 = (기준가 - 1000) / 1000
-            double dailyProfitLossRate = (referencePrice - 1000) / 1000;
-
-            // 최대 일간 이익 및 최대 일간 손실률 계산
-            // 최대 일간 이익 (손익이 양수일 경우 해당 값, 그렇지 않으면 0)
-            Long maxDailyProfit = Math.max(currentAnalysis.getDailyProfitLoss(), 0);
-
-            Long maxDailyLoss = Math.min(currentAnalysis.getDailyProfitLoss(), 0);
-
-            // 최대 일간 손실률 (손익률이 음수일 경우 해당 값, 양수일 경우 0)
-            double maxDailyLossRate = dailyProfitLossRate < 0 ? dailyProfitLossRate : 0;
-
-            // 총 이익 및 이익일 수 계산
-            // 총 이익 = 최대 일간 이익
-            Long totalProfit = maxDailyProfit;
-            // 이익일 수 (총 이익이 양수면 1, 아니면 0)
-            Long profitableDays = totalProfit > 0 ? 1L : 0;
-
-            // 평균 이익 계산 (0으로 나누기 방지, 이익일 수가 0인 경우 0)
-            Long averageProfit = profitableDays > 0 ? totalProfit / profitableDays : 0L;
-
-            // 총 손실 및 손실일 수 계산
-            // 총 손실 (일간 손익이 음수일 경우 해당 값, 그렇지 않으면 0)
-            Long totalLoss = currentAnalysis.getDailyProfitLoss() < 0 ? currentAnalysis.getDailyProfitLoss() : 0;
-            // 손실일 수 (총 손실이 음수면 1, 그렇지 않으면 0)
-            Long lossDays = totalLoss < 0 ? 1L : 0;
-
-            // 평균 손실 계산 (0으로 나누기 방지, 손실일 수가 0인 경우 0)
-            Long averageLoss = lossDays > 0 ? totalLoss / lossDays : 0L;
-
-            // 누적 손익 및 누적 손익률 계산
-            // 누적 손익 (현재 일간 손익)
-            Long cumulativeProfitLoss = currentAnalysis.getDailyProfitLoss();
-            // 누적 손익률 = (기준가 / 1000) - 1
-            Double cumulativeProfitLossRate = (referencePrice / 1000) - 1;
-
-            // 최대 누적 손익 및 최대 누적 손익률 계산
-            // 최대 누적 손익 (현재까지의 최대 손익)
-            Long maxCumulativeProfitLoss = Math.max(cumulativeProfitLoss, 0);
-            // 최대 누적 손익률 (기준가를 기준으로 계산)
-            Double maxCumulativeProfitLossRate = (referencePrice / 1000) - 1;
-
-            // 평균 손익 및 평균 손익률 계산
-            Long averageProfitLoss = cumulativeProfitLoss;
-            // 평균 손익률 (누적 손익률이 양수인 경우 해당 값)
-            Double averageProfitLossRatio = Math.max(cumulativeProfitLossRate, 0);
-
-            // 고점 및 고점 비율 계산
-            Long peak = Math.max(cumulativeProfitLoss, 0);
-            Double peakRatio = Math.max(cumulativeProfitLossRate, 0);
-
-            // 고점 이후 경과 일수 (초기값 0)
-            Long daysSincePeak = 0L;
-
-            // 현재 자본인하 계산 (누적 손익이 양수인 경우 누적 손익 - 최대 누적 손익)
-            Long currentDrawdown = cumulativeProfitLoss > 0 ? cumulativeProfitLoss - maxCumulativeProfitLoss : 0;
-            // 현재 자본인하율 (초기값 0.0)
-            Double currentDrawdownRate = 0.0;
-
-            // 최대 자본인하 및 자본인하율 계산
-            // 최대 자본인하 (현재 자본인하 중 최솟값)
-            Long maxDrawdown = Math.min(currentDrawdown, 0);
-            Double maxDrawdownRate = 0.0;
-
-            // 승률 계산 (이익일 수를 퍼센트로 환산)
-            Double winRate = (double) (profitableDays) * 100;
-
-            // Profit Factor 계산 (총 손실이 음수인 경우 총 이익 / 총 손실 절대값)
-            Double profitFactor = totalLoss < 0 ? (double) totalProfit / Math.abs(totalLoss) : 0;
-
-            // ROA (Return on Assets) 계산 (누적 손익을 최대 자본인하로 나눈 값의 음수)
-            Double roa = maxDrawdown != 0 ? (double) cumulativeProfitLoss / maxDrawdown * -1 : 0;
-
-            // 변동계수 (초기값 0.0)
-            Double coefficientOfVariation = 0.0;
-
-            // 샤프 비율 (초기값 0.0)
-            Double sharpRatio = 0.0;
-
-            DailyAnalysis dailyAnalysis = DailyAnalysis.builder()
-                    .dailyAnalysisId(currentAnalysis.getDailyAnalysisId())
-                    .tradingDays(1)
-                    .strategy(currentAnalysis.getStrategy())
-                    .dailyDate(currentAnalysis.getDailyDate())
-                    .transaction(currentAnalysis.getTransaction())
-                    .dailyProfitLoss(currentAnalysis.getDailyProfitLoss())
-                    .principal(principal)
-                    .balance(balance)
-                    .valuationProfitLoss(valuationProfitLoss)
-                    .referencePrice(RoundUtil.roundToFifth(referencePrice))
-                    .cumulativeTransactionAmount(0L)
-                    .deposit(0L)
-                    .cumulativeDeposit(0L)
-                    .withdrawal(0L)
-                    .cumulativeWithdrawal(0L)
-                    .maxDailyLoss(maxDailyLoss)
-                    .dailyProfitLossRate(RoundUtil.roundToFifth(dailyProfitLossRate))
-                    .maxDailyProfit(maxDailyProfit)
-                    .maxDailyProfitRate(RoundUtil.roundToFifth(dailyProfitLossRate))
-                    .maxDailyLossRate(RoundUtil.roundToFifth(maxDailyLossRate))
-                    .totalProfit(totalProfit)
-                    .profitableDays(profitableDays)
-                    .averageProfit(averageProfit)
-                    .totalLoss(totalLoss)
-                    .lossDays(lossDays)
-                    .averageLoss(averageLoss)
-                    .cumulativeProfitLoss(cumulativeProfitLoss)
-                    .cumulativeProfitLossRate(RoundUtil.roundToFifth(cumulativeProfitLossRate))
-                    .maxCumulativeProfitLoss(maxCumulativeProfitLoss)
-                    .maxCumulativeProfitLossRate(RoundUtil.roundToFifth(maxCumulativeProfitLossRate))
-                    .averageProfitLoss(averageProfitLoss)
-                    .averageProfitLossRatio(RoundUtil.roundToFifth(averageProfitLossRatio))
-                    .peak(peak)
-                    .peakRatio(RoundUtil.roundToFifth(peakRatio))
-                    .daysSincePeak(daysSincePeak)
-                    .currentDrawdown(currentDrawdown)
-                    .currentDrawdownRate(RoundUtil.roundToFifth(currentDrawdownRate))
-                    .maxDrawdown(maxDrawdown)
-                    .maxDrawdownRate(RoundUtil.roundToFifth(maxDrawdownRate))
-                    .winRate(winRate)
-                    .profitFactor(RoundUtil.roundToFifth(profitFactor))
-                    .roa(RoundUtil.roundToFifth(roa))
-                    .coefficientOfVariation(RoundUtil.roundToFifth(coefficientOfVariation))
-                    .sharpRatio(RoundUtil.roundToFifth(sharpRatio))
-                    .proceed(Proceed.YES)
-                    .build();
-            dailyAnalysisRepository.save(dailyAnalysis);
-            return;
+    public DailyAnalysisSeries recalculateDailyAnalyses(Strategy strategy, LocalDate fromDate) {
+        Long strategyId = strategy.getStrategyId();
+        List<DailyAnalysisStaging> stagedAnalyses = dailyAnalysisStagingRepository.findByStrategyId(strategyId);
+        DailyAnalysisSeries series = applyStagedAnalyses(dailyAnalysisSeriesRepository.findByStrategy(strategy),
+                stagedAnalyses);
+
+        // 재계산 시작 일자보다 이른 스테이징이 있으면 그 일자부터
+        LocalDate startDate = !stagedAnalyses.isEmpty() && stagedAnalyses.get(0).getDailyDate().isBefore(fromDate)
+                ? stagedAnalyses.get(0).getDailyDate()
+                : fromDate;
+        series.setRecalculatedFrom(startDate);
+        int startIndex = series.indexOf(startDate);
+        if (startIndex == series.size()) {
+            // 재계산할 일자가 없으면 (마지막 일자 삭제 등) 전략 통계에 필요한 마지막 일자만 조회
+            if (!series.isEmpty()) {
+                series.setLastDailyAnalysis(dailyAnalysisRepository.findLatestStrategy(strategyId));
+            }
+            return series;
         }
 
-        // 2. 이전 데이터 기반 계산
+        // 누적 상태가 시작 전날과 맞지 않으면 (과거 데이터 수정/삭제) 이미 조회한 전날까지의 데이터로 재구성
+        DailyAnalysisAccumulator accumulator = findAccumulator(strategyId);
+        if (startIndex > 0 && !accumulator.isAccumulatedUntil(series, startIndex - 1)) {
+            accumulator.rebuild(series, startIndex);
+        }
 
-        // 해당 날짜 이전 전략 일간 분석 모든 데이터
-        List<DailyAnalysis> beforeDatas = dailyAnalysisRepository.findAllByStrategyAndDateBefore(
-                currentAnalysis.getStrategy().getStrategyId(),
-                currentAnalysis.getDailyDate());
+        List<DailyAnalysis> recalculated = calculateFrom(series, startIndex, accumulator);
+        series.setKpRatio(accumulator.getKpRatio());
 
-        LocalDate dailyDate = currentAnalysis.getDailyDate();
-        Long transaction = currentAnalysis.getTransaction();
-        Long dailyProfitLoss = currentAnalysis.getDailyProfitLoss();
-        int previousTradingDays = previousAnalysisOpt.map(DailyAnalysis::getTradingDays)
-                .orElseThrow(() -> new BusinessException(
-                        ErrorCode.STRATEGY_NOT_FOUND));
+        analysisBulkRepository.upsertDailyAnalyses(recalculated);
+        analysisBulkRepository.unstageDailyAnalyses(stagedAnalyses);
+        dailyAnalysisAccumulatorRepository.save(accumulator);
+        return series;
+    }
 
-        Long previousPrincipal = previousAnalysisOpt.map(DailyAnalysis::getPrincipal)
-                .orElse(0L);
+    /**
+     * 수정/추가할 일간 분석(edits)을 반영했을 때의 전략의 전체 일간 분석을 저장하지 않고 계산. 재계산을 기다리는 스테이징도 함께 반영하며 가장
+     * 이른 스테이징 일자부터 계산한다.
+     *
+     * @return 수정 결과가 반영된 전략의 전체 일간 분석 (날짜 오름차순)
+     */
+    @Transactional(readOnly = true)
+    public DailyAnalysisSeries previewDailyAnalyses(Strategy strategy, List<DailyAnalysisStaging> edits) {
+        Long strategyId = strategy.getStrategyId();
+        TreeMap<LocalDate, DailyAnalysisStaging> stagedByDate = new TreeMap<>();
+        for (DailyAnalysisStaging stagedAnalysis : dailyAnalysisStagingRepository.findByStrategyId(strategyId)) {
+            stagedByDate.put(stagedAnalysis.getDailyDate(), stagedAnalysis);
+        }
+        for (DailyAnalysisStaging edit : edits) {
+            stagedByDate.put(edit.getDailyDate(), edit);
+        }
 
-        Long previousPeak = previousAnalysisOpt.map(DailyAnalysis::getPeak)
-                .orElse(0L);
+        DailyAnalysisSeries series = applyStagedAnalyses(dailyAnalysisSeriesRepository.findByStrategy(strategy),
+                new ArrayList<>(stagedByDate.values()));
+        if (stagedByDate.isEmpty()) {
+            if (!series.isEmpty()) {
+                series.setLastDailyAnalysis(dailyAnalysisRepository.findLatestStrategy(strategyId));
+            }
+            return series;
+        }
 
-        Long previousDaysSincePeak = previousAnalysisOpt.map(DailyAnalysis::getDaysSincePeak)
-                .orElse(0L);
+        // 저장된 누적 상태는 변경하지 않도록 전날까지의 데이터로 새로 구성
+        series.setRecalculatedFrom(stagedByDate.firstKey());
+        int startIndex = series.indexOf(stagedByDate.firstKey());
+        DailyAnalysisAccumulator accumulator = new DailyAnalysisAccumulator(strategyId);
+        if (startIndex > 0) {
+            accumulator.rebuild(series, startIndex);
+        }
 
-        Long previousBalance = previousAnalysisOpt.map(DailyAnalysis::getBalance)
-                .orElse(0L);
+        calculateFrom(series, startIndex, accumulator);
+        return series;
+    }
 
-        double previousDailyProfitLossRate = previousAnalysisOpt.map(DailyAnalysis::getDailyProfitLossRate)
-                .orElse(0.0);
+    /**
+     * startIndex 부터 마지막 일자까지 순서대로 계산하여 series 에 반영.
+     *
+     * @return 계산된 일간 분석
+     */
+    private List<DailyAnalysis> calculateFrom(DailyAnalysisSeries series, int startIndex,
+                                              DailyAnalysisAccumulator accumulator) {
+        int size = series.size();
+        List<DailyAnalysis> recalculated = new ArrayList<>(size - startIndex);
+        for (int i = startIndex; i < size; i++) {
+            DailyAnalysis calculated;
+            if (i == 0) {
+                // 첫 거래일부터 누적 상태 새로 시작
+                calculated = calculateFirstDay(series, i);
+                series.set(i, calculated);
+                accumulator.rebuild(series, 1);
+            } else {
+                calculated = calculateNextDay(series, i, accumulator);
+                series.set(i, calculated);
+            }
+            recalculated.add(calculated);
+        }
+        return recalculated;
+    }
 
-        double previousCurrentDrawdownRate = previousAnalysisOpt.map(DailyAnalysis::getCurrentDrawdownRate)
-                .orElse(0.0);
+    /**
+     * 계산된 일간 분석(날짜 오름차순)에 스테이징(날짜 오름차순)의 입출금, 일손익을 반영. 같은 일자의 일간 분석은 id 를 유지한 채 대체하고, 없는
+     * 일자는 새 일간 분석으로 추가한다.
+     */
+    private DailyAnalysisSeries applyStagedAnalyses(DailyAnalysisSeries dailyAnalyses,
+                                                    List<DailyAnalysisStaging> stagedAnalyses) {
+        if (stagedAnalyses.isEmpty()) {
+            return dailyAnalyses;
+        }
+
+        DailyAnalysisSeries series = new DailyAnalysisSeries(dailyAnalyses.getStrategy(),
+                dailyAnalyses.size() + stagedAnalyses.size());
+        int index = 0;
+        for (DailyAnalysisStaging stagedAnalysis : stagedAnalyses) {
+            LocalDate dailyDate = stagedAnalysis.getDailyDate();
+            while (index < dailyAnalyses.size() && dailyAnalyses.getDailyDate(index).isBefore(dailyDate)) {
+                series.addDay(dailyAnalyses, index++);
+            }
+
+            Long dailyAnalysisId = null;
+            if (index < dailyAnalyses.size() && dailyAnalyses.getDailyDate(index).equals(dailyDate)) {
+                dailyAnalysisId = dailyAnalyses.getDailyAnalysisId(index++);
+            }
+            series.addDay(dailyAnalysisId, dailyDate, stagedAnalysis.getTransaction(),
+                    stagedAnalysis.getDailyProfitLoss());
+        }
+        while (index < dailyAnalyses.size()) {
+            series.addDay(dailyAnalyses, index++);
+        }
+        return series;
+    }
 
-        double previousReferencePrice = previousAnalysisOpt.map(DailyAnalysis::getReferencePrice)
-                .orElse(0.0);
+    /**
+     * 첫 거래일 일간 분석 계산.
+     */
+    private DailyAnalysis calculateFirstDay(DailyAnalysisSeries series, int index) {
+        long transaction = series.getTransaction(index);
+        long dailyProfitLoss = series.getDailyProfitLoss(index);
+
+        // 원금 (현재 거래 금액을 가져옴)
+        Long principal = transaction;
+
+        // 잔고 계산 (일간 손익 + 원금)
+        Long balance = dailyProfitLoss + principal;
+
+        // 평가손익 계산 (원금 - 잔고)
+        Long valuationProfitLoss = principal - balance;
+
+        // 기준가 및 일간 손익률 계산
+        // 기준가(referencePrice) = 잔고 / 원금 * 1000, 원금이 0인 경우 0 반환
+        double referencePrice = principal != 0 ? (double) balance / principal * 1000 : 0;
+        // 일간 손익률 = (기준가 - 1000) / 1000
+        double dailyProfitLossRate = (referencePrice - 1000) / 1000;
+
+        // 최대 일간 이익 및 최대 일간 손실률 계산
+        // 최대 일간 이익 (손익이 양수일 경우 해당 값, 그렇지 않으면 0)
+        Long maxDailyProfit = Math.max(dailyProfitLoss, 0);
+
+        Long maxDailyLoss = Math.min(dailyProfitLoss, 0);
+
+        // 최대 일간 손실률 (손익률이 음수일 경우 해당 값, 양수일 경우 0)
+        double maxDailyLossRate = dailyProfitLossRate < 0 ? dailyProfitLossRate : 0;
+
+        // 총 이익 및 이익일 수 계산
+        // 총 이익 = 최대 일간 이익
+        Long totalProfit = maxDailyProfit;
+        // 이익일 수 (총 이익이 양수면 1, 아니면 0)
+        Long profitableDays = totalProfit > 0 ? 1L : 0;
+
+        // 평균 이익 계산 (0으로 나누기 방지, 이익일 수가 0인 경우 0)
+        Long averageProfit = profitableDays > 0 ? totalProfit / profitableDays : 0L;
+
+        // 총 손실 및 손실일 수 계산
+        // 총 손실 (일간 손익이 음수일 경우 해당 값, 그렇지 않으면 0)
+        Long totalLoss = dailyProfitLoss < 0 ? dailyProfitLoss : 0;
+        // 손실일 수 (총 손실이 음수면 1, 그렇지 않으면 0)
+        Long lossDays = totalLoss < 0 ? 1L : 0;
+
+        // 평균 손실 계산 (0으로 나누기 방지, 손실일 수가 0인 경우 0)
+        Long averageLoss = lossDays > 0 ? totalLoss / lossDays : 0L;
+
+        // 누적 손익 및 누적 손익률 계산
+        // 누적 손익 (현재 일간 손익)
+        Long cumulativeProfitLoss = dailyProfitLoss;
+        // 누적 손익률 = (기준가 / 1000) - 1
+        Double cumulativeProfitLossRate = (referencePrice / 1000) - 1;
+
+        // 최대 누적 손익 및 최대 누적 손익률 계산
+        // 최대 누적 손익 (현재까지의 최대 손익)
+        Long maxCumulativeProfitLoss = Math.max(cumulativeProfitLoss, 0);
+        // 최대 누적 손익률 (기준가를 기준으로 계산)
+        Double maxCumulativeProfitLossRate = (referencePrice / 1000) - 1;
+
+        // 평균 손익 및 평균 손익률 계산
+        Long averageProfitLoss = cumulativeProfitLoss;
+        // 평균 손익률 (누적 손익률이 양수인 경우 해당 값)
+        Double averageProfitLossRatio = Math.max(cumulativeProfitLossRate, 0);
+
+        // 고점 및 고점 비율 계산
+        Long peak = Math.max(cumulativeProfitLoss, 0);
+        Double peakRatio = Math.max(cumulativeProfitLossRate, 0);
+
+        // 고점 이후 경과 일수 (초기값 0)
+        Long daysSincePeak = 0L;
+
+        // 현재 자본인하 계산 (누적 손익이 양수인 경우 누적 손익 - 최대 누적 손익)
+        Long currentDrawdown = cumulativeProfitLoss > 0 ? cumulativeProfitLoss - maxCumulativeProfitLoss : 0;
+        // 현재 자본인하율 (초기값 0.0)
+        Double currentDrawdownRate = 0.0;
+
+        // 최대 자본인하 및 자본인하율 계산
+        // 최대 자본인하 (현재 자본인하 중 최솟값)
+        Long maxDrawdown = Math.min(currentDrawdown, 0);
+        Double maxDrawdownRate = 0.0;
+
+        // 승률 계산 (이익일 수를 퍼센트로 환산)
+        Double winRate = (double) (profitableDays) * 100;
+
+        // Profit Factor 계산 (총 손실이 음수인 경우 총 이익 / 총 손실 절대값)
+        Double profitFactor = totalLoss < 0 ? (double) totalProfit / Math.abs(totalLoss) : 0;
+
+        // ROA (Return on Assets) 계산 (누적 손익을 최대 자본인하로 나눈 값의 음수)
+        Double roa = maxDrawdown != 0 ? (double) cumulativeProfitLoss / maxDrawdown * -1 : 0;
+
+        // 변동계수 (초기값 0.0)
+        Double coefficientOfVariation = 0.0;
+
+        // 샤프 비율 (초기값 0.0)
+        Double sharpRatio = 0.0;
+
+        return DailyAnalysis.builder()
+                .dailyAnalysisId(series.getDailyAnalysisId(index))
+                .tradingDays(1)
+                .strategy(series.getStrategy())
+                .dailyDate(series.getDailyDate(index))
+                .transaction(transaction)
+                .dailyProfitLoss(dailyProfitLoss)
+                .principal(principal)
+                .balance(balance)
+                .valuationProfitLoss(valuationProfitLoss)
+                .referencePrice(RoundUtil.roundToFifth(referencePrice))
+                .cumulativeTransactionAmount(0L)
+                .deposit(0L)
+                .cumulativeDeposit(0L)
+                .withdrawal(0L)
+                .cumulativeWithdrawal(0L)
+                .maxDailyLoss(maxDailyLoss)
+                .dailyProfitLossRate(RoundUtil.roundToFifth(dailyProfitLossRate))
+                .maxDailyProfit(maxDailyProfit)
+                .maxDailyProfitRate(RoundUtil.roundToFifth(dailyProfitLossRate))
+                .maxDailyLossRate(RoundUtil.roundToFifth(maxDailyLossRate))
+                .totalProfit(totalProfit)
+                .profitableDays(profitableDays)
+                .averageProfit(averageProfit)
+                .totalLoss(totalLoss)
+                .lossDays(lossDays)
+                .averageLoss(averageLoss)
+                .cumulativeProfitLoss(cumulativeProfitLoss)
+                .cumulativeProfitLossRate(RoundUtil.roundToFifth(cumulativeProfitLossRate))
+                .maxCumulativeProfitLoss(maxCumulativeProfitLoss)
+                .maxCumulativeProfitLossRate(RoundUtil.roundToFifth(maxCumulativeProfitLossRate))
+                .averageProfitLoss(averageProfitLoss)
+                .averageProfitLossRatio(RoundUtil.roundToFifth(averageProfitLossRatio))
+                .peak(peak)
+                .peakRatio(RoundUtil.roundToFifth(peakRatio))
+                .daysSincePeak(daysSincePeak)
+                .currentDrawdown(currentDrawdown)
+                .currentDrawdownRate(RoundUtil.roundToFifth(currentDrawdownRate))
+                .maxDrawdown(maxDrawdown)
+                .maxDrawdownRate(RoundUtil.roundToFifth(maxDrawdownRate))
+                .winRate(winRate)
+                .profitFactor(RoundUtil.roundToFifth(profitFactor))
+                .roa(RoundUtil.roundToFifth(roa))
+                .coefficientOfVariation(RoundUtil.roundToFifth(coefficientOfVariation))
+                .sharpRatio(RoundUtil.roundToFifth(sharpRatio))
+                .proceed(Proceed.YES)
+                .build();
+    }
+
+    /**
+     * 전날 일간 분석과 전날까지의 누적 상태로 다음 거래일 일간 분석 계산. 계산한 값은 누적 상태에 반영된다.
+     */
+    private DailyAnalysis calculateNextDay(DailyAnalysisSeries series, int index,
+                                           DailyAnalysisAccumulator accumulator) {
+        int previous = index - 1;
+        LocalDate dailyDate = series.getDailyDate(index);
+        long transaction = series.getTransaction(index);
+        long dailyProfitLoss = series.getDailyProfitLoss(index);
+        int previousTradingDays = series.getTradingDays(previous);
+        long previousPrincipal = series.getPrincipal(previous);
+        long previousPeak = series.getPeak(previous);
+        long previousDaysSincePeak = series.getDaysSincePeak(previous);
+        long previousBalance = series.getBalance(previous);
+        double previousDailyProfitLossRate = series.getDailyProfitLossRate(previous);
+        double previousCurrentDrawdownRate = series.getCurrentDrawdownRate(previous);
+        double previousReferencePrice = series.getReferencePrice(previous);
 
         // 원금
         Long principal = (previousPrincipal != 0 && previousBalance != 0 && transaction != 0)
@@ -218,110 +345,53 @@ public class DailyAnalysisScheduler {
         // 기준가
         double referencePrice = (principal != 0) ? (double) balance / principal * 1000 : 0.0;
 
-        // 입출금 합
-        // 누적 입출금
-        Long cumulativeTransactionAmount = beforeDatas.stream()
-                .mapToLong(DailyAnalysis::getTransaction)
-                .sum();
-
         // 입금
-        Long deposit = transaction > 0 ? transaction : 0;
-
-        // 누적입금
-        Long cumulativeDeposit = beforeDatas.stream()
-                .mapToLong(DailyAnalysis::getDeposit)
-                .sum();
+        long deposit = transaction > 0 ? transaction : 0;
 
         // 출금
-        Long withdrawal = transaction < 0 ? transaction : 0;
-
-        // 누적출금
-        Long cumulativeWithdrawal = beforeDatas.stream()
-                .mapToLong(DailyAnalysis::getWithdrawal)
-                .sum();
+        long withdrawal = transaction < 0 ? transaction : 0;
 
         // 일간 손익률
         double dailyProfitLossRate = (previousDailyProfitLossRate != 0)
                 ? (referencePrice - previousReferencePrice) / previousReferencePrice
                 : 0.0;
 
-        // 최대 일간 이익
-        Long maxDailyProfit = beforeDatas.stream()
-                .mapToLong(DailyAnalysis::getDailyProfitLoss)
-                .filter(profitLoss -> profitLoss > 0)
-                .max()
-                .orElse(0L);
-
-        // 최대 일간 이익률
-        double maxDailyProfitRate = beforeDatas.stream()
-                .mapToDouble(DailyAnalysis::getDailyProfitLossRate)
-                .filter(rate -> rate > 0)
-                .max()
-                .orElse(0.0);
-
-        // 최대 일간 손실
-        long maxDailyLoss = beforeDatas.stream()
-                .mapToLong(DailyAnalysis::getDailyProfitLoss)
-                .filter(profitLoss -> profitLoss < 0)
-                .min()
-                .orElse(0L);
-
-        // 최대 일간 손실률
-        double maxDailyLossRate = beforeDatas.stream()
-                .mapToDouble(DailyAnalysis::getDailyProfitLossRate)
-                .filter(rate -> rate < 0)
-                .min()
-                .orElse(0.0);
-
-        // 총 이익
-        long totalProfit = beforeDatas.stream()
-                .mapToLong(DailyAnalysis::getDailyProfitLoss)
-                .filter(profit -> profit > 0)
-                .sum();
-
-        // 이익일수
-        long profitableDays = beforeDatas.stream()
-                .filter(data -> data.getDailyProfitLoss() > 0)
-                .count();
-
-        // 평균이익
-        long averageProfit = profitableDays > 0 ? totalProfit / profitableDays : 0;
-
-        // 총 손실
-        long totalLoss = beforeDatas.stream()
-                .mapToLong(DailyAnalysis::getDailyProfitLoss)
-                .filter(profit -> profit < 0)
-                .sum();
+        // 누적손익률
+        double cumulativeProfitLossRate = referencePrice / 1000 - 1;
 
-        // 손실일수
-        long lossDays = beforeDatas.stream()
-                .filter(data -> data.getDailyProfitLoss() < 0)
-                .count();
+        // 당일 값을 누적 상태에 반영
+        accumulator.accumulateDay(dailyDate, transaction, deposit, withdrawal, dailyProfitLoss,
+                Math.round(dailyProfitLossRate * 10000) / 10000.0,
+                RoundUtil.roundToFifth(cumulativeProfitLossRate),
+                RoundUtil.roundToFifth(referencePrice));
+
+        // 누적 입출금, 누적입금, 누적출금
+        Long cumulativeTransactionAmount = accumulator.getTransactionSum();
+        Long cumulativeDeposit = accumulator.getDepositSum();
+        Long cumulativeWithdrawal = accumulator.getWithdrawalSum();
+
+        // 최대 일간 이익, 최대 일간 이익률, 최대 일간 손실, 최대 일간 손실률
+        Long maxDailyProfit = accumulator.getMaxDailyProfit();
+        double maxDailyProfitRate = accumulator.getMaxDailyProfitRate();
+        long maxDailyLoss = accumulator.getMaxDailyLoss();
+        double maxDailyLossRate = accumulator.getMaxDailyLossRate();
+
+        // 총 이익, 이익일수, 평균이익
+        long totalProfit = accumulator.getTotalProfit();
+        long profitableDays = accumulator.getProfitableDays();
+        long averageProfit = profitableDays > 0 ? totalProfit / profitableDays : 0;
 
-        // 평균 손실
+        // 총 손실, 손실일수, 평균 손실
+        long totalLoss = accumulator.getTotalLoss();
+        long lossDays = accumulator.getLossDays();
         long averageLoss = lossDays > 0 ? totalLoss / lossDays : 0;
 
         // 누적손익
-        long cumulativeProfitLoss = beforeDatas.stream()
-                .mapToLong(DailyAnalysis::getDailyProfitLoss)
-                .sum();
+        long cumulativeProfitLoss = accumulator.getProfitLossSum();
 
-        // 누적손익률
-        double cumulativeProfitLossRate = referencePrice / 1000 - 1;
-
-        // 최대 누적 손익
-        long maxCumulativeProfitLoss = beforeDatas.stream()
-                .mapToLong(DailyAnalysis::getCumulativeProfitLoss)
-                .filter(value -> value > 0)
-                .max()
-                .orElse(0L);
-
-        // 최대 누적 손익률
-        double maxCumulativeProfitLossRate = beforeDatas.stream()
-                .mapToDouble(DailyAnalysis::getCumulativeProfitLossRate)
-                .filter(value -> value > 0)
-                .max()
-                .orElse(0.0);
+        // 최대 누적 손익, 최대 누적 손익률
+        long maxCumulativeProfitLoss = accumulator.getMaxCumulativeProfitLoss();
+        double maxCumulativeProfitLossRate = accumulator.getMaxCumulativeProfitLossRate();
 
         // 평균 손익
         long averageProfitLoss = cumulativeProfitLoss / (previousTradingDays + 1);
@@ -329,44 +399,22 @@ public class DailyAnalysisScheduler {
         // 평균 손익 비율
         double averageProfitLossRatio = cumulativeProfitLossRate / (previousTradingDays + 1);
 
-        // 최고값
-        long peak = beforeDatas.stream()
-                .mapToLong(DailyAnalysis::getCumulativeProfitLoss)
-                .filter(value -> value > 0)
-                .max()
-                .orElse(0L);
-
-        // 최고값 비율
-        double peakRatio = beforeDatas.stream()
-                .mapToDouble(DailyAnalysis::getCumulativeProfitLossRate)
-                .filter(value -> value > 0)
-                .max()
-                .orElse(0.0);
+        // 최고값, 최고값 비율
+        long peak = maxCumulativeProfitLoss;
+        double peakRatio = maxCumulativeProfitLossRate;
 
         // 현재 자본 인하 금액
         long currentDrawdown = cumulativeProfitLoss > 0 ? cumulativeProfitLoss - maxCumulativeProfitLoss : 0;
 
         // 현재 자본인하율
-        double maxReferencePrice = beforeDatas.stream()
-                .mapToDouble(DailyAnalysis::getReferencePrice)
-                .filter(value -> value > 0)
-                .max()
-                .orElse(0.0);
+        double maxReferencePrice = accumulator.getMaxReferencePrice();
         double currentDrawdownRate = referencePrice - 1000 > 0 ? (referencePrice - maxReferencePrice) / 100 : 0;
 
-        // 최대 자본인하금액
-        Long maxDrawdown = beforeDatas.stream()
-                .mapToLong(DailyAnalysis::getCurrentDrawdown)
-                .filter(value -> value < 0)
-                .min()
-                .orElse(0L);
+        accumulator.accumulateDrawdown(currentDrawdown, RoundUtil.roundToFifth(currentDrawdownRate));
 
-        // 최대 자본인하율
-        double maxDrawdownRate = beforeDatas.stream()
-                .mapToDouble(DailyAnalysis::getCurrentDrawdownRate)
-                .filter(value -> value < 0)
-                .min()
-                .orElse(0.0);
+        // 최대 자본인하금액, 최대 자본인하율
+        Long maxDrawdown = accumulator.getMaxDrawdown();
+        double maxDrawdownRate = accumulator.getMaxDrawdownRate();
 
         // 승률
         double winRate = (double) profitableDays / (previousTradingDays + 1);
@@ -384,52 +432,30 @@ public class DailyAnalysisScheduler {
                 ? previousDaysSincePeak + 1
                 : 0;
 
+        // 일간 손익 표준편차
+        double standardDeviation = accumulator.getProfitLossStandardDeviation();
+
         // 변동계수
         double coefficientOfVariation = (averageProfitLoss != 0)
-                ? Math.sqrt(beforeDatas.stream()
-                .mapToDouble(DailyAnalysis::getDailyProfitLoss)
-                .map(x -> Math.pow(x - beforeDatas.stream()
-                        .mapToDouble(DailyAnalysis::getDailyProfitLoss)
-                        .average()
-                        .orElse(0.0), 2))
-                .average()
-                .orElse(0.0)) / averageProfitLoss * 100
+                ? standardDeviation / averageProfitLoss * 100
                 : 0.0;
 
         // sharp 비율
-        double standardDeviation = Math.sqrt(
-                beforeDatas.stream()
-                        .mapToDouble(DailyAnalysis::getDailyProfitLoss)
-                        .map(x -> Math.pow(x - beforeDatas.stream()
-                                .mapToDouble(DailyAnalysis::getDailyProfitLoss)
-                                .average()
-                                .orElse(0.0), 2))
-                        .average()
-                        .orElse(0.0)
-        );
-
         double sharpRatio = (standardDeviation != 0) ? (double) averageProfitLoss / standardDeviation : 0.0;
 
-        Long previousDrawDownPeriod = previousAnalysisOpt.map(DailyAnalysis::getDrawDownPeriod)
-                .orElse(0L);
+        long previousDrawDownPeriod = series.getDrawDownPeriod(previous);
 
         Long drawDownPeriod = previousCurrentDrawdownRate >= 0 ? 1 : previousDrawDownPeriod + 1;
 
-        List<DailyAnalysis> specificDailyAnalyses = dailyAnalysisRepository.findSpecificDailyAnalyses(
-                currentAnalysis.getStrategy().getStrategyId(),
-                currentAnalysis.getDailyDate(),
-                drawDownPeriod);
-
-        double maxDrawDownInRate = Math.min(specificDailyAnalyses.stream()
-                .mapToDouble(DailyAnalysis::getCurrentDrawdownRate)
-                .filter(value -> value < 0)
-                .min()
-                .orElse(0.0), currentDrawdownRate);
-
-        // 9. 새로운 DailyAnalysis 객체 생성 및 반환
-        DailyAnalysis dailyAnalysis = DailyAnalysis.builder()
-                .strategy(currentAnalysis.getStrategy())
-                .dailyAnalysisId(currentAnalysis.getDailyAnalysisId())
+        // 자본인하 기간 동안의 최대 자본인하율
+        // 자본인하 기간이 이어지면 전날까지의 기간이 하루 늘어난 것이므로 전날 값과 비교, 새로 시작하면 오늘 값만 대상
+        double maxDrawDownInRate = Math.min(
+                previousCurrentDrawdownRate >= 0 ? 0.0 : series.getMaxDrawDownInRate(previous),
+                currentDrawdownRate);
+
+        return DailyAnalysis.builder()
+                .strategy(series.getStrategy())
+                .dailyAnalysisId(series.getDailyAnalysisId(index))
                 .dailyDate(dailyDate)
                 .transaction(transaction)
                 .dailyProfitLoss(dailyProfitLoss)
@@ -476,7 +502,10 @@ public class DailyAnalysisScheduler {
                 .maxDailyLoss(maxDailyLoss)
                 .proceed(Proceed.YES)
                 .build();
+    }
 
-        dailyAnalysisRepository.save(dailyAnalysis);
+    private DailyAnalysisAccumulator findAccumulator(Long strategyId) {
+        return dailyAnalysisAccumulatorRepository.findById(strategyId)
+                .orElseGet(() -> new DailyAnalysisAccumulator(strategyId));
     }
 }
@@ -1,81 +1,92 @@
 package com.investmetic.global.scheduler;
 
-import com.investmetic.domain.strategy.model.entity.DailyAnalysis;
+import com.investmetic.domain.strategy.model.DailyAnalysisSeries;
 import com.investmetic.domain.strategy.model.entity.MonthlyAnalysis;
+import com.investmetic.domain.strategy.repository.AnalysisBulkRepository;
 import com.investmetic.domain.strategy.repository.MonthlyAnalysisRepository;
 import com.investmetic.global.util.RoundUtil;
 import java.time.LocalDate;
 import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
-import java.util.Optional;
-import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
 
 @Component
 @RequiredArgsConstructor
 public class MonthlyAnalysisScheduler {
+    private final AnalysisBulkRepository analysisBulkRepository;
     private final MonthlyAnalysisRepository monthlyAnalysisRepository;
 
-    public void calculateMonthlyAnalysis(List<DailyAnalysis> dailyAnalyses) {
-        Map<YearMonth, List<DailyAnalysis>> groupedByMonth = dailyAnalyses.stream()
-                .collect(Collectors.groupingBy(daily -> YearMonth.from(daily.getDailyDate())));
+    /**
+     * 재계산된 일자(recalculatedFrom)가 속한 월부터 마지막 월까지만 월간 분석을 다시 집계하여 upsert 하고, 일간 분석이 모두 삭제된 월의 월간
+     * 분석은 삭제. 그 이전 월은 일간 분석이 바뀌지 않았으므로 다시 집계하지 않는다.
+     */
+    public void calculateMonthlyAnalysis(DailyAnalysisSeries dailyAnalyses) {
+        if (dailyAnalyses.isEmpty()) {
+            return;
+        }
 
-        groupedByMonth.forEach((month, dailyAnalysisList) -> {
-            Long monthlyPrincipal = dailyAnalysisList.stream()
-                    .mapToLong(DailyAnalysis::getPrincipal)
-                    .sum();
+        LocalDate recalculatedFrom = dailyAnalyses.getRecalculatedFrom() != null
+                ? dailyAnalyses.getRecalculatedFrom()
+                : dailyAnalyses.getDailyDate(0);
+        YearMonth fromMonth = YearMonth.from(recalculatedFrom);
 
-            Long monthlyTransaction = dailyAnalysisList.stream()
-                    .mapToLong(DailyAnalysis::getTransaction)
-                    .sum();
+        // 재집계할 월의 기존 월간 분석 (월말 일자 -> id)
+        Map<LocalDate, Long> existingMonthlyAnalysisIds = new HashMap<>();
+        for (MonthlyAnalysis monthlyAnalysis : monthlyAnalysisRepository.findByStrategyIdFromMonthlyDate(
+                dailyAnalyses.getStrategy().getStrategyId(), fromMonth.atEndOfMonth())) {
+            existingMonthlyAnalysisIds.put(monthlyAnalysis.getMonthlyDate(), monthlyAnalysis.getMonthlyAnalysisId());
+        }
 
-            Long monthlyProfitLoss = dailyAnalysisList.stream()
-                    .mapToLong(DailyAnalysis::getDailyProfitLoss)
-                    .sum();
+        List<MonthlyAnalysis> monthlyAnalyses = new ArrayList<>();
 
-            Double monthlyProfitLossRate = dailyAnalysisList.stream()
-                    .mapToDouble(DailyAnalysis::getDailyProfitLossRate)
-                    .average()
-                    .orElse(0.0);
+        int monthStart = dailyAnalyses.indexOf(fromMonth.atDay(1));
+        while (monthStart < dailyAnalyses.size()) {
+            YearMonth month = YearMonth.from(dailyAnalyses.getDailyDate(monthStart));
+            LocalDate nextMonth = month.plusMonths(1).atDay(1);
+            int monthEnd = Math.min(dailyAnalyses.indexOf(nextMonth), dailyAnalyses.size());
 
-            Long monthlyCumulativeProfitLoss = dailyAnalysisList.stream()
-                    .mapToLong(DailyAnalysis::getCumulativeProfitLoss)
-                    .sum();
-
-            Double monthlyCumulativeProfitLossRate = dailyAnalysisList.stream()
-                    .mapToDouble(DailyAnalysis::getCumulativeProfitLossRate)
-                    .average()
-                    .orElse(0.0);
+            long monthlyPrincipal = 0;
+            long monthlyTransaction = 0;
+            long monthlyProfitLoss = 0;
+            double profitLossRateSum = 0.0;
+            long monthlyCumulativeProfitLoss = 0;
+            double cumulativeProfitLossRateSum = 0.0;
+            for (int i = monthStart; i < monthEnd; i++) {
+                monthlyPrincipal += dailyAnalyses.getPrincipal(i);
+                monthlyTransaction += dailyAnalyses.getTransaction(i);
+                monthlyProfitLoss += dailyAnalyses.getDailyProfitLoss(i);
+                profitLossRateSum += dailyAnalyses.getDailyProfitLossRate(i);
+                monthlyCumulativeProfitLoss += dailyAnalyses.getCumulativeProfitLoss(i);
+                cumulativeProfitLossRateSum += dailyAnalyses.getCumulativeProfitLossRate(i);
+            }
+            int days = monthEnd - monthStart;
 
-            LocalDate monthlyDate = month.atEndOfMonth();
+            // 같은 전략, 같은 월의 월간 분석이 있으면 갱신 (strategy_id, monthly_date 기준 upsert)
+            monthlyAnalyses.add(MonthlyAnalysis.builder()
+                    .strategy(dailyAnalyses.getStrategy())
+                    .monthlyDate(month.atEndOfMonth())
+                    .monthlyAveragePrincipal(monthlyPrincipal)
+                    .depositsWithdrawals(monthlyTransaction)
+                    .monthlyProfitLoss(monthlyProfitLoss)
+                    .monthlyProfitLossRate(RoundUtil.roundToFifth(profitLossRateSum / days))
+                    .cumulativeProfitLoss(monthlyCumulativeProfitLoss)
+                    .cumulativeProfitLossRate(RoundUtil.roundToFifth(cumulativeProfitLossRateSum / days))
+                    .build());
 
-            Optional<MonthlyAnalysis> existingMonthlyAnalysis = monthlyAnalysisRepository.findByStrategyAndMonthlyDate(
-                    dailyAnalysisList.get(0).getStrategy(), monthlyDate);
+            existingMonthlyAnalysisIds.remove(month.atEndOfMonth());
+            monthStart = monthEnd;
+        }
 
-            if (existingMonthlyAnalysis.isPresent()) {
-                // 이미 존재하면 업데이트
-                MonthlyAnalysis updateMonthlyAnalysis = existingMonthlyAnalysis.get();
-                updateMonthlyAnalysis.setMonthlyAnalysisData(monthlyPrincipal, monthlyTransaction, monthlyProfitLoss,
-                        RoundUtil.roundToFifth(monthlyProfitLossRate), monthlyCumulativeProfitLoss,
-                        RoundUtil.roundToFifth(monthlyCumulativeProfitLossRate));
-            } else {
-                // 존재하지 않으면 새로 생성 및 저장
-                MonthlyAnalysis newMonthlyAnalysis = MonthlyAnalysis.builder()
-                        .strategy(dailyAnalysisList.get(0).getStrategy())
-                        .monthlyDate(month.atEndOfMonth())
-                        .monthlyAveragePrincipal(monthlyPrincipal)
-                        .depositsWithdrawals(monthlyTransaction)
-                        .monthlyProfitLoss(monthlyProfitLoss)
-                        .monthlyProfitLossRate(RoundUtil.roundToFifth(monthlyProfitLossRate))
-                        .cumulativeProfitLoss(monthlyCumulativeProfitLoss)
-                        .cumulativeProfitLossRate(RoundUtil.roundToFifth(monthlyCumulativeProfitLossRate))
-                        .build();
+        analysisBulkRepository.upsertMonthlyAnalyses(monthlyAnalyses);
 
-                monthlyAnalysisRepository.save(newMonthlyAnalysis);
-            }
-        });
+        // 남은 월은 일간 분석이 모두 삭제된 월
+        if (!existingMonthlyAnalysisIds.isEmpty()) {
+            monthlyAnalysisRepository.deleteAllByIdInBatch(existingMonthlyAnalysisIds.values());
+        }
     }
 
 }
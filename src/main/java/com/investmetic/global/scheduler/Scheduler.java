@@ -1,74 +1,173 @@
 package com.investmetic.global.scheduler;
 
-import com.investmetic.domain.strategy.model.entity.DailyAnalysis;
-import com.investmetic.domain.strategy.model.entity.Strategy;
 import com.investmetic.domain.strategy.repository.DailyAnalysisRepository;
-import java.time.LocalDate;
-import java.util.List;
-import java.util.Optional;
+import com.investmetic.domain.strategy.repository.DailyAnalysisStagingRepository;
+import com.investmetic.domain.strategy.repository.StrategyRecalculationQueueRepository;
+import com.investmetic.global.config.StrategyAnalysisJobConfig;
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.Job;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionException;
+import org.springframework.batch.core.JobInstance;
+import org.springframework.batch.core.JobParameters;
+import org.springframework.batch.core.JobParametersBuilder;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.explore.JobExplorer;
+import org.springframework.batch.core.launch.JobLauncher;
+import org.springframework.batch.core.repository.JobRepository;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class Scheduler {
 
+    private final JobLauncher jobLauncher;
+    private final JobExplorer jobExplorer;
+    private final JobRepository jobRepository;
+    private final Job strategyAnalysisJob;
+    private final StrategyRecalculationQueueRepository strategyRecalculationQueueRepository;
+    private final DailyAnalysisStagingRepository dailyAnalysisStagingRepository;
     private final DailyAnalysisRepository dailyAnalysisRepository;
-    private final DailyAnalysisScheduler dailyAnalysisScheduler;
-    private final StrategyCalculatorScheduler strategyCalculatorScheduler;
-    private final MonthlyAnalysisScheduler monthlyAnalysisScheduler;
+    private final SchedulerLeaderLease schedulerLeaderLease;
     private final StrategyStatisticsScheduler strategyStatisticsScheduler;
+    private final TransactionTemplate transactionTemplate;
 
-    // 매일 자정
-    @Scheduled(cron = "0 * * * * *")
-    @Transactional
-    public void run() {
-        // 새로운 데이터들을 모두 가져옴
-        List<DailyAnalysis> pendingAnalyses = dailyAnalysisRepository.findAllByProceedIsFalse();
+    @Value("${analysis.batch.max-restarts:3}")
+    private int maxRestarts; // 같은 Job 을 재시작하는 최대 횟수, 넘으면 새 Job 으로 실행
 
-        pendingAnalyses.forEach(dailyAnalysis -> {
-            // 기존에 있는 데이터 가져옴
-            Optional<DailyAnalysis> foundDailyAnalysis = dailyAnalysisRepository.findByStrategyAndDailyDateAndProceedIsTrue(
-                    dailyAnalysis.getStrategy(),
-                    dailyAnalysis.getDailyDate()
-            );
+    private volatile boolean pendingDailyAnalysesEnqueued; // 도입 전 재계산 대기 일간 분석 큐 등록 여부
 
-            // 이미 데이터가 있을 경우 기존에 있던 데이터는 삭제
-            if (foundDailyAnalysis.isPresent()) {
-                DailyAnalysis dailyAnalysisResult = foundDailyAnalysis.get();
+    /**
+     * 큐, 스테이징 도입 전에 등록되어 재계산되지 않은(proceed = NO) 일간 분석을 스테이징으로 옮기고 스테이징이 있는 전략을 재계산 큐에 등록.
+     * 모든 서버가 시작할 때마다 실행하면 실행 중인 재계산의 큐 version 이 바뀌므로 리더가 된 뒤 Job 실행 전에 한 번만 실행한다.
+     */
+    private void enqueuePendingDailyAnalyses() {
+        transactionTemplate.executeWithoutResult(status -> {
+            // 다른 서버가 리더가 되었으면 커밋하지 않음
+            schedulerLeaderLease.verifyFencingToken();
 
-                dailyAnalysisRepository.delete(dailyAnalysisResult);
+            int staged = dailyAnalysisStagingRepository.stageLegacyPendingDailyAnalyses();
+            if (staged > 0) {
+                dailyAnalysisRepository.deleteLegacyPendingDailyAnalyses();
+                log.info("재계산 대기 일간 분석 스테이징 이동 count={}", staged);
             }
+
+            int enqueued = strategyRecalculationQueueRepository.enqueuePendingDailyAnalyses();
+            log.info("재계산 대기 전략 큐 등록 count={}", enqueued);
         });
+        pendingDailyAnalysesEnqueued = true;
+    }
+
+    // 매분 실행, 재계산 큐에 전략이 있거나 재시작할 Job 이 있을 때만 배치 실행
+    @Scheduled(cron = "0 * * * * *")
+    public void run() {
+        // 여러 서버 중 리더 임대를 가진 서버만 실행
+        if (!schedulerLeaderLease.isLeader()) {
+            return;
+        }
 
-        List<DailyAnalysis> dailyAnalyses = dailyAnalysisRepository.findEligibleDailyAnalysis();
+        if (!pendingDailyAnalysesEnqueued) {
+            enqueuePendingDailyAnalyses();
+        }
 
-        dailyAnalyses.forEach(dailyAnalysis -> {
-            Long strategyId = dailyAnalysis.getStrategy().getStrategyId();
-            LocalDate dailyDate = dailyAnalysis.getDailyDate();
+        JobParameters jobParameters = nextJobParameters();
 
-            List<DailyAnalysis> specificDailyAnalyses = dailyAnalysisRepository.findAllByStrategyAndDateAfter(
-                    strategyId, dailyDate);
+        // 재시작할 Job 도 없고 재계산 큐도 비어있으면 실행하지 않음
+        if (jobParameters == null) {
+            return;
+        }
 
-            for (DailyAnalysis specificDailyAnalysis : specificDailyAnalyses) {
-                dailyAnalysisScheduler.calculateDailyAnalysis(specificDailyAnalysis);
-            }
+        try {
+            JobExecution jobExecution = jobLauncher.run(strategyAnalysisJob, jobParameters);
+            schedulerLeaderLease.recordLastRun(jobExecution);
+            log.info("전략 분석 배치 종료 jobExecutionId={} status={}", jobExecution.getId(),
+                    jobExecution.getStatus());
+        } catch (JobExecutionException e) {
+            log.error("전략 분석 배치 실행 실패", e);
+        }
+    }
 
-            Strategy strategy = dailyAnalysis.getStrategy();
-            List<DailyAnalysis> strategyDailyAnalyses = dailyAnalysisRepository.findByStrategy(strategy);
+    // 매일 0시 5분, 날짜가 바뀌면 달라지는 통계만 전체 전략 갱신
+    @Scheduled(cron = "0 5 0 * * *")
+    public void refreshTimeRelativeStatistics() {
+        if (!schedulerLeaderLease.isLeader()) {
+            return;
+        }
 
-            strategyCalculatorScheduler.calculateKpRatio(strategyDailyAnalyses, strategy);
+        long startedAt = System.nanoTime();
+        Integer updated = transactionTemplate.execute(status -> {
+            // 다른 서버가 리더가 되었으면 커밋하지 않음
+            schedulerLeaderLease.verifyFencingToken();
+            return strategyStatisticsScheduler.refreshRecentYearProfitRates();
         });
+        log.info("최근 1년 수익률 갱신 count={} elapsedMillis={}", updated,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startedAt));
+    }
 
-        strategyCalculatorScheduler.calculateSmScores();
+    /**
+     * 마지막 실행이 실패했으면 같은 파라미터로 재시작 (완료된 파티션은 건너뛰고 실패한 파티션은 마지막 커밋된 chunk 다음부터), 아니면 재계산 큐에
+     * 전략이 있을 때만 새 Job 으로 실행. 같은 Job 이 재시작 최대 횟수를 넘겨 실패하면 새 Job 으로 실행한다.
+     *
+     * @return 실행할 Job 파라미터, 실행할 필요가 없으면 null
+     */
+    private JobParameters nextJobParameters() {
+        JobInstance lastJobInstance = jobExplorer.getLastJobInstance(StrategyAnalysisJobConfig.JOB_NAME);
+        JobExecution lastJobExecution = lastJobInstance != null
+                ? jobExplorer.getLastJobExecution(lastJobInstance)
+                : null;
 
-        dailyAnalyses.forEach(dailyAnalysis -> {
-            List<DailyAnalysis> specificDailyAnalyses = dailyAnalysisRepository.findByStrategyId(
-                    dailyAnalysis.getStrategy().getStrategyId());
-            monthlyAnalysisScheduler.calculateMonthlyAnalysis(specificDailyAnalyses);
-            strategyStatisticsScheduler.calculateStatistics(specificDailyAnalyses);
-        });
+        if (lastJobExecution != null) {
+            if (lastJobExecution.isRunning()) {
+                // 리더만 실행하므로 실행 중으로 남아있는 Job 은 이전 리더가 중간에 종료된 Job
+                // (이전 리더가 아직 실행 중이더라도 fencing token 확인에서 실패하여 더 이상 커밋하지 못함)
+                failInterruptedExecution(lastJobExecution);
+            }
+            BatchStatus status = lastJobExecution.getStatus();
+            if (status == BatchStatus.FAILED || status == BatchStatus.STOPPED) {
+                int executionCount = jobExplorer.getJobExecutions(lastJobInstance).size();
+                if (executionCount <= maxRestarts) {
+                    return lastJobExecution.getJobParameters();
+                }
+                // 계속 실패하는 Job 은 포기하고 새 Job 으로 실행 (처리하지 못한 전략은 재계산 큐에 남아 다시 계산된다)
+                log.warn("전략 분석 배치 재시작 횟수 초과 jobInstanceId={} executionCount={}",
+                        lastJobInstance.getInstanceId(), executionCount);
+            }
+        }
+
+        if (strategyRecalculationQueueRepository.count() == 0) {
+            return null;
+        }
+
+        return new JobParametersBuilder()
+                .addLocalDateTime("runAt", LocalDateTime.now())
+                .toJobParameters();
+    }
+
+    private void failInterruptedExecution(JobExecution jobExecution) {
+        LocalDateTime now = LocalDateTime.now();
+        log.warn("중단된 전략 분석 배치를 실패 처리 후 재시작 jobExecutionId={}", jobExecution.getId());
+
+        for (StepExecution stepExecution : jobExecution.getStepExecutions()) {
+            if (stepExecution.getStatus().isRunning()) {
+                stepExecution.setStatus(BatchStatus.FAILED);
+                stepExecution.setExitStatus(ExitStatus.FAILED);
+                stepExecution.setEndTime(now);
+                jobRepository.update(stepExecution);
+            }
+        }
+
+        jobExecution.setStatus(BatchStatus.FAILED);
+        jobExecution.setExitStatus(ExitStatus.FAILED);
+        jobExecution.setEndTime(now);
+        jobRepository.update(jobExecution);
     }
 }
@@ -0,0 +1,12 @@
+package com.investmetic.global.scheduler;
+
+/**
+ * 스케줄러 리더 임대가 없거나 다른 서버가 리더가 되어 fencing token 확인에 실패한 경우. 전략 분석 배치는 이 예외만 건너뛰지 않고 Step 을
+ * 실패시킨다.
+ */
+public class SchedulerFencingException extends RuntimeException {
+
+    public SchedulerFencingException(String message) {
+        super(message);
+    }
+}
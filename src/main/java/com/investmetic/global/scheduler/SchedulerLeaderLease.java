@@ -0,0 +1,203 @@
+package com.investmetic.global.scheduler;
+
+import com.investmetic.domain.strategy.dto.response.SchedulerStatusResponse;
+import com.investmetic.domain.strategy.repository.SchedulerFenceRepository;
+import jakarta.annotation.PreDestroy;
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 여러 서버 중 한 서버만 전략 분석 스케줄러를 실행하도록 하는 Redis 리더 임대.
+ * <p>
+ * 임대를 얻을 때마다 증가하는 fencing token 을 받아 DB(scheduler_fence)에 기록하고, 재계산 트랜잭션마다 token 을 확인한다. GC 등으로 멈춘 사이
+ * 임대가 만료되어 다른 서버가 리더가 되면 이전 리더의 트랜잭션은 커밋되지 않는다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SchedulerLeaderLease {
+
+    public static final String SCHEDULER_NAME = "strategyAnalysis";
+
+    private static final String LEADER_KEY = "SCHEDULER_LEADER:" + SCHEDULER_NAME;
+    private static final String FENCING_TOKEN_KEY = "SCHEDULER_FENCING_TOKEN:" + SCHEDULER_NAME;
+    private static final String LAST_RUN_KEY = "SCHEDULER_LAST_RUN:" + SCHEDULER_NAME;
+
+    // 자신이 가진 임대일 때만 만료 시간 연장
+    private static final DefaultRedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('pexpire', KEYS[1], ARGV[2]) "
+                    + "else return 0 end", Long.class);
+
+    // 자신이 가진 임대일 때만 삭제
+    private static final DefaultRedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) "
+                    + "else return 0 end", Long.class);
+
+    private final String nodeId = createNodeId();
+
+    private final StringRedisTemplate redisTemplate;
+    private final SchedulerFenceRepository schedulerFenceRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${analysis.scheduler.lease-ttl-millis:30000}")
+    private long leaseTtlMillis;
+
+    private volatile String leaseValue; // 보유 중인 임대 값 (nodeId|token|임대 시작 시각), 리더가 아니면 null
+
+    private volatile long fencingToken;
+
+    /**
+     * 리더면 임대 연장, 아니면 임대 획득 시도. 임대 만료 시간의 1/3 주기로 실행된다.
+     */
+    @Scheduled(fixedDelayString = "${analysis.scheduler.lease-renew-interval-millis:10000}")
+    public void renewOrAcquire() {
+        try {
+            if (leaseValue != null) {
+                renew();
+            } else {
+                acquire();
+            }
+        } catch (RuntimeException e) {
+            // Redis 장애 시 임대를 연장할 수 없으므로 리더에서 물러남 (fencing token 으로 커밋은 막힘)
+            log.error("스케줄러 리더 임대 갱신 실패 nodeId={}", nodeId, e);
+            leaseValue = null;
+        }
+    }
+
+    public boolean isLeader() {
+        return leaseValue != null;
+    }
+
+    /**
+     * 재계산 트랜잭션 안에서 호출하여 이 서버가 아직 리더이고 이후 더 큰 token 을 가진 리더가 없는지 확인. 조회한 token 은 트랜잭션이 끝날 때까지
+     * 공유 잠금으로 유지된다.
+     *
+     * @throws SchedulerFencingException 리더가 아니거나 fencing token 이 바뀐 경우
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void verifyFencingToken() {
+        if (leaseValue == null) {
+            throw new SchedulerFencingException("스케줄러 리더 임대가 없습니다. nodeId=" + nodeId);
+        }
+        long token = fencingToken;
+
+        long currentToken = schedulerFenceRepository.findTokenForShare(SCHEDULER_NAME).orElse(0L);
+        if (currentToken != token) {
+            throw new SchedulerFencingException(
+                    "다른 서버가 스케줄러 리더가 되었습니다. token=" + token + ", currentToken=" + currentToken);
+        }
+    }
+
+    /**
+     * 마지막 실행 결과를 Redis 에 기록하여 어느 서버에서나 조회할 수 있게 한다.
+     */
+    public void recordLastRun(JobExecution jobExecution) {
+        redisTemplate.opsForHash().putAll(LAST_RUN_KEY, Map.of(
+                "nodeId", nodeId,
+                "jobExecutionId", String.valueOf(jobExecution.getId()),
+                "status", jobExecution.getStatus().name(),
+                "startedAt", String.valueOf(jobExecution.getStartTime()),
+                "endedAt", String.valueOf(jobExecution.getEndTime())));
+    }
+
+    public SchedulerStatusResponse getStatus() {
+        String currentLeaseValue = redisTemplate.opsForValue().get(LEADER_KEY);
+        Long remainingMillis = redisTemplate.getExpire(LEADER_KEY, TimeUnit.MILLISECONDS);
+        List<Object> lastRun = redisTemplate.opsForHash().multiGet(LAST_RUN_KEY,
+                List.of("nodeId", "jobExecutionId", "status", "startedAt", "endedAt"));
+
+        SchedulerStatusResponse.SchedulerStatusResponseBuilder builder = SchedulerStatusResponse.builder()
+                .nodeId(nodeId)
+                .lastRunNodeId((String) lastRun.get(0))
+                .lastRunJobExecutionId(lastRun.get(1) != null ? Long.valueOf((String) lastRun.get(1)) : null)
+                .lastRunStatus((String) lastRun.get(2))
+                .lastRunStartedAt(parseDateTime((String) lastRun.get(3)))
+                .lastRunEndedAt(parseDateTime((String) lastRun.get(4)));
+
+        if (currentLeaseValue != null) {
+            String[] lease = currentLeaseValue.split("\\|");
+            Instant acquiredAt = Instant.ofEpochMilli(Long.parseLong(lease[2]));
+            builder.leaderNodeId(lease[0])
+                    .fencingToken(Long.valueOf(lease[1]))
+                    .leaseAgeSeconds(Duration.between(acquiredAt, Instant.now()).getSeconds())
+                    .leaseRemainingMillis(remainingMillis);
+        }
+        return builder.build();
+    }
+
+    @PreDestroy
+    public void release() {
+        String value = leaseValue;
+        if (value != null) {
+            leaseValue = null;
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(LEADER_KEY), value);
+        }
+    }
+
+    private void acquire() {
+        if (Boolean.TRUE.equals(redisTemplate.hasKey(LEADER_KEY))) {
+            return;
+        }
+
+        Long token = redisTemplate.opsForValue().increment(FENCING_TOKEN_KEY);
+        String value = nodeId + "|" + token + "|" + System.currentTimeMillis();
+        boolean acquired = Boolean.TRUE.equals(redisTemplate.opsForValue()
+                .setIfAbsent(LEADER_KEY, value, Duration.ofMillis(leaseTtlMillis)));
+        if (!acquired) {
+            return;
+        }
+
+        try {
+            // 이전 리더의 진행 중인 트랜잭션이 끝난 뒤 token 갱신, 이후 이전 리더의 트랜잭션은 token 확인에서 실패
+            transactionTemplate.executeWithoutResult(
+                    status -> schedulerFenceRepository.advance(SCHEDULER_NAME, token));
+        } catch (RuntimeException e) {
+            redisTemplate.execute(RELEASE_SCRIPT, List.of(LEADER_KEY), value);
+            throw e;
+        }
+        fencingToken = token;
+        leaseValue = value;
+        log.info("스케줄러 리더 임대 획득 nodeId={} token={}", nodeId, token);
+    }
+
+    private void renew() {
+        Long renewed = redisTemplate.execute(RENEW_SCRIPT, List.of(LEADER_KEY), leaseValue,
+                String.valueOf(leaseTtlMillis));
+        if (renewed == null || renewed == 0) {
+            log.warn("스케줄러 리더 임대 만료 nodeId={} token={}", nodeId, fencingToken);
+            leaseValue = null;
+        }
+    }
+
+    private static LocalDateTime parseDateTime(String value) {
+        return value == null || "null".equals(value) ? null : LocalDateTime.parse(value);
+    }
+
+    private static String createNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = "unknown";
+        }
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+}
@@ -0,0 +1,24 @@
+package com.investmetic.global.scheduler;
+
+import com.investmetic.domain.strategy.dto.response.StrategyAnalysisRunResponse;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+/**
+ * 이 서버에서 마지막으로 실행한 전략 분석 배치의 요약 (/actuator/strategyanalysis). 단계별/전략별 시간 분포는 /actuator/metrics 의
+ * strategy.analysis.* 로 조회한다.
+ */
+@Component
+@Endpoint(id = "strategyanalysis")
+@RequiredArgsConstructor
+public class StrategyAnalysisEndpoint {
+
+    private final StrategyAnalysisMetrics strategyAnalysisMetrics;
+
+    @ReadOperation
+    public StrategyAnalysisRunResponse lastRun() {
+        return strategyAnalysisMetrics.getLastRun();
+    }
+}
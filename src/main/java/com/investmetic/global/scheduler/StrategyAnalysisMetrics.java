@@ -0,0 +1,208 @@
+package com.investmetic.global.scheduler;
+
+import com.investmetic.domain.strategy.dto.response.StrategyAnalysisRunResponse;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+/**
+ * 전략 분석 배치의 단계별 실행 시간, 전략별 재계산 시간, 조회/저장한 일간 분석 수를 Micrometer 로 기록하고 실행 단위로 집계.
+ * <p>
+ * 파티션이 여러 스레드에서 동시에 기록하므로 실행 단위 집계는 LongAdder 로 누적한다. 집계한 마지막 실행 결과는 actuator
+ * strategyanalysis 엔드포인트로 조회한다.
+ */
+@Slf4j
+@Component
+public class StrategyAnalysisMetrics {
+
+    @Getter
+    @RequiredArgsConstructor
+    public enum Phase {
+        DAILY_ANALYSIS("dailyAnalysis"),       // 스테이징 반영 + 일간 분석 재계산/upsert + 반영한 스테이징 삭제
+        KP_RATIO("kpRatio"),
+        MONTHLY_ANALYSIS("monthlyAnalysis"),
+        ANALYSIS_ROLLUP("analysisRollup"),     // 차트용 주간/월간/연간 집계
+        STATISTICS("statistics"),
+        RANKS("ranks"),
+        ALGORITHM_SCORE("algorithmScore"),  // 알고리즘별 정렬 점수
+        SM_SCORE("smScore"),
+        LEADERBOARD("leaderboard");
+
+        private final String tag;
+    }
+
+    private final Map<Phase, Timer> phaseTimers = new EnumMap<>(Phase.class);
+    private final Timer strategyTimer;
+    private final Counter strategyCounter;
+    private final Counter dailyRowsReadCounter;
+    private final Counter dailyRowsWrittenCounter;
+
+    @Value("${analysis.metrics.slow-strategy-millis:5000}")
+    private long slowStrategyMillis;
+
+    private volatile RunTotals currentRun; // 실행 중인 Job 의 집계, 실행 중이 아니면 null
+
+    private volatile StrategyAnalysisRunResponse lastRun;
+
+    public StrategyAnalysisMetrics(MeterRegistry meterRegistry) {
+        for (Phase phase : Phase.values()) {
+            phaseTimers.put(phase, Timer.builder("strategy.analysis.phase")
+                    .description("전략 분석 단계별 실행 시간")
+                    .tag("phase", phase.getTag())
+                    .register(meterRegistry));
+        }
+        strategyTimer = Timer.builder("strategy.analysis.strategy")
+                .description("전략 한 건의 재계산 시간")
+                .publishPercentileHistogram()
+                .minimumExpectedValue(Duration.ofMillis(1))
+                .maximumExpectedValue(Duration.ofMinutes(1))
+                .register(meterRegistry);
+        strategyCounter = Counter.builder("strategy.analysis.strategies")
+                .description("재계산한 전략 수")
+                .register(meterRegistry);
+        dailyRowsReadCounter = Counter.builder("strategy.analysis.daily.rows.read")
+                .description("재계산을 위해 조회한 일간 분석 수")
+                .register(meterRegistry);
+        dailyRowsWrittenCounter = Counter.builder("strategy.analysis.daily.rows.written")
+                .description("재계산하여 저장한 일간 분석 수")
+                .register(meterRegistry);
+    }
+
+    public <T> T recordPhase(Phase phase, Supplier<T> action) {
+        long start = System.nanoTime();
+        try {
+            return action.get();
+        } finally {
+            addPhase(phase, System.nanoTime() - start);
+        }
+    }
+
+    public void recordPhase(Phase phase, Runnable action) {
+        long start = System.nanoTime();
+        try {
+            action.run();
+        } finally {
+            addPhase(phase, System.nanoTime() - start);
+        }
+    }
+
+    /**
+     * 전략 한 건의 재계산 결과 기록. 오래 걸린 전략은 경고 로그를 남긴다.
+     */
+    public void recordStrategy(Long strategyId, long elapsedNanos, int dailyRowsRead, int dailyRowsWritten) {
+        strategyTimer.record(elapsedNanos, TimeUnit.NANOSECONDS);
+        strategyCounter.increment();
+        dailyRowsReadCounter.increment(dailyRowsRead);
+        dailyRowsWrittenCounter.increment(dailyRowsWritten);
+
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(elapsedNanos);
+        if (elapsedMillis >= slowStrategyMillis) {
+            log.warn("전략 분석 재계산 지연 strategyId={} elapsedMs={} dailyRowsRead={} dailyRowsWritten={}",
+                    strategyId, elapsedMillis, dailyRowsRead, dailyRowsWritten);
+        }
+
+        RunTotals run = currentRun;
+        if (run != null) {
+            run.addStrategy(strategyId, elapsedNanos, dailyRowsRead, dailyRowsWritten);
+        }
+    }
+
+    public void startRun() {
+        currentRun = new RunTotals();
+    }
+
+    /**
+     * 실행 단위 집계를 마치고 마지막 실행 결과로 저장.
+     */
+    public StrategyAnalysisRunResponse finishRun(JobExecution jobExecution) {
+        RunTotals run = currentRun != null ? currentRun : new RunTotals();
+        currentRun = null;
+
+        Map<String, Long> phaseMillis = new LinkedHashMap<>();
+        run.phaseNanos.forEach((phase, nanos) -> phaseMillis.put(phase.getTag(),
+                TimeUnit.NANOSECONDS.toMillis(nanos.sum())));
+
+        long skipCount = jobExecution.getStepExecutions().stream()
+                .mapToLong(StepExecution::getSkipCount)
+                .sum();
+
+        Long durationMillis = jobExecution.getStartTime() != null && jobExecution.getEndTime() != null
+                ? Duration.between(jobExecution.getStartTime(), jobExecution.getEndTime()).toMillis()
+                : null;
+
+        lastRun = StrategyAnalysisRunResponse.builder()
+                .jobExecutionId(jobExecution.getId())
+                .status(jobExecution.getStatus().name())
+                .startedAt(jobExecution.getStartTime())
+                .endedAt(jobExecution.getEndTime())
+                .durationMillis(durationMillis)
+                .strategyCount(run.strategies.sum())
+                .skipCount(skipCount)
+                .dailyRowsRead(run.dailyRowsRead.sum())
+                .dailyRowsWritten(run.dailyRowsWritten.sum())
+                .phaseMillis(phaseMillis)
+                .slowestStrategyId(run.slowestStrategyId)
+                .slowestStrategyMillis(TimeUnit.NANOSECONDS.toMillis(run.slowestNanos))
+                .build();
+        return lastRun;
+    }
+
+    public StrategyAnalysisRunResponse getLastRun() {
+        return lastRun;
+    }
+
+    private void addPhase(Phase phase, long elapsedNanos) {
+        phaseTimers.get(phase).record(elapsedNanos, TimeUnit.NANOSECONDS);
+
+        RunTotals run = currentRun;
+        if (run != null) {
+            run.phaseNanos.get(phase).add(elapsedNanos);
+        }
+    }
+
+    private static class RunTotals {
+
+        private final Map<Phase, LongAdder> phaseNanos = new EnumMap<>(Phase.class);
+        private final LongAdder strategies = new LongAdder();
+        private final LongAdder dailyRowsRead = new LongAdder();
+        private final LongAdder dailyRowsWritten = new LongAdder();
+
+        private Long slowestStrategyId;
+        private long slowestNanos;
+
+        RunTotals() {
+            // 여러 스레드에서 읽으므로 미리 모든 단계를 생성
+            for (Phase phase : Phase.values()) {
+                phaseNanos.put(phase, new LongAdder());
+            }
+        }
+
+        void addStrategy(Long strategyId, long elapsedNanos, int rowsRead, int rowsWritten) {
+            strategies.increment();
+            dailyRowsRead.add(rowsRead);
+            dailyRowsWritten.add(rowsWritten);
+            updateSlowest(strategyId, elapsedNanos);
+        }
+
+        private synchronized void updateSlowest(Long strategyId, long elapsedNanos) {
+            if (elapsedNanos > slowestNanos) {
+                slowestNanos = elapsedNanos;
+                slowestStrategyId = strategyId;
+            }
+        }
+    }
+}
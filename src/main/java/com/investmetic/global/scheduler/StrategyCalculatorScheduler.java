@@ -1,10 +1,11 @@
 package com.investmetic.global.scheduler;
 
-import com.investmetic.domain.strategy.model.entity.DailyAnalysis;
+import com.investmetic.domain.strategy.model.DailyAnalysisSeries;
 import com.investmetic.domain.strategy.model.entity.Strategy;
-import com.investmetic.domain.strategy.repository.DailyAnalysisRepository;
+import com.investmetic.domain.strategy.repository.AnalysisBulkRepository;
 import com.investmetic.domain.strategy.repository.StrategyRepository;
 import com.investmetic.global.util.RoundUtil;
+import com.investmetic.global.util.RunningKpRatio;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.apache.commons.math3.distribution.NormalDistribution;
@@ -15,104 +16,82 @@ import org.springframework.transaction.annotation.Transactional;
 @RequiredArgsConstructor
 public class StrategyCalculatorScheduler {
     private final StrategyRepository strategyRepository;
-    private final DailyAnalysisRepository dailyAnalysisRepository;
+    private final AnalysisBulkRepository analysisBulkRepository;
 
+    /**
+     * 일간 분석 재계산에서 누적 상태로 계산된 KP Ratio 가 있으면 그대로 사용하고, 없으면 (재계산할 일자가 없는 경우) 전체 일자로 계산.
+     */
     @Transactional
-    public void calculateKpRatio(List<DailyAnalysis> strategyDailyAnalyses, Strategy strategy) {
-        Double highProfitLossRate = 0.0;
-        Double minDrawDown = 0.0;
-        Double sumDrawDown = 0.0;
-        Long sumDrawDownPeriod = 0L;
-
-        for (DailyAnalysis strategyDailyAnalysis : strategyDailyAnalyses) {
-            Double currentProfitLossRate = strategyDailyAnalysis.getCumulativeProfitLossRate();
-
-            if (highProfitLossRate > currentProfitLossRate) {
-                // 손익률 인하되는 시점
-                sumDrawDownPeriod++;
-                if (currentProfitLossRate - highProfitLossRate < minDrawDown) {
-                    // DD 갱신
-                    minDrawDown = currentProfitLossRate - highProfitLossRate;
-                }
-            } else {
-                highProfitLossRate = currentProfitLossRate;
-                sumDrawDown += minDrawDown;
-                minDrawDown = 0.0;
-            }
-        }
-
-        long totalTradingDays = strategyDailyAnalyses.size();
-
-        double accumulatedProfitLossRate = strategyDailyAnalyses.get(strategyDailyAnalyses.size() - 1)
-                .getCumulativeProfitLossRate();
+    public void calculateKpRatio(DailyAnalysisSeries strategyDailyAnalyses, Strategy strategy) {
+        Double kpRatio = strategyDailyAnalyses.getKpRatio();
+        strategy.setKpRatio(kpRatio != null ? kpRatio : calculateKpRatio(strategyDailyAnalyses));
+    }
 
-        if (sumDrawDown == 0 || sumDrawDownPeriod == 0) {
-            strategy.setKpRatio(0.0);
-            return;
+    /**
+     * 저장하지 않고 전체 일자로 KP Ratio 만 계산 (일간 분석 수정 미리보기에서도 사용).
+     */
+    public double calculateKpRatio(DailyAnalysisSeries strategyDailyAnalyses) {
+        RunningKpRatio kpRatio = new RunningKpRatio();
+        for (int i = 0; i < strategyDailyAnalyses.size(); i++) {
+            kpRatio.add(strategyDailyAnalyses.getCumulativeProfitLossRate(i));
         }
-        if (Math.sqrt((double) sumDrawDownPeriod / totalTradingDays) == 0) {
-            strategy.setKpRatio(0.0);
-            return;
-        }
-
-        Double kpRatio = accumulatedProfitLossRate / (sumDrawDown * -1 * Math.sqrt(
-                (double) sumDrawDownPeriod / totalTradingDays));
-
-        strategy.setKpRatio(RoundUtil.roundToFifth(kpRatio));
+        return kpRatio.getKpRatio();
     }
 
+    /**
+     * 모든 전략의 SM Score 계산. 전략별 최신 KP Ratio 를 한 번에 조회하여 KP Ratio 의 Z-Score 를 정규분포 CDF 로 환산하고,
+     * KP Ratio 또는 SM Score 가 바뀐 전략만 JDBC batch 로 갱신한다.
+     */
     @Transactional
     public void calculateSmScores() {
-        List<Strategy> strategiesList = strategyRepository.findAll();
-
-        // 1. 각 전략의 최신 KP Ratio를 가져오고 설정
-        setLatestKpRatios(strategiesList);
+        List<Object[]> sources = strategyRepository.findSmScoreSources();
+        int size = sources.size();
+
+        // 1. 각 전략의 최신 KP Ratio
+        long[] strategyIds = new long[size];
+        double[] kpRatios = new double[size];
+        for (int i = 0; i < size; i++) {
+            Object[] row = sources.get(i);
+            strategyIds[i] = ((Number) row[0]).longValue();
+            kpRatios[i] = ((Number) row[1]).doubleValue();
+        }
 
         // 2. KP Ratio의 평균과 표준 편차 계산
-        double[] stats = calculateStatistics(strategiesList);
-        double mean = stats[0];
-        double standardDeviation = stats[1];
-
-        // 3. Z-Score와 SM Score 계산
-        calculateZScoresAndSmScores(strategiesList, mean, standardDeviation);
-
-        // 4. 전략 저장
-        strategyRepository.saveAll(strategiesList);
-    }
-
-    private void setLatestKpRatios(List<Strategy> strategiesList) {
-        strategiesList.forEach(strategy -> {
-            Double kpRatio = dailyAnalysisRepository.findLatestKpRatioByStrategyId(strategy.getStrategyId())
-                    .orElse(0.0);
-            strategy.setKpRatio(kpRatio);
-        });
-    }
+        double mean = 0.0;
+        for (double kpRatio : kpRatios) {
+            mean += kpRatio;
+        }
+        mean = size > 0 ? mean / size : 0.0;
 
-    private double[] calculateStatistics(List<Strategy> strategiesList) {
-        List<Double> kpRatios = strategiesList.stream()
-                .map(Strategy::getKpRatio)
-                .toList();
+        double sumSquaredDeviation = 0.0;
+        for (double kpRatio : kpRatios) {
+            sumSquaredDeviation += (kpRatio - mean) * (kpRatio - mean);
+        }
+        double standardDeviation = size > 0 ? Math.sqrt(sumSquaredDeviation / size) : 0.0;
 
-        double mean = kpRatios.stream().mapToDouble(Double::doubleValue).average().orElse(0.0);
-        double standardDeviation = Math.sqrt(kpRatios.stream()
-                .mapToDouble(kp -> Math.pow(kp - mean, 2))
-                .average()
-                .orElse(0.0));
+        // 3. Z-Score와 SM Score 계산, 값이 바뀐 전략만 앞으로 모은다
+        NormalDistribution standardNormal = new NormalDistribution(0, 1);
+        double[] smScores = new double[size];
+        int changedCount = 0;
+        for (int i = 0; i < size; i++) {
+            double smScore = standardDeviation == 0.0 ? 100.0
+                    : RoundUtil.roundToFifth(standardNormal.cumulativeProbability(
+                            (kpRatios[i] - mean) / standardDeviation) * 100);
+
+            Object[] row = sources.get(i);
+            if (isChanged(row[2], kpRatios[i]) || isChanged(row[3], smScore)) {
+                strategyIds[changedCount] = strategyIds[i];
+                kpRatios[changedCount] = kpRatios[i];
+                smScores[changedCount] = smScore;
+                changedCount++;
+            }
+        }
 
-        return new double[]{mean, standardDeviation};
+        // 4. 바뀐 전략만 저장
+        analysisBulkRepository.updateStrategyScores(strategyIds, kpRatios, smScores, changedCount);
     }
 
-    private void calculateZScoresAndSmScores(List<Strategy> strategiesList, double mean, double standardDeviation) {
-        NormalDistribution standardNormal = new NormalDistribution(0, 1);
-
-        strategiesList.forEach(strategy -> {
-            if (standardDeviation == 0.0) {
-                strategy.setSmScore(100.0);
-            } else {
-                double zScore = (strategy.getKpRatio() - mean) / standardDeviation;
-                double cdfValue = standardNormal.cumulativeProbability(zScore);
-                strategy.setSmScore(RoundUtil.roundToFifth(cdfValue * 100));
-            }
-        });
+    private boolean isChanged(Object current, double value) {
+        return current == null || Double.compare(((Number) current).doubleValue(), value) != 0;
     }
 }
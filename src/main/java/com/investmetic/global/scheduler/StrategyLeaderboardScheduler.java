@@ -0,0 +1,20 @@
+package com.investmetic.global.scheduler;
+
+import com.investmetic.domain.strategy.repository.StrategyLeaderboardRepository;
+import com.investmetic.domain.strategy.repository.StrategyRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class StrategyLeaderboardScheduler {
+    private final StrategyRepository strategyRepository;
+    private final StrategyLeaderboardRepository strategyLeaderboardRepository;
+
+    /**
+     * 순위 갱신이 끝난 뒤 승인, 공개된 전략의 통계로 알고리즘별 순위표를 다시 만든다. 순위표는 tasklet 트랜잭션 커밋 후에 바뀐다.
+     */
+    public void rebuildLeaderboards() {
+        strategyLeaderboardRepository.rebuild(strategyRepository.findLeaderboardStatistics());
+    }
+}
@@ -1,18 +1,18 @@
 package com.investmetic.global.scheduler;
 
+import com.investmetic.domain.strategy.model.DailyAnalysisSeries;
 import com.investmetic.domain.strategy.model.entity.DailyAnalysis;
 import com.investmetic.domain.strategy.model.entity.Strategy;
 import com.investmetic.domain.strategy.model.entity.StrategyStatistics;
 import com.investmetic.domain.strategy.repository.StrategyStatisticsRepository;
 import com.investmetic.global.exception.BusinessException;
 import com.investmetic.global.exception.ErrorCode;
+import com.investmetic.global.util.RunningVariance;
 import java.time.LocalDate;
-import java.time.temporal.ChronoUnit;
-import java.util.Comparator;
-import java.util.List;
 import java.util.Optional;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
 
 @Component
 @RequiredArgsConstructor
@@ -20,65 +20,92 @@ public class StrategyStatisticsScheduler {
 
     private final StrategyStatisticsRepository strategyStatisticsRepository;
 
-    public void calculateStatistics(List<DailyAnalysis> dailyAnalyses) {
-
-        // 처음 일간 분석 데이터
-        DailyAnalysis firstDailyAnalysis = dailyAnalyses.stream()
-                .min(Comparator.comparing(DailyAnalysis::getDailyDate))
-                .orElseThrow(() -> new BusinessException(ErrorCode.DAILY_ANALYSIS_QUERY_FAILED));
+    /**
+     * 전략 통계 계산. 순위는 전체 전략의 재계산이 끝난 뒤 한 번에 갱신한다.
+     *
+     * @return 새 통계가 생성되었거나 순위 계산에 쓰이는 값이 바뀌었는지 여부 (순위 갱신 필요)
+     */
+    public boolean calculateStatistics(DailyAnalysisSeries dailyAnalyses) {
 
-        // 마지막 일간 분석 데이터
-        DailyAnalysis lastDailyAnalysis = dailyAnalyses.stream()
-                .max(Comparator.comparing(DailyAnalysis::getDailyDate))
-                .orElseThrow(() -> new BusinessException(ErrorCode.DAILY_ANALYSIS_QUERY_FAILED));
+        StrategyStatistics calculatedStatistics = createStrategyStatistics(dailyAnalyses);
 
-        StrategyStatistics calculatedStatistics = createStrategyStatistics(dailyAnalyses, firstDailyAnalysis,
-                lastDailyAnalysis);
+        Strategy strategy = dailyAnalyses.getStrategy();
 
         Optional<StrategyStatistics> optionalStrategyStatistics = strategyStatisticsRepository.findById(
-                firstDailyAnalysis.getStrategy().getStrategyId());
-
-        Strategy strategy = firstDailyAnalysis.getStrategy();
+                strategy.getStrategyId());
 
         // 이미 존재하는 통계일때
         if (optionalStrategyStatistics.isPresent()) {
             // 기존 통계가 있으면 업데이트
             StrategyStatistics existingStatistics = optionalStrategyStatistics.get();
+            boolean rankValuesChanged = !existingStatistics.hasSameRankValues(calculatedStatistics);
             existingStatistics.updateExistingStatistics(calculatedStatistics);
-            return;
+            return rankValuesChanged;
         }
 
         // 새 통계 생성 후 설정
         strategy.setStrategyStatistics(calculatedStatistics);
         strategyStatisticsRepository.save(calculatedStatistics);
+        return true;
+    }
 
-        // mdd, 수익률표준편차, 승률 순위 업데이트 쿼리
-        strategyStatisticsRepository.updateRanks();
+    /**
+     * 새 일간 분석이 없는 전략도 최근 1년 수익률이 날짜에 맞게 바뀌도록 모든 전략의 최근 1년 수익률만 다시 계산 (매일 실행).
+     *
+     * @return 최근 1년 수익률이 바뀐 전략 수
+     */
+    @Transactional
+    public int refreshRecentYearProfitRates() {
+        return strategyStatisticsRepository.updateRecentYearProfitRates(LocalDate.now().minusYears(1));
     }
 
     /**
-     * 전략 통계 계산 및 엔티티 생성
+     * 저장하지 않고 전략 통계만 계산 (일간 분석 수정 미리보기에서도 사용). 일간 분석은 날짜 오름차순이므로 처음/마지막 일자는 양 끝 값을
+     * 사용하고, 연속 손익일수와 일간 손익률 표준편차는 일간 분석을 한 번만 순회하여 계산한다.
      */
-    private StrategyStatistics createStrategyStatistics(List<DailyAnalysis> dailyAnalyses,
-                                                        DailyAnalysis firstDailyAnalysis,
-                                                        DailyAnalysis lastDailyAnalysis) {
+    public StrategyStatistics createStrategyStatistics(DailyAnalysisSeries dailyAnalyses) {
+        DailyAnalysis lastDailyAnalysis = dailyAnalyses.getLastDailyAnalysis();
+        if (dailyAnalyses.isEmpty() || lastDailyAnalysis == null) {
+            throw new BusinessException(ErrorCode.DAILY_ANALYSIS_QUERY_FAILED);
+        }
+        int totalTradeDays = dailyAnalyses.size();
+        int last = totalTradeDays - 1;
+
+        int currentProfitDays = 0; // 현재까지 연속 이익 일수
+        int currentLossDays = 0; // 현재까지 연속 손실 일수
+        int maxConsecutiveProfitDays = 0;
+        int maxConsecutiveLossDays = 0;
+        RunningVariance dailyProfitLossRates = new RunningVariance(); // 일간 손익률 분산
+
+        for (int i = 0; i < totalTradeDays; i++) {
+            long dailyProfitLoss = dailyAnalyses.getDailyProfitLoss(i);
+            if (dailyProfitLoss > 0) {
+                currentProfitDays++;
+                currentLossDays = 0;
+                maxConsecutiveProfitDays = Math.max(maxConsecutiveProfitDays, currentProfitDays);
+            } else if (dailyProfitLoss < 0) {
+                currentLossDays++;
+                currentProfitDays = 0;
+                maxConsecutiveLossDays = Math.max(maxConsecutiveLossDays, currentLossDays);
+            } else {
+                currentProfitDays = 0;
+                currentLossDays = 0;
+            }
+
+            dailyProfitLossRates.add(dailyAnalyses.getDailyProfitLossRate(i));
+        }
 
         // 시작일
-        LocalDate startDate = firstDailyAnalysis.getDailyDate();
+        LocalDate startDate = dailyAnalyses.getDailyDate(0);
 
         // 종료일
-        LocalDate endDate = lastDailyAnalysis.getDailyDate();
+        LocalDate endDate = dailyAnalyses.getDailyDate(last);
 
-        int operationPeriod = (int) ChronoUnit.DAYS.between(firstDailyAnalysis.getDailyDate(),
-                lastDailyAnalysis.getDailyDate());
+        int operationPeriod = dailyAnalyses.getEpochDay(last) - dailyAnalyses.getEpochDay(0);
         Double recentYearProfitRate = calculateRecentYearProfitRate(dailyAnalyses);
-        int currentConsecutiveProfitLossDays = calculateCurrentConsecutiveProfitLossDays(dailyAnalyses);
-        int maxConsecutiveProfitDays = calculateMaxConsecutiveDays(dailyAnalyses, true);
-        int maxConsecutiveLossDays = calculateMaxConsecutiveDays(dailyAnalyses, false);
-        int totalTradeDays = dailyAnalyses.size();
-        double dailyProfitLossStdDev = calculateStdDev(
-                dailyAnalyses.stream().map(DailyAnalysis::getDailyProfitLossRate).toList()
-        );
+        // 현재 연속 손익일수는 마지막 일자까지 이어진 연속 이익 일수
+        int currentConsecutiveProfitLossDays = currentProfitDays;
+        double dailyProfitLossStdDev = dailyProfitLossRates.getPopulationStandardDeviation();
 
         // 빌더를 이용해 객체 생성
         return StrategyStatistics.builder()
@@ -86,7 +113,7 @@ public class StrategyStatisticsScheduler {
                 .operationPeriod(operationPeriod)
                 .cumulativeTransactionAmount(lastDailyAnalysis.getCumulativeTransactionAmount())
                 .startDate(startDate)
-                .principal(firstDailyAnalysis.getPrincipal())
+                .principal(dailyAnalyses.getPrincipal(0))
                 .endDate(endDate)
                 .daysSincePeakUpdate(lastDailyAnalysis.getDaysSincePeak())
                 .cumulativeProfitAmount(lastDailyAnalysis.getCumulativeProfitLoss())
@@ -120,92 +147,21 @@ public class StrategyStatisticsScheduler {
     /**
      * 최근 1년 수익률
      */
-    private Double calculateRecentYearProfitRate(List<DailyAnalysis> dailyAnalyses) {
+    private Double calculateRecentYearProfitRate(DailyAnalysisSeries dailyAnalyses) {
 
         LocalDate oneYearAgo = LocalDate.now().minusYears(1);
 
-        List<DailyAnalysis> recentYearAnalyses = dailyAnalyses.stream()
-                .filter(d -> !d.getDailyDate().isBefore(oneYearAgo))
-                .toList();
+        int startIndex = dailyAnalyses.indexOf(oneYearAgo);
 
         // 최근 1년 수익률이 없으면 0.0반환
-        if (recentYearAnalyses.isEmpty()) {
+        if (startIndex == dailyAnalyses.size()) {
             return 0.0;
         }
 
-        double startBalance = recentYearAnalyses.stream()
-                .min(Comparator.comparing(DailyAnalysis::getDailyDate))
-                .map(DailyAnalysis::getBalance)
-                .orElse(0L);
+        double startBalance = dailyAnalyses.getBalance(startIndex);
 
-        double endBalance = recentYearAnalyses.stream()
-                .max(Comparator.comparing(DailyAnalysis::getDailyDate))
-                .map(DailyAnalysis::getBalance)
-                .orElse(0L);
+        double endBalance = dailyAnalyses.getBalance(dailyAnalyses.size() - 1);
 
         return (endBalance - startBalance) / startBalance * 100;
     }
-
-    /**
-     * 현재 연속 손익일수
-     */
-    private int calculateCurrentConsecutiveProfitLossDays(List<DailyAnalysis> dailyAnalyses) {
-
-        List<DailyAnalysis> sortedByDateDesc = dailyAnalyses.stream()
-                .sorted(Comparator.comparing(DailyAnalysis::getDailyDate).reversed())
-                .toList();
-
-        int currentConsecutiveProfitLossDays = 0;
-
-        for (DailyAnalysis dailyAnalysis : sortedByDateDesc) {
-            if (dailyAnalysis.getDailyProfitLoss() > 0) {
-                currentConsecutiveProfitLossDays++;
-            } else {
-                break;
-            }
-        }
-
-        return currentConsecutiveProfitLossDays;
-    }
-
-    /**
-     * 최대 연속 이익, 손실 일수 계산
-     */
-    private int calculateMaxConsecutiveDays(List<DailyAnalysis> dailyAnalyses, boolean isProfit) {
-        int maxStreak = 0, currentStreak = 0;
-
-        for (DailyAnalysis dailyAnalysis : dailyAnalyses) {
-            if ((isProfit && dailyAnalysis.getDailyProfitLoss() > 0) ||
-                    (!isProfit && dailyAnalysis.getDailyProfitLoss() < 0)) {
-                currentStreak++;
-                maxStreak = Math.max(maxStreak, currentStreak);
-            } else {
-                currentStreak = 0;
-            }
-        }
-
-        return maxStreak;
-    }
-
-
-    /**
-     * 수익률 표준편차 계산
-     *
-     * @param dailyProfits : 일간수익률 리스트
-     * @return
-     */
-    private double calculateStdDev(List<Double> dailyProfits) {
-        if (dailyProfits.isEmpty()) {
-            return 0.0;
-        }
-
-        double avg = dailyProfits.stream().mapToDouble(Double::doubleValue).average().orElse(0.0);
-
-        double variance = dailyProfits.stream()
-                .mapToDouble(value -> Math.pow(value - avg, 2))
-                .average()
-                .orElse(0.0);
-
-        return Math.sqrt(variance);
-    }
 }
@@ -0,0 +1,36 @@
+package com.investmetic.global.scheduler.batch;
+
+import com.investmetic.domain.strategy.dto.response.StrategyAnalysisRunResponse;
+import com.investmetic.global.scheduler.StrategyAnalysisMetrics;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.batch.core.JobExecutionListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 전략 분석 배치 실행 단위 집계 시작/종료. 종료 시 실행 요약을 한 줄 로그로 남긴다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class StrategyAnalysisJobListener implements JobExecutionListener {
+
+    private final StrategyAnalysisMetrics strategyAnalysisMetrics;
+
+    @Override
+    public void beforeJob(JobExecution jobExecution) {
+        strategyAnalysisMetrics.startRun();
+    }
+
+    @Override
+    public void afterJob(JobExecution jobExecution) {
+        StrategyAnalysisRunResponse summary = strategyAnalysisMetrics.finishRun(jobExecution);
+        log.info("전략 분석 배치 요약 jobExecutionId={} status={} durationMs={} strategies={} skipped={} "
+                        + "dailyRowsRead={} dailyRowsWritten={} phaseMs={} slowestStrategyId={} slowestStrategyMs={}",
+                summary.getJobExecutionId(), summary.getStatus(), summary.getDurationMillis(),
+                summary.getStrategyCount(), summary.getSkipCount(), summary.getDailyRowsRead(),
+                summary.getDailyRowsWritten(), summary.getPhaseMillis(), summary.getSlowestStrategyId(),
+                summary.getSlowestStrategyMillis());
+    }
+}
@@ -0,0 +1,49 @@
+package com.investmetic.global.scheduler.batch;
+
+import java.util.HashMap;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.core.partition.support.Partitioner;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * 재계산 대상 전략 ID 범위를 gridSize 개의 구간으로 나누는 파티셔너. 구간(minId ~ maxId)은 각 파티션 step 의 ExecutionContext 에 저장되므로
+ * 재시작 시에는 다시 나누지 않고 실패한 파티션만 이어서 실행된다.
+ */
+@RequiredArgsConstructor
+public class StrategyIdRangePartitioner implements Partitioner {
+
+    public static final String MIN_ID = "minId";
+    public static final String MAX_ID = "maxId";
+
+    private static final String PENDING_STRATEGY_ID_RANGE_SQL =
+            "SELECT MIN(strategy_id) AS min_id, MAX(strategy_id) AS max_id FROM strategy_recalculation_queue";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Map<String, ExecutionContext> partition(int gridSize) {
+        Map<String, ExecutionContext> partitions = new HashMap<>();
+
+        Long[] range = jdbcTemplate.queryForObject(PENDING_STRATEGY_ID_RANGE_SQL,
+                (rs, rowNum) -> new Long[]{rs.getObject("min_id", Long.class), rs.getObject("max_id", Long.class)});
+        if (range == null || range[0] == null) {
+            // 재계산할 전략 없음
+            return partitions;
+        }
+
+        long minId = range[0];
+        long maxId = range[1];
+        long rangeSize = (maxId - minId) / Math.max(gridSize, 1) + 1;
+
+        int partitionNumber = 0;
+        for (long start = minId; start <= maxId; start += rangeSize) {
+            ExecutionContext context = new ExecutionContext();
+            context.putLong(MIN_ID, start);
+            context.putLong(MAX_ID, Math.min(start + rangeSize - 1, maxId));
+            partitions.put("partition" + partitionNumber++, context);
+        }
+        return partitions;
+    }
+}
@@ -0,0 +1,85 @@
+package com.investmetic.global.scheduler.batch;
+
+import com.investmetic.domain.strategy.model.DailyAnalysisSeries;
+import com.investmetic.domain.strategy.model.entity.Strategy;
+import com.investmetic.domain.strategy.repository.StrategyRecalculationQueueRepository;
+import com.investmetic.domain.strategy.repository.StrategyRepository;
+import com.investmetic.global.scheduler.AnalysisRollupScheduler;
+import com.investmetic.global.scheduler.DailyAnalysisScheduler;
+import com.investmetic.global.scheduler.MonthlyAnalysisScheduler;
+import com.investmetic.global.scheduler.SchedulerLeaderLease;
+import com.investmetic.global.scheduler.StrategyAnalysisMetrics;
+import com.investmetic.global.scheduler.StrategyAnalysisMetrics.Phase;
+import com.investmetic.global.scheduler.StrategyCalculatorScheduler;
+import com.investmetic.global.scheduler.StrategyStatisticsScheduler;
+import java.time.LocalDate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.batch.item.ItemProcessor;
+import org.springframework.stereotype.Component;
+
+/**
+ * 전략 한 건의 일간 분석 -> KP Ratio -> 월간 분석 -> 전략 통계 -> 차트용 집계 재계산.
+ * <p>
+ * chunk 트랜잭션 안에서 실행되므로 계산 결과와 재계산 큐 삭제는 chunk 가 커밋될 때 함께 커밋되고, 실패하면 chunk 전체가 롤백된 뒤
+ * 재시도/건너뛰기 정책에 따라 다시 처리된다.
+ */
+@Component
+@RequiredArgsConstructor
+public class StrategyRecalculationProcessor implements
+        ItemProcessor<StrategyRecalculationTarget, StrategyRecalculationResult> {
+
+    private final StrategyRepository strategyRepository;
+    private final StrategyRecalculationQueueRepository strategyRecalculationQueueRepository;
+    private final DailyAnalysisScheduler dailyAnalysisScheduler;
+    private final StrategyCalculatorScheduler strategyCalculatorScheduler;
+    private final MonthlyAnalysisScheduler monthlyAnalysisScheduler;
+    private final StrategyStatisticsScheduler strategyStatisticsScheduler;
+    private final AnalysisRollupScheduler analysisRollupScheduler;
+    private final SchedulerLeaderLease schedulerLeaderLease;
+    private final StrategyAnalysisMetrics strategyAnalysisMetrics;
+
+    @Override
+    public StrategyRecalculationResult process(StrategyRecalculationTarget target) {
+        // 다른 서버가 리더가 되었으면 커밋하지 않고 step 실패
+        schedulerLeaderLease.verifyFencingToken();
+
+        Strategy strategy = strategyRepository.findById(target.getStrategyId()).orElse(null);
+        if (strategy == null) {
+            // 삭제된 전략은 큐에서만 제거
+            strategyRecalculationQueueRepository.dequeue(target.getStrategyId(), target.getVersion());
+            return null;
+        }
+
+        long start = System.nanoTime();
+
+        // 수정된 일자부터 재계산한 전략의 전체 일간 분석 (한 번 조회, 한 번에 저장)
+        DailyAnalysisSeries strategyDailyAnalyses = strategyAnalysisMetrics.recordPhase(Phase.DAILY_ANALYSIS,
+                () -> dailyAnalysisScheduler.recalculateDailyAnalyses(strategy, target.getFromDate()));
+
+        // 일간 분석이 모두 삭제된 전략은 재계산할 지표 없음
+        boolean ranksChanged = false;
+        if (!strategyDailyAnalyses.isEmpty()) {
+            strategyAnalysisMetrics.recordPhase(Phase.KP_RATIO,
+                    () -> strategyCalculatorScheduler.calculateKpRatio(strategyDailyAnalyses, strategy));
+            strategyAnalysisMetrics.recordPhase(Phase.MONTHLY_ANALYSIS,
+                    () -> monthlyAnalysisScheduler.calculateMonthlyAnalysis(strategyDailyAnalyses));
+            ranksChanged = strategyAnalysisMetrics.recordPhase(Phase.STATISTICS,
+                    () -> strategyStatisticsScheduler.calculateStatistics(strategyDailyAnalyses));
+        }
+
+        // 일간 분석이 모두 삭제된 기간의 집계도 지워야 하므로 항상 실행
+        strategyAnalysisMetrics.recordPhase(Phase.ANALYSIS_ROLLUP,
+                () -> analysisRollupScheduler.calculateRollups(strategyDailyAnalyses));
+
+        strategyRecalculationQueueRepository.dequeue(target.getStrategyId(), target.getVersion());
+
+        // 재계산 시작 일자(fromDate 보다 이른 스테이징이 있으면 그 일자) 이후 일간 분석만 다시 계산되어 저장됨
+        LocalDate recalculatedFrom = strategyDailyAnalyses.getRecalculatedFrom();
+        int dailyRowsWritten = recalculatedFrom != null
+                ? strategyDailyAnalyses.size() - strategyDailyAnalyses.indexOf(recalculatedFrom)
+                : 0;
+        strategyAnalysisMetrics.recordStrategy(target.getStrategyId(), System.nanoTime() - start,
+                strategyDailyAnalyses.size(), dailyRowsWritten);
+        return new StrategyRecalculationResult(target.getStrategyId(), ranksChanged);
+    }
+}
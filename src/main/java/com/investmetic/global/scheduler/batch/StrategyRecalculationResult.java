@@ -0,0 +1,16 @@
+package com.investmetic.global.scheduler.batch;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 전략 한 건의 재계산 결과
+ */
+@Getter
+@RequiredArgsConstructor
+public class StrategyRecalculationResult {
+
+    private final Long strategyId;
+
+    private final boolean ranksChanged; // 새 통계 생성 또는 순위 계산 값 변경 여부 (순위 갱신 필요)
+}
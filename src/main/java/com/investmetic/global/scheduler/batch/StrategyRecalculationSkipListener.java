@@ -0,0 +1,24 @@
+package com.investmetic.global.scheduler.batch;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.SkipListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * 건너뛴 전략 로그. 건너뛴 전략의 스테이징과 재계산 큐는 남아 다음 실행에서 다시 계산된다.
+ */
+@Slf4j
+@Component
+public class StrategyRecalculationSkipListener implements
+        SkipListener<StrategyRecalculationTarget, StrategyRecalculationResult> {
+
+    @Override
+    public void onSkipInProcess(StrategyRecalculationTarget target, Throwable t) {
+        log.error("전략 분석 재계산 실패 strategyId={}", target.getStrategyId(), t);
+    }
+
+    @Override
+    public void onSkipInWrite(StrategyRecalculationResult result, Throwable t) {
+        log.error("전략 분석 재계산 결과 저장 실패 strategyId={}", result.getStrategyId(), t);
+    }
+}
@@ -0,0 +1,19 @@
+package com.investmetic.global.scheduler.batch;
+
+import java.time.LocalDate;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 재계산 큐에서 읽은 전략과 재계산 시작 일자
+ */
+@Getter
+@RequiredArgsConstructor
+public class StrategyRecalculationTarget {
+
+    private final Long strategyId;
+
+    private final LocalDate fromDate;
+
+    private final long version; // 읽었을 때의 큐 version
+}
@@ -0,0 +1,46 @@
+package com.investmetic.global.scheduler.batch;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.batch.core.ExitStatus;
+import org.springframework.batch.core.StepExecution;
+import org.springframework.batch.core.StepExecutionListener;
+import org.springframework.batch.core.configuration.annotation.StepScope;
+import org.springframework.batch.item.Chunk;
+import org.springframework.batch.item.ItemWriter;
+import org.springframework.stereotype.Component;
+
+/**
+ * 재계산이 끝난 chunk 의 결과를 파티션 step 의 ExecutionContext 에 기록. ExecutionContext 는 chunk 와 같은 트랜잭션으로 저장되므로 재시작
+ * 후에도 이미 커밋된 chunk 에서 순위 갱신이 필요한 통계 변경이 있었는지 알 수 있다.
+ */
+@Slf4j
+@Component
+@StepScope
+public class StrategyRecalculationWriter implements ItemWriter<StrategyRecalculationResult>, StepExecutionListener {
+
+    public static final String RANKS_CHANGED = "ranksChanged";
+
+    private StepExecution stepExecution;
+
+    @Override
+    public void beforeStep(StepExecution stepExecution) {
+        this.stepExecution = stepExecution;
+    }
+
+    @Override
+    public ExitStatus afterStep(StepExecution stepExecution) {
+        log.info("전략 분석 재계산 완료 step={} write={} skip={}", stepExecution.getStepName(),
+                stepExecution.getWriteCount(), stepExecution.getSkipCount());
+        return stepExecution.getExitStatus();
+    }
+
+    @Override
+    public void write(Chunk<? extends StrategyRecalculationResult> chunk) {
+        boolean ranksChanged = chunk.getItems().stream()
+                .anyMatch(StrategyRecalculationResult::isRanksChanged);
+
+        if (ranksChanged) {
+            stepExecution.getExecutionContext().put(RANKS_CHANGED, true);
+        }
+    }
+}
@@ -0,0 +1,30 @@
+package com.investmetic.global.util;
+
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * 트랜잭션 커밋 후에 실행할 작업 등록 유틸 클래스
+ * <p>
+ * Redis 캐시, 순위표처럼 DB 와 함께 롤백되지 않는 저장소는 커밋 전에 반영하면 다른 요청이 커밋 전 데이터로 다시 채우거나 롤백된 변경이 남는다.
+ */
+public class AfterCommitUtil {
+
+    private AfterCommitUtil() {
+    }
+
+    // 트랜잭션 안이면 커밋 후(롤백되면 실행하지 않음), 트랜잭션 밖이면 바로 실행
+    public static void run(Runnable task) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            task.run();
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                task.run();
+            }
+        });
+    }
+}
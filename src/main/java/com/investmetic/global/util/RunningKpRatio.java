@@ -0,0 +1,57 @@
+package com.investmetic.global.util;
+
+import jakarta.persistence.Embeddable;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 누적 손익률을 하루씩 추가하면서 KP Ratio 를 O(1)로 갱신하는 누적 상태
+ * <p>
+ * 손익률 고점, 진행 중인 DD, 끝난 DD 합계와 DD 기간을 보관한다. 진행 중인 DD 는 손익률이 고점을 회복한 날 합계에 더해진다. 엔티티에 임베디드로
+ * 저장하여 다음 계산에서 이어서 사용할 수 있다.
+ */
+@Embeddable
+@Getter
+@NoArgsConstructor
+public class RunningKpRatio {
+
+    private long count; // 거래일수
+
+    private double highProfitLossRate; // 누적 손익률 고점
+
+    private double minDrawdown; // 진행 중인 DD (고점 대비 최저 손익률 차이)
+
+    private double sumDrawdown; // 끝난 DD 합계
+
+    private long drawdownPeriod; // DD 기간 (고점보다 낮았던 일수)
+
+    private double lastProfitLossRate; // 마지막 일자의 누적 손익률
+
+    public void add(double cumulativeProfitLossRate) {
+        count++;
+        lastProfitLossRate = cumulativeProfitLossRate;
+
+        if (highProfitLossRate > cumulativeProfitLossRate) {
+            // 손익률 인하되는 시점
+            drawdownPeriod++;
+            if (cumulativeProfitLossRate - highProfitLossRate < minDrawdown) {
+                // DD 갱신
+                minDrawdown = cumulativeProfitLossRate - highProfitLossRate;
+            }
+        } else {
+            highProfitLossRate = cumulativeProfitLossRate;
+            sumDrawdown += minDrawdown;
+            minDrawdown = 0.0;
+        }
+    }
+
+    // KP Ratio = 누적 손익률 / (DD 합계 * -1 * sqrt(DD 기간 / 거래일수)), DD 가 없으면 0
+    public double getKpRatio() {
+        if (sumDrawdown == 0 || drawdownPeriod == 0) {
+            return 0.0;
+        }
+
+        double kpRatio = lastProfitLossRate / (sumDrawdown * -1 * Math.sqrt((double) drawdownPeriod / count));
+        return RoundUtil.roundToFifth(kpRatio);
+    }
+}
@@ -0,0 +1,40 @@
+package com.investmetic.global.util;
+
+import jakarta.persistence.Embeddable;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 값을 하나씩 추가하면서 평균과 분산을 O(1)로 갱신하는 누적 통계 (Welford 알고리즘)
+ * <p>
+ * 편차 제곱합(m2)을 직접 누적하므로 값이 크거나 개수가 많아도 제곱합 - 평균 제곱 방식의 자릿수 손실이 없다. 엔티티에 임베디드로 저장하여 다음 계산에서 이어서
+ * 사용할 수 있다.
+ */
+@Embeddable
+@Getter
+@NoArgsConstructor
+public class RunningVariance {
+
+    private long count; // 개수
+
+    private double mean; // 평균
+
+    private double m2; // 편차 제곱합
+
+    public void add(double value) {
+        count++;
+        double delta = value - mean;
+        mean += delta / count;
+        m2 += delta * (value - mean);
+    }
+
+    // 모분산
+    public double getPopulationVariance() {
+        return count > 0 ? m2 / count : 0.0;
+    }
+
+    // 모표준편차
+    public double getPopulationStandardDeviation() {
+        return Math.sqrt(getPopulationVariance());
+    }
+}
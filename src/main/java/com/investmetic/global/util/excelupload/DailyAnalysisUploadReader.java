@@ -0,0 +1,242 @@
+package com.investmetic.global.util.excelupload;
+
+import com.investmetic.domain.strategy.dto.request.TraderDailyAnalysisRequestDto;
+import com.investmetic.global.exception.BusinessException;
+import com.investmetic.global.exception.ErrorCode;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Consumer;
+import javax.xml.parsers.ParserConfigurationException;
+import org.apache.poi.UnsupportedFileFormatException;
+import org.apache.poi.openxml4j.exceptions.OpenXML4JException;
+import org.apache.poi.openxml4j.opc.OPCPackage;
+import org.apache.poi.ss.usermodel.DataFormatter;
+import org.apache.poi.ss.usermodel.DateUtil;
+import org.apache.poi.ss.util.CellReference;
+import org.apache.poi.util.XMLHelper;
+import org.apache.poi.xssf.eventusermodel.ReadOnlySharedStringsTable;
+import org.apache.poi.xssf.eventusermodel.XSSFReader;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler;
+import org.apache.poi.xssf.eventusermodel.XSSFSheetXMLHandler.SheetContentsHandler;
+import org.apache.poi.xssf.model.StylesTable;
+import org.apache.poi.xssf.usermodel.XSSFComment;
+import org.springframework.stereotype.Component;
+import org.springframework.web.multipart.MultipartFile;
+import org.xml.sax.InputSource;
+import org.xml.sax.SAXException;
+import org.xml.sax.XMLReader;
+
+/**
+ * 일간 분석 업로드 파일(CSV, XLSX)을 한 행씩 읽어 chunkSize 개씩 전달.
+ * <p>
+ * 컬럼 순서는 일자, 입출금, 일손익이며 첫 행이 일자가 아니면 제목 행으로 보고 건너뛴다. XLSX 는 POI 이벤트(SAX) API 로 첫 번째 시트만 읽으므로
+ * 파일 전체를 워크북으로 만들지 않는다.
+ */
+@Component
+public class DailyAnalysisUploadReader {
+
+    private static final int DATE_COLUMN = 0;
+    private static final int TRANSACTION_COLUMN = 1;
+    private static final int DAILY_PROFIT_LOSS_COLUMN = 2;
+    private static final int COLUMN_COUNT = 3;
+
+    public void read(MultipartFile file, int chunkSize,
+                     Consumer<List<TraderDailyAnalysisRequestDto>> chunkConsumer) {
+        String fileName = file.getOriginalFilename() != null
+                ? file.getOriginalFilename().toLowerCase(Locale.ROOT)
+                : "";
+        RowCollector rowCollector = new RowCollector(Math.max(chunkSize, 1), chunkConsumer);
+
+        try (InputStream inputStream = file.getInputStream()) {
+            if (fileName.endsWith(".csv")) {
+                readCsv(inputStream, rowCollector);
+            } else if (fileName.endsWith(".xlsx")) {
+                readXlsx(inputStream, rowCollector);
+            } else {
+                throw new BusinessException("CSV 또는 XLSX 파일만 업로드할 수 있습니다.",
+                        ErrorCode.DAILY_ANALYSIS_EXCEL_UPLOAD_FAILED);
+            }
+        } catch (IOException | SAXException | OpenXML4JException | ParserConfigurationException
+                 | UnsupportedFileFormatException e) {
+            throw new BusinessException(ErrorCode.DAILY_ANALYSIS_EXCEL_UPLOAD_FAILED);
+        }
+        rowCollector.flush();
+    }
+
+    private void readCsv(InputStream inputStream, RowCollector rowCollector) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        String line;
+        int rowNum = 0;
+        while ((line = reader.readLine()) != null) {
+            rowNum++;
+            // UTF-8 BOM 제거
+            if (rowNum == 1 && line.startsWith("\uFEFF")) {
+                line = line.substring(1);
+            }
+            rowCollector.add(rowNum, splitCsvLine(line));
+        }
+    }
+
+    private void readXlsx(InputStream inputStream, RowCollector rowCollector)
+            throws IOException, SAXException, OpenXML4JException, ParserConfigurationException {
+        try (OPCPackage opcPackage = OPCPackage.open(inputStream)) {
+            XSSFReader xssfReader = new XSSFReader(opcPackage);
+            ReadOnlySharedStringsTable sharedStrings = new ReadOnlySharedStringsTable(opcPackage);
+            StylesTable styles = xssfReader.getStylesTable();
+
+            Iterator<InputStream> sheets = xssfReader.getSheetsData();
+            if (!sheets.hasNext()) {
+                return;
+            }
+            try (InputStream sheet = sheets.next()) {
+                XMLReader parser = XMLHelper.newXMLReader();
+                parser.setContentHandler(new XSSFSheetXMLHandler(styles, null, sharedStrings,
+                        new SheetRowHandler(rowCollector), new RawValueDataFormatter(), false));
+                parser.parse(new InputSource(sheet));
+            }
+        }
+    }
+
+    // 따옴표로 감싼 값 안의 쉼표(천 단위 구분 등)는 구분자로 보지 않음
+    private static String[] splitCsvLine(String line) {
+        List<String> cells = new ArrayList<>(COLUMN_COUNT);
+        StringBuilder cell = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (c == '"') {
+                quoted = !quoted;
+            } else if (c == ',' && !quoted) {
+                cells.add(cell.toString());
+                cell.setLength(0);
+            } else {
+                cell.append(c);
+            }
+        }
+        cells.add(cell.toString());
+        return cells.toArray(new String[0]);
+    }
+
+    /**
+     * 셀 서식과 관계없이 날짜는 yyyy-MM-dd, 숫자는 지수 표기나 천 단위 구분 없이 그대로 변환.
+     */
+    private static class RawValueDataFormatter extends DataFormatter {
+
+        @Override
+        public String formatRawCellContents(double value, int formatIndex, String formatString,
+                                            boolean use1904Windowing) {
+            if (DateUtil.isADateFormat(formatIndex, formatString) && DateUtil.isValidExcelDate(value)) {
+                return DateUtil.getLocalDateTime(value, use1904Windowing).toLocalDate().toString();
+            }
+            return BigDecimal.valueOf(value).stripTrailingZeros().toPlainString();
+        }
+    }
+
+    private static class SheetRowHandler implements SheetContentsHandler {
+
+        private final RowCollector rowCollector;
+        private String[] cells;
+        private int nextColumn;
+
+        SheetRowHandler(RowCollector rowCollector) {
+            this.rowCollector = rowCollector;
+        }
+
+        @Override
+        public void startRow(int rowNum) {
+            cells = new String[COLUMN_COUNT];
+            nextColumn = 0;
+        }
+
+        @Override
+        public void endRow(int rowNum) {
+            rowCollector.add(rowNum + 1, cells);
+        }
+
+        @Override
+        public void cell(String cellReference, String formattedValue, XSSFComment comment) {
+            int column = cellReference != null ? new CellReference(cellReference).getCol() : nextColumn;
+            nextColumn = column + 1;
+            if (column < COLUMN_COUNT) {
+                cells[column] = formattedValue;
+            }
+        }
+    }
+
+    private static class RowCollector {
+
+        private final int chunkSize;
+        private final Consumer<List<TraderDailyAnalysisRequestDto>> chunkConsumer;
+        private List<TraderDailyAnalysisRequestDto> chunk;
+        private boolean firstRow = true;
+
+        RowCollector(int chunkSize, Consumer<List<TraderDailyAnalysisRequestDto>> chunkConsumer) {
+            this.chunkSize = chunkSize;
+            this.chunkConsumer = chunkConsumer;
+            this.chunk = new ArrayList<>(chunkSize);
+        }
+
+        void add(int rowNum, String[] cells) {
+            String date = cell(cells, DATE_COLUMN);
+            if (date.isEmpty() && cell(cells, TRANSACTION_COLUMN).isEmpty()
+                    && cell(cells, DAILY_PROFIT_LOSS_COLUMN).isEmpty()) {
+                return; // 빈 행
+            }
+
+            boolean header = firstRow && !Character.isDigit(date.isEmpty() ? ' ' : date.charAt(0));
+            firstRow = false;
+            if (header) {
+                return;
+            }
+
+            chunk.add(TraderDailyAnalysisRequestDto.builder()
+                    .date(parseDate(rowNum, date))
+                    .transaction(parseAmount(rowNum, cell(cells, TRANSACTION_COLUMN)))
+                    .dailyProfitLoss(parseAmount(rowNum, cell(cells, DAILY_PROFIT_LOSS_COLUMN)))
+                    .build());
+            if (chunk.size() >= chunkSize) {
+                flush();
+            }
+        }
+
+        void flush() {
+            if (!chunk.isEmpty()) {
+                chunkConsumer.accept(chunk);
+                chunk = new ArrayList<>(chunkSize);
+            }
+        }
+
+        private static String cell(String[] cells, int column) {
+            return column < cells.length && cells[column] != null ? cells[column].trim() : "";
+        }
+
+        // yyyy-MM-dd, yyyy/MM/dd, yyyy.MM.dd 허용
+        private static LocalDate parseDate(int rowNum, String value) {
+            try {
+                return LocalDate.parse(value.replace('/', '-').replace('.', '-'));
+            } catch (DateTimeParseException e) {
+                throw new BusinessException(rowNum + "행: " + ErrorCode.INVALID_DATE.getMessage(),
+                        ErrorCode.INVALID_DATE);
+            }
+        }
+
+        private static Long parseAmount(int rowNum, String value) {
+            try {
+                return new BigDecimal(value.replace(",", "")).longValueExact();
+            } catch (NumberFormatException | ArithmeticException e) {
+                throw new BusinessException(rowNum + "행: 입출금, 일손익은 정수로 입력해주세요.",
+                        ErrorCode.DAILY_ANALYSIS_EXCEL_UPLOAD_FAILED);
+            }
+        }
+    }
+}
@@ -0,0 +1,197 @@
+package com.investmetic.domain.strategy.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.investmetic.domain.TestEntity.TestEntityFactory;
+import com.investmetic.domain.strategy.model.IsApproved;
+import com.investmetic.domain.strategy.model.IsPublic;
+import com.investmetic.domain.strategy.model.entity.DailyAnalysis;
+import com.investmetic.domain.strategy.model.entity.MonthlyAnalysis;
+import com.investmetic.domain.strategy.model.entity.Proceed;
+import com.investmetic.domain.strategy.model.entity.Strategy;
+import com.investmetic.domain.user.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@Transactional
+class AnalysisBulkRepositoryTest {
+
+    // JDBC 로 저장하는 컬럼만 비교 (감사 컬럼은 DB 시간, 등록자는 JPA 저장 시에만 기록)
+    private static final String[] NOT_UPSERTED_FIELDS = {
+            "strategy", "createdAt", "updatedAt", "createdBy", "modifiedBy"};
+
+    @Autowired
+    private AnalysisBulkRepository analysisBulkRepository;
+
+    @Autowired
+    private DailyAnalysisRepository dailyAnalysisRepository;
+
+    @Autowired
+    private MonthlyAnalysisRepository monthlyAnalysisRepository;
+
+    @Autowired
+    private StrategyRepository strategyRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TradeTypeRepository tradeTypeRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    private Strategy strategy;
+
+    @BeforeEach
+    void setUp() {
+        strategy = strategyRepository.save(Strategy.builder()
+                .user(userRepository.save(TestEntityFactory.createTestUser("bulkUser", "bulk-user@example.com")))
+                .tradeType(tradeTypeRepository.save(TestEntityFactory.createTestTradeType()))
+                .strategyName("저장 전략")
+                .isPublic(IsPublic.PUBLIC)
+                .isApproved(IsApproved.APPROVED)
+                .build());
+
+        em.flush();
+        em.clear();
+    }
+
+    @DisplayName("일간 분석 upsert - id 가 있으면 모든 컬럼 갱신, 없으면 추가")
+    @Test
+    void testUpsertDailyAnalyses() {
+        LocalDate existingDate = LocalDate.of(2024, 11, 4);
+        LocalDate newDate = LocalDate.of(2024, 11, 5);
+        Long existingId = dailyAnalysisRepository.save(dailyAnalysis(null, existingDate, 1000)).getDailyAnalysisId();
+        em.flush();
+        em.clear();
+
+        DailyAnalysis updated = dailyAnalysis(existingId, existingDate, 2000);
+        DailyAnalysis inserted = dailyAnalysis(null, newDate, 3000);
+        analysisBulkRepository.upsertDailyAnalyses(List.of(updated, inserted));
+        em.clear();
+
+        List<DailyAnalysis> saved = em.createQuery("SELECT d FROM DailyAnalysis d "
+                        + "WHERE d.strategy.strategyId = :strategyId ORDER BY d.dailyDate", DailyAnalysis.class)
+                .setParameter("strategyId", strategy.getStrategyId())
+                .getResultList();
+
+        assertThat(saved).hasSize(2);
+        assertThat(saved.get(0)).usingRecursiveComparison()
+                .ignoringFields(NOT_UPSERTED_FIELDS)
+                .isEqualTo(updated);
+        assertThat(saved.get(1)).usingRecursiveComparison()
+                .ignoringFields(NOT_UPSERTED_FIELDS)
+                .ignoringFields("dailyAnalysisId")
+                .isEqualTo(inserted);
+        assertThat(saved.get(1).getDailyAnalysisId()).isNotNull();
+    }
+
+    @DisplayName("월간 분석 upsert - 같은 전략, 같은 월이 있으면 갱신, 없으면 추가")
+    @Test
+    void testUpsertMonthlyAnalyses() {
+        LocalDate existingMonth = LocalDate.of(2024, 10, 1);
+        LocalDate newMonth = LocalDate.of(2024, 11, 1);
+        Long existingId = monthlyAnalysisRepository.save(monthlyAnalysis(existingMonth, 100)).getMonthlyAnalysisId();
+        em.flush();
+        em.clear();
+
+        // id 없이 (strategy_id, monthly_date) 유니크 키로 기존 월간 분석을 찾아 갱신
+        MonthlyAnalysis updated = monthlyAnalysis(existingMonth, 200);
+        MonthlyAnalysis inserted = monthlyAnalysis(newMonth, 300);
+        analysisBulkRepository.upsertMonthlyAnalyses(List.of(updated, inserted));
+        em.clear();
+
+        List<MonthlyAnalysis> saved = em.createQuery("SELECT m FROM MonthlyAnalysis m "
+                        + "WHERE m.strategy.strategyId = :strategyId ORDER BY m.monthlyDate", MonthlyAnalysis.class)
+                .setParameter("strategyId", strategy.getStrategyId())
+                .getResultList();
+
+        assertThat(saved).hasSize(2);
+        assertThat(saved.get(0).getMonthlyAnalysisId()).isEqualTo(existingId);
+        assertThat(saved.get(0)).usingRecursiveComparison()
+                .ignoringFields(NOT_UPSERTED_FIELDS)
+                .ignoringFields("monthlyAnalysisId")
+                .isEqualTo(updated);
+        assertThat(saved.get(1)).usingRecursiveComparison()
+                .ignoringFields(NOT_UPSERTED_FIELDS)
+                .ignoringFields("monthlyAnalysisId")
+                .isEqualTo(inserted);
+    }
+
+    // 컬럼 순서가 어긋나면 드러나도록 모든 컬럼에 서로 다른 값 사용
+    private DailyAnalysis dailyAnalysis(Long dailyAnalysisId, LocalDate dailyDate, int base) {
+        return DailyAnalysis.builder()
+                .dailyAnalysisId(dailyAnalysisId)
+                .strategy(strategy)
+                .dailyDate(dailyDate)
+                .transaction(base + 1L)
+                .dailyProfitLoss(base + 2L)
+                .tradingDays(base + 3)
+                .principal(base + 4L)
+                .balance(base + 5L)
+                .valuationProfitLoss(base + 6L)
+                .kpRatio(base + 7.5)
+                .smScore(base + 8.5)
+                .referencePrice(base + 9.5)
+                .cumulativeTransactionAmount(base + 10L)
+                .deposit(base + 11L)
+                .cumulativeDeposit(base + 12L)
+                .withdrawal(base + 13L)
+                .cumulativeWithdrawal(base + 14L)
+                .dailyProfitLossRate(base + 15.5)
+                .maxDailyProfit(base + 16L)
+                .maxDailyProfitRate(base + 17.5)
+                .maxDailyLoss(base + 18L)
+                .maxDailyLossRate(base + 19.5)
+                .totalProfit(base + 20L)
+                .profitableDays(base + 21L)
+                .averageProfit(base + 22L)
+                .totalLoss(base + 23L)
+                .lossDays(base + 24L)
+                .averageLoss(base + 25L)
+                .cumulativeProfitLoss(base + 26L)
+                .cumulativeProfitLossRate(base + 27.5)
+                .maxCumulativeProfitLoss(base + 28L)
+                .maxCumulativeProfitLossRate(base + 29.5)
+                .averageProfitLoss(base + 30L)
+                .averageProfitLossRatio(base + 31.5)
+                .peak(base + 32L)
+                .peakRatio(base + 33.5)
+                .daysSincePeak(base + 34L)
+                .currentDrawdown(base + 35L)
+                .currentDrawdownRate(base + 36.5)
+                .drawDownPeriod(base + 37L)
+                .maxDrawdown(base + 38L)
+                .maxDrawdownRate(base + 39.5)
+                .winRate(base + 40.5)
+                .profitFactor(base + 41.5)
+                .roa(base + 42.5)
+                .coefficientOfVariation(base + 43.5)
+                .sharpRatio(base + 44.5)
+                .maxDrawDownInRate(base + 45.5)
+                .proceed(Proceed.YES)
+                .build();
+    }
+
+    private MonthlyAnalysis monthlyAnalysis(LocalDate monthlyDate, int base) {
+        return MonthlyAnalysis.builder()
+                .strategy(strategy)
+                .monthlyDate(monthlyDate)
+                .monthlyAveragePrincipal(base + 1L)
+                .depositsWithdrawals(base + 2L)
+                .monthlyProfitLoss(base + 3L)
+                .monthlyProfitLossRate(base + 4.5)
+                .cumulativeProfitLoss(base + 5L)
+                .cumulativeProfitLossRate(base + 6.5)
+                .build();
+    }
+}
@@ -0,0 +1,129 @@
+package com.investmetic.domain.strategy.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.investmetic.domain.TestEntity.TestEntityFactory;
+import com.investmetic.domain.strategy.model.IsApproved;
+import com.investmetic.domain.strategy.model.IsPublic;
+import com.investmetic.domain.strategy.model.entity.DailyAnalysisStaging;
+import com.investmetic.domain.strategy.model.entity.Strategy;
+import com.investmetic.domain.strategy.model.entity.StrategyRecalculationQueue;
+import com.investmetic.domain.user.repository.UserRepository;
+import com.investmetic.global.exception.BusinessException;
+import com.investmetic.global.exception.ErrorCode;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@Transactional
+class StrategyRecalculationQueueRepositoryTest {
+
+    @Autowired
+    private StrategyRecalculationQueueRepository strategyRecalculationQueueRepository;
+
+    @Autowired
+    private AnalysisBulkRepository analysisBulkRepository;
+
+    @Autowired
+    private StrategyRepository strategyRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TradeTypeRepository tradeTypeRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    private Strategy strategy;
+
+    @BeforeEach
+    void setUp() {
+        strategy = strategyRepository.save(Strategy.builder()
+                .user(userRepository.save(TestEntityFactory.createTestUser("queueUser", "queue-user@example.com")))
+                .tradeType(tradeTypeRepository.save(TestEntityFactory.createTestTradeType()))
+                .strategyName("재계산 전략")
+                .isPublic(IsPublic.PUBLIC)
+                .isApproved(IsApproved.APPROVED)
+                .build());
+
+        em.flush();
+        em.clear();
+    }
+
+    @DisplayName("재계산 큐 등록 - 다시 등록하면 더 이른 재계산 시작 일자를 유지하고 version 증가")
+    @Test
+    void testEnqueue() {
+        Long strategyId = strategy.getStrategyId();
+
+        strategyRecalculationQueueRepository.enqueue(strategyId, LocalDate.of(2024, 11, 6));
+        strategyRecalculationQueueRepository.enqueue(strategyId, LocalDate.of(2024, 11, 10));
+        em.clear();
+
+        StrategyRecalculationQueue queue = findQueue(strategyId);
+        assertThat(queue.getDirtyFromDate()).isEqualTo(LocalDate.of(2024, 11, 6));
+        assertThat(queue.getVersion()).isEqualTo(2);
+
+        strategyRecalculationQueueRepository.enqueue(strategyId, LocalDate.of(2024, 11, 1));
+        em.clear();
+
+        queue = findQueue(strategyId);
+        assertThat(queue.getDirtyFromDate()).isEqualTo(LocalDate.of(2024, 11, 1));
+        assertThat(queue.getVersion()).isEqualTo(3);
+    }
+
+    @DisplayName("스테이징이 있는 전략 큐 등록 - 스테이징 최초 일자와 기존 재계산 시작 일자 중 더 이른 일자")
+    @Test
+    void testEnqueuePendingDailyAnalyses() {
+        Long strategyId = strategy.getStrategyId();
+        strategyRecalculationQueueRepository.enqueue(strategyId, LocalDate.of(2024, 11, 6));
+        analysisBulkRepository.stageDailyAnalyses(List.of(
+                staging(LocalDate.of(2024, 10, 2)),
+                staging(LocalDate.of(2024, 10, 1))));
+
+        strategyRecalculationQueueRepository.enqueuePendingDailyAnalyses();
+        em.clear();
+
+        StrategyRecalculationQueue queue = findQueue(strategyId);
+        assertThat(queue.getDirtyFromDate()).isEqualTo(LocalDate.of(2024, 10, 1));
+        assertThat(queue.getVersion()).isEqualTo(2);
+    }
+
+    @DisplayName("재계산 큐 삭제 - 조회한 뒤 다시 등록되어 version 이 바뀌었으면 삭제하지 않음")
+    @Test
+    void testDequeue() {
+        Long strategyId = strategy.getStrategyId();
+        strategyRecalculationQueueRepository.enqueue(strategyId, LocalDate.of(2024, 11, 6));
+        strategyRecalculationQueueRepository.enqueue(strategyId, LocalDate.of(2024, 11, 7));
+
+        assertThat(strategyRecalculationQueueRepository.dequeue(strategyId, 1)).isZero();
+        em.clear();
+        assertThat(strategyRecalculationQueueRepository.findById(strategyId)).isPresent();
+
+        assertThat(strategyRecalculationQueueRepository.dequeue(strategyId, 2)).isEqualTo(1);
+        em.clear();
+        assertThat(strategyRecalculationQueueRepository.findById(strategyId)).isEmpty();
+    }
+
+    private DailyAnalysisStaging staging(LocalDate dailyDate) {
+        return DailyAnalysisStaging.builder()
+                .strategy(strategy)
+                .dailyDate(dailyDate)
+                .transaction(0L)
+                .dailyProfitLoss(1_000L)
+                .build();
+    }
+
+    private StrategyRecalculationQueue findQueue(Long strategyId) {
+        return strategyRecalculationQueueRepository.findById(strategyId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.STRATEGY_NOT_FOUND));
+    }
+}
@@ -0,0 +1,121 @@
+package com.investmetic.domain.strategy.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+import com.investmetic.domain.TestEntity.TestEntityFactory;
+import com.investmetic.domain.strategy.model.IsApproved;
+import com.investmetic.domain.strategy.model.IsPublic;
+import com.investmetic.domain.strategy.model.entity.Strategy;
+import com.investmetic.domain.strategy.model.entity.StrategyStatistics;
+import com.investmetic.domain.strategy.model.entity.TradeType;
+import com.investmetic.domain.user.model.entity.User;
+import com.investmetic.domain.user.repository.UserRepository;
+import com.investmetic.global.exception.BusinessException;
+import com.investmetic.global.exception.ErrorCode;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+@SpringBootTest
+@Transactional
+class StrategyRepositoryTest {
+
+    @Autowired
+    private StrategyRepository strategyRepository;
+
+    @Autowired
+    private StrategyStatisticsRepository strategyStatisticsRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private TradeTypeRepository tradeTypeRepository;
+
+    @Autowired
+    private EntityManager em;
+
+    private Long scoredStrategyId;
+    private Long zeroDivisorStrategyId;
+    private Long noStatisticsStrategyId;
+
+    @BeforeEach
+    void setUp() {
+        User user = userRepository.save(
+                TestEntityFactory.createTestUser("scoreUser", "score-user@example.com"));
+        TradeType tradeType = tradeTypeRepository.save(TestEntityFactory.createTestTradeType());
+
+        // 효율형 30 / -10, 공격형 30 / |0.6 - 1|, 방어형 (1 + 2 + 3) / 3
+        StrategyStatistics scored = strategyStatisticsRepository.save(StrategyStatistics.builder()
+                .cumulativeProfitRate(30.0)
+                .maxDrawdownRate(-10.0)
+                .winRate(60.0)
+                .mddRank(1)
+                .stdDevRank(2)
+                .winRateRank(3)
+                .build());
+
+        // MDD 0, 승률 100% 이면 0으로 나누므로 점수 없음, 순위가 없으면 방어형 점수 없음
+        StrategyStatistics zeroDivisor = strategyStatisticsRepository.save(StrategyStatistics.builder()
+                .cumulativeProfitRate(30.0)
+                .maxDrawdownRate(0.0)
+                .winRate(100.0)
+                .build());
+
+        scoredStrategyId = strategyRepository.save(createStrategy(user, tradeType, scored)).getStrategyId();
+        zeroDivisorStrategyId = strategyRepository.save(createStrategy(user, tradeType, zeroDivisor))
+                .getStrategyId();
+        noStatisticsStrategyId = strategyRepository.save(createStrategy(user, tradeType, null)).getStrategyId();
+
+        em.flush();
+        em.clear();
+    }
+
+    @DisplayName("알고리즘별 정렬 점수 업데이트 테스트")
+    @Test
+    void testUpdateAlgorithmScores() {
+        assertThat(strategyRepository.updateAlgorithmScores()).isPositive();
+
+        // 통계 값이 그대로이면 다시 갱신할 점수 없음
+        assertThat(strategyRepository.updateAlgorithmScores()).isZero();
+
+        em.flush();
+        em.clear();
+
+        Strategy scored = findStrategy(scoredStrategyId);
+        assertThat(scored.getEfficientScore()).isCloseTo(-3.0, within(1e-9));
+        assertThat(scored.getAttackScore()).isCloseTo(75.0, within(1e-9));
+        assertThat(scored.getDefensiveScore()).isCloseTo(2.0, within(1e-9));
+
+        Strategy zeroDivisor = findStrategy(zeroDivisorStrategyId);
+        assertThat(zeroDivisor.getEfficientScore()).isNull();
+        assertThat(zeroDivisor.getAttackScore()).isNull();
+        assertThat(zeroDivisor.getDefensiveScore()).isNull();
+
+        Strategy noStatistics = findStrategy(noStatisticsStrategyId);
+        assertThat(noStatistics.getEfficientScore()).isNull();
+        assertThat(noStatistics.getAttackScore()).isNull();
+        assertThat(noStatistics.getDefensiveScore()).isNull();
+    }
+
+    private Strategy createStrategy(User user, TradeType tradeType, StrategyStatistics statistics) {
+        return Strategy.builder()
+                .user(user)
+                .tradeType(tradeType)
+                .strategyName("점수 전략")
+                .isPublic(IsPublic.PUBLIC)
+                .isApproved(IsApproved.APPROVED)
+                .strategyStatistics(statistics)
+                .build();
+    }
+
+    private Strategy findStrategy(Long strategyId) {
+        return strategyRepository.findById(strategyId)
+                .orElseThrow(() -> new BusinessException(ErrorCode.STRATEGY_NOT_FOUND));
+    }
+}
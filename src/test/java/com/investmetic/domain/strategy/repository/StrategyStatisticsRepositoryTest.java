@@ -94,4 +94,20 @@ class StrategyStatisticsRepositoryTest {
         assertThat(afterUpdate.get(1).getWinRateRank()).isEqualTo(2); // 무조건 2등
         assertThat(afterUpdate.get(2).getWinRateRank()).isEqualTo(3); // 무조건 3등
     }
+
+    @DisplayName("순위가 바뀐 전략만 랭킹 업데이트 테스트")
+    @Test
+    void testUpdateChangedRanks() {
+        strategyStatisticsRepository.updateChangedRanks();
+
+        // 통계 값이 그대로이면 다시 갱신할 순위 없음
+        assertThat(strategyStatisticsRepository.updateChangedRanks()).isZero();
+
+        em.flush();
+        em.clear();
+
+        StrategyStatistics first = strategyStatisticsRepository.findById(strategyStatisticIds.get(0))
+                .orElseThrow(() -> new BusinessException(ErrorCode.STRATEGY_NOT_FOUND));
+        assertThat(first.getWinRateRank()).isEqualTo(1);
+    }
 }
@@ -0,0 +1,167 @@
+package com.investmetic.domain.strategy.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.investmetic.domain.TestEntity.TestEntityFactory;
+import com.investmetic.domain.strategy.dto.request.TraderDailyAnalysisRequestDto;
+import com.investmetic.domain.strategy.dto.response.DailyAnalysisPreviewResponse;
+import com.investmetic.domain.strategy.model.DailyAnalysisSeries;
+import com.investmetic.domain.strategy.model.entity.DailyAnalysis;
+import com.investmetic.domain.strategy.model.entity.Proceed;
+import com.investmetic.domain.strategy.model.entity.Strategy;
+import com.investmetic.domain.strategy.model.entity.StrategyStatistics;
+import com.investmetic.domain.strategy.repository.StrategyRepository;
+import com.investmetic.domain.user.model.entity.User;
+import com.investmetic.global.exception.BusinessException;
+import com.investmetic.global.exception.ErrorCode;
+import com.investmetic.global.scheduler.DailyAnalysisScheduler;
+import com.investmetic.global.scheduler.StrategyCalculatorScheduler;
+import com.investmetic.global.scheduler.StrategyStatisticsScheduler;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class DailyAnalysisPreviewServiceTest {
+
+    @InjectMocks
+    private DailyAnalysisPreviewService dailyAnalysisPreviewService;
+
+    @Mock
+    private StrategyRepository strategyRepository;
+
+    @Mock
+    private DailyAnalysisScheduler dailyAnalysisScheduler;
+
+    @Mock
+    private StrategyCalculatorScheduler strategyCalculatorScheduler;
+
+    @Mock
+    private StrategyStatisticsScheduler strategyStatisticsScheduler;
+
+    private Strategy strategy;
+
+    private LocalDate date;
+
+    @BeforeEach
+    void setUp() {
+        User user = User.builder()
+                .userId(1L)
+                .build();
+        strategy = TestEntityFactory.createTestStrategy(user, TestEntityFactory.createTestTradeType());
+        date = LocalDate.of(2024, 11, 4);
+    }
+
+    @Test
+    @DisplayName("일간 분석 수정 미리보기 - 수정을 반영한 통계와 KP Ratio 반환")
+    void 일간_분석_수정_미리보기_테스트_1() {
+        DailyAnalysis dailyAnalysis = DailyAnalysis.builder()
+                .strategy(strategy)
+                .dailyDate(date)
+                .proceed(Proceed.YES)
+                .build();
+        StrategyStatistics statistics = StrategyStatistics.builder()
+                .maxDrawdown(-5_000L)
+                .maxDrawdownRate(-0.15)
+                .cumulativeProfitRate(1.2)
+                .build();
+
+        DailyAnalysisSeries series = DailyAnalysisSeries.from(strategy, List.of(dailyAnalysis));
+        series.setRecalculatedFrom(date);
+
+        when(strategyRepository.findById(strategy.getStrategyId())).thenReturn(Optional.of(strategy));
+        when(dailyAnalysisScheduler.previewDailyAnalyses(eq(strategy), anyList())).thenReturn(series);
+        when(strategyStatisticsScheduler.createStrategyStatistics(any(DailyAnalysisSeries.class)))
+                .thenReturn(statistics);
+        when(strategyCalculatorScheduler.calculateKpRatio(any(DailyAnalysisSeries.class))).thenReturn(0.75);
+
+        DailyAnalysisPreviewResponse response = dailyAnalysisPreviewService.previewDailyAnalysis(
+                strategy.getStrategyId(), List.of(request(date)), 1L);
+
+        assertEquals(date, response.getFromDate());
+        assertEquals(1, response.getRecalculatedDays());
+        assertNull(response.getCurrent());
+        assertEquals(0.75, response.getPreview().getKpRatio());
+        assertEquals(-5_000L, response.getPreview().getMaxDrawdown());
+        assertEquals(1.2, response.getPreview().getCumulativeProfitRate());
+        verify(dailyAnalysisScheduler).previewDailyAnalyses(eq(strategy), argThat(edits ->
+                edits.size() == 1 && edits.get(0).getDailyDate().equals(date)
+                        && edits.get(0).getDailyProfitLoss() == -40_000L));
+        verify(dailyAnalysisScheduler, never()).recalculateDailyAnalyses(any(), any());
+        verify(strategyStatisticsScheduler, never()).calculateStatistics(any());
+    }
+
+    @Test
+    @DisplayName("일간 분석 수정 미리보기 - 수정보다 이른 재계산 대기 일자가 있으면 그 일자부터 다시 계산한 일수 반환")
+    void 일간_분석_수정_미리보기_재계산_일수() {
+        LocalDate stagedDate = date.minusDays(1);
+        DailyAnalysisSeries series = DailyAnalysisSeries.from(strategy, List.of(
+                DailyAnalysis.builder().strategy(strategy).dailyDate(stagedDate).proceed(Proceed.YES).build(),
+                DailyAnalysis.builder().strategy(strategy).dailyDate(date).proceed(Proceed.YES).build()));
+        series.setRecalculatedFrom(stagedDate);
+
+        when(strategyRepository.findById(strategy.getStrategyId())).thenReturn(Optional.of(strategy));
+        when(dailyAnalysisScheduler.previewDailyAnalyses(eq(strategy), anyList())).thenReturn(series);
+        when(strategyStatisticsScheduler.createStrategyStatistics(any(DailyAnalysisSeries.class)))
+                .thenReturn(StrategyStatistics.builder().build());
+
+        DailyAnalysisPreviewResponse response = dailyAnalysisPreviewService.previewDailyAnalysis(
+                strategy.getStrategyId(), List.of(request(date)), 1L);
+
+        assertEquals(date, response.getFromDate());
+        assertEquals(2, response.getRecalculatedDays());
+    }
+
+    @Test
+    @DisplayName("일간 분석 수정 미리보기 - 중복된 날짜가 있으면 예외 발생")
+    void 일간_분석_수정_미리보기_테스트_2() {
+        Long strategyId = strategy.getStrategyId();
+        List<TraderDailyAnalysisRequestDto> requests = List.of(request(date), request(date));
+
+        when(strategyRepository.findById(strategy.getStrategyId())).thenReturn(Optional.of(strategy));
+
+        BusinessException exception = assertThrows(BusinessException.class, () ->
+                dailyAnalysisPreviewService.previewDailyAnalysis(strategyId, requests, 1L));
+
+        assertEquals(ErrorCode.DUPLICATE_DATE_IN_REQUEST, exception.getErrorCode());
+        verify(dailyAnalysisScheduler, never()).previewDailyAnalyses(any(), anyList());
+    }
+
+    @Test
+    @DisplayName("일간 분석 수정 미리보기 - 권한이 없는 사용자일 경우 예외 발생")
+    void 일간_분석_수정_미리보기_테스트_3() {
+        Long strategyId = strategy.getStrategyId();
+        List<TraderDailyAnalysisRequestDto> requests = List.of(request(date));
+
+        when(strategyRepository.findById(strategy.getStrategyId())).thenReturn(Optional.of(strategy));
+
+        BusinessException exception = assertThrows(BusinessException.class, () ->
+                dailyAnalysisPreviewService.previewDailyAnalysis(strategyId, requests, 2L));
+
+        assertEquals(ErrorCode.FORBIDDEN_ACCESS, exception.getErrorCode());
+    }
+
+    private TraderDailyAnalysisRequestDto request(LocalDate dailyDate) {
+        return TraderDailyAnalysisRequestDto.builder()
+                .date(dailyDate)
+                .transaction(0L)
+                .dailyProfitLoss(-40_000L)
+                .build();
+    }
+}
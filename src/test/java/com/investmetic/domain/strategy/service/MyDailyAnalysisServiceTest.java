@@ -5,10 +5,11 @@ import static org.assertj.core.api.Assertions.assertThat;
 import com.investmetic.domain.TestEntity.TestEntityFactory;
 import com.investmetic.domain.strategy.dto.response.DailyAnalysisResponse;
 import com.investmetic.domain.strategy.model.entity.DailyAnalysis;
-import com.investmetic.domain.strategy.model.entity.Proceed;
+import com.investmetic.domain.strategy.model.entity.DailyAnalysisStaging;
 import com.investmetic.domain.strategy.model.entity.Strategy;
 import com.investmetic.domain.strategy.model.entity.TradeType;
 import com.investmetic.domain.strategy.repository.DailyAnalysisRepository;
+import com.investmetic.domain.strategy.repository.DailyAnalysisStagingRepository;
 import com.investmetic.domain.strategy.repository.StrategyRepository;
 import com.investmetic.domain.strategy.repository.TradeTypeRepository;
 import com.investmetic.domain.user.model.entity.User;
@@ -47,6 +48,9 @@ class MyDailyAnalysisServiceTest {
     @Autowired
     private DailyAnalysisRepository dailyAnalysisRepository;
 
+    @Autowired
+    private DailyAnalysisStagingRepository dailyAnalysisStagingRepository;
+
     @Autowired
     private EntityManager em;
 
@@ -71,27 +75,26 @@ class MyDailyAnalysisServiceTest {
     }
 
     @Test
-    @DisplayName("dailyDate가 중복일 때 Proceed가 NO인지 테스트")
+    @DisplayName("재계산을 기다리는 수정은 스테이징에만 있고 일간 분석은 일자별로 한 건만 조회되는지 테스트")
     void 테스트1() {
 
         LocalDate now = LocalDate.now();
 
-        DailyAnalysis dailyAnalysis1 = DailyAnalysis.builder()
+        DailyAnalysis dailyAnalysis = DailyAnalysis.builder()
                 .strategy(strategy)
                 .dailyDate(now)
-                .proceed(Proceed.NO)
-                .principal(1000L)
+                .principal(2000L)
                 .build();
 
-        DailyAnalysis dailyAnalysis2 = DailyAnalysis.builder()
+        DailyAnalysisStaging stagedAnalysis = DailyAnalysisStaging.builder()
                 .strategy(strategy)
                 .dailyDate(now)
-                .proceed(Proceed.YES)
-                .principal(2000L)
+                .transaction(0L)
+                .dailyProfitLoss(1000L)
                 .build();
 
-        dailyAnalysisRepository.save(dailyAnalysis1);
-        dailyAnalysisRepository.save(dailyAnalysis2);
+        dailyAnalysisRepository.save(dailyAnalysis);
+        dailyAnalysisStagingRepository.save(stagedAnalysis);
 
         em.flush();
         em.clear();
@@ -102,11 +105,11 @@ class MyDailyAnalysisServiceTest {
                 strategy.getStrategyId(), pageable);
 
         assertThat(result).isNotNull();
-        assertThat(result.getContent()).isNotEmpty();
+        assertThat(result.getContent()).hasSize(1);
 
-        // proceed가 NO인 일간분석의 principal 반환
+        // 계산된 일간 분석의 principal 반환
         assertThat(result.getContent())
-                .anyMatch(response -> response.getDailyDate().equals(now) && response.getPrincipal() == 1000L);
+                .allMatch(response -> response.getDailyDate().equals(now) && response.getPrincipal() == 2000L);
     }
 
 
@@ -120,14 +123,12 @@ class MyDailyAnalysisServiceTest {
         DailyAnalysis dailyAnalysis1 = DailyAnalysis.builder()
                 .strategy(strategy)
                 .dailyDate(date1) // 날짜가 더 이전
-                .proceed(Proceed.NO)
                 .principal(1000L)
                 .build();
 
         DailyAnalysis dailyAnalysis2 = DailyAnalysis.builder()
                 .strategy(strategy)
                 .dailyDate(date2) // 날짜가 더 최신
-                .proceed(Proceed.YES)
                 .principal(2000L)
                 .build();
 
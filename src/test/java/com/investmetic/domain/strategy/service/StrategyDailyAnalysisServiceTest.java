@@ -3,30 +3,39 @@ package com.investmetic.domain.strategy.service;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.argThat;
-import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.never;
-import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.investmetic.domain.TestEntity.TestEntityFactory;
 import com.investmetic.domain.strategy.dto.request.TraderDailyAnalysisRequestDto;
+import com.investmetic.domain.strategy.dto.response.DailyAnalysisImportResponse;
 import com.investmetic.domain.strategy.model.entity.DailyAnalysis;
-import com.investmetic.domain.strategy.model.entity.Proceed;
+import com.investmetic.domain.strategy.model.entity.DailyAnalysisStaging;
 import com.investmetic.domain.strategy.model.entity.Strategy;
 import com.investmetic.domain.strategy.model.entity.TradeType;
+import com.investmetic.domain.strategy.repository.AnalysisBulkRepository;
+import com.investmetic.domain.strategy.repository.AnalysisRollupRepository;
+import com.investmetic.domain.strategy.repository.DailyAnalysisAccumulatorRepository;
 import com.investmetic.domain.strategy.repository.DailyAnalysisRepository;
+import com.investmetic.domain.strategy.repository.DailyAnalysisStagingRepository;
+import com.investmetic.domain.strategy.repository.StrategyRecalculationQueueRepository;
 import com.investmetic.domain.strategy.repository.StrategyRepository;
 import com.investmetic.domain.user.model.Role;
 import com.investmetic.domain.user.model.UserState;
 import com.investmetic.domain.user.model.entity.User;
 import com.investmetic.global.exception.BusinessException;
 import com.investmetic.global.exception.ErrorCode;
+import com.investmetic.global.util.excelupload.DailyAnalysisUploadReader;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -35,6 +44,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.Mockito;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.transaction.annotation.Transactional;
 
 @ExtendWith(MockitoExtension.class)
@@ -44,9 +54,27 @@ class StrategyDailyAnalysisServiceTest {
     @Mock
     private DailyAnalysisRepository dailyAnalysisRepository;
 
+    @Mock
+    private DailyAnalysisStagingRepository dailyAnalysisStagingRepository;
+
     @Mock
     private StrategyRepository strategyRepository;
 
+    @Mock
+    private StrategyRecalculationQueueRepository strategyRecalculationQueueRepository;
+
+    @Mock
+    private AnalysisBulkRepository analysisBulkRepository;
+
+    @Mock
+    private AnalysisRollupRepository analysisRollupRepository;
+
+    @Mock
+    private DailyAnalysisAccumulatorRepository dailyAnalysisAccumulatorRepository;
+
+    @Mock
+    private DailyAnalysisUploadReader dailyAnalysisUploadReader;
+
     @InjectMocks
     private StrategyAnalysisService strategyAnalysisService;
 
@@ -57,10 +85,7 @@ class StrategyDailyAnalysisServiceTest {
     private TraderDailyAnalysisRequestDto requestDailyAnalysis;
 
     @Mock
-    private DailyAnalysis existingDailyAnalysisProceedYes;
-
-    @Mock
-    private DailyAnalysis existingDailyAnalysisProceedNo;
+    private DailyAnalysis existingDailyAnalysis;
 
     @Mock
     private User user;
@@ -99,42 +124,50 @@ class StrategyDailyAnalysisServiceTest {
                 .dailyProfitLoss(1000L)
                 .build();
 
-        existingDailyAnalysisProceedYes = spy(DailyAnalysis.builder()
+        existingDailyAnalysis = DailyAnalysis.builder()
                 .dailyAnalysisId(123L)
                 .strategy(strategy)
                 .dailyDate(date)
                 .transaction(100L)
                 .dailyProfitLoss(100L)
-                .proceed(Proceed.YES)
-                .build());
-
-        existingDailyAnalysisProceedNo = spy(DailyAnalysis.builder()
-                .dailyAnalysisId(123L)
-                .strategy(strategy)
-                .dailyDate(date)
-                .transaction(200L)
-                .dailyProfitLoss(200L)
-                .proceed(Proceed.NO)
-                .build());
+                .build();
     }
 
     @Test
     @DisplayName("전략 일간 분석 등록 - 성공 테스트")
     void 전략_일간_분석_등록_테스트_1() {
         when(strategyRepository.findById(strategy.getStrategyId())).thenReturn(Optional.of(strategy));
-        when(dailyAnalysisRepository.findDailyAnalysisByStrategyAndDate(strategy, requestDailyAnalysis.getDate()))
-                .thenReturn(Optional.empty());
 
         strategyAnalysisService.createDailyAnalysis(strategy.getStrategyId(), List.of(requestDailyAnalysis),
                 user.getUserId());
 
-        verify(dailyAnalysisRepository, times(1)).save(argThat(dailyAnalysis ->
-                dailyAnalysis.getStrategy().equals(strategy) &&
-                        dailyAnalysis.getDailyDate().equals(requestDailyAnalysis.getDate()) &&
-                        dailyAnalysis.getTransaction().equals(requestDailyAnalysis.getTransaction()) &&
-                        dailyAnalysis.getDailyProfitLoss().equals(requestDailyAnalysis.getDailyProfitLoss()) &&
-                        dailyAnalysis.getProceed() == Proceed.NO
-        ));
+        verify(analysisBulkRepository, times(1)).stageDailyAnalyses(argThat(stagedAnalyses ->
+                stagedAnalyses.size() == 1 && isStagedRequest(stagedAnalyses.iterator().next())));
+        verify(dailyAnalysisRepository, never()).save(any(DailyAnalysis.class));
+        verify(strategyRecalculationQueueRepository, times(1))
+                .enqueue(strategy.getStrategyId(), requestDailyAnalysis.getDate());
+    }
+
+    @Test
+    @DisplayName("전략 일간 분석 등록 - 여러 일자 등록 시 가장 이른 일자부터 재계산 등록")
+    void 전략_일간_분석_등록_테스트_5() {
+        TraderDailyAnalysisRequestDto previousDayRequest = TraderDailyAnalysisRequestDto.builder()
+                .date(date.minusDays(1))
+                .transaction(1000L)
+                .dailyProfitLoss(100L)
+                .build();
+
+        when(strategyRepository.findById(strategy.getStrategyId())).thenReturn(Optional.of(strategy));
+
+        strategyAnalysisService.createDailyAnalysis(strategy.getStrategyId(),
+                List.of(requestDailyAnalysis, previousDayRequest), user.getUserId());
+
+        // 기존 일자는 IN 조건 한 번으로 확인하고 한 번에 등록
+        verify(dailyAnalysisRepository, times(1)).findDailyDatesByStrategyAndDailyDateIn(any(Strategy.class), any());
+        verify(analysisBulkRepository, times(1)).stageDailyAnalyses(argThat(stagedAnalyses ->
+                stagedAnalyses.size() == 2));
+        verify(strategyRecalculationQueueRepository, times(1))
+                .enqueue(strategy.getStrategyId(), date.minusDays(1));
     }
 
     @Test
@@ -151,7 +184,7 @@ class StrategyDailyAnalysisServiceTest {
                         userId));
 
         assertEquals(ErrorCode.STRATEGY_NOT_FOUND, exception.getErrorCode());
-        verify(dailyAnalysisRepository, never()).save(any(DailyAnalysis.class));
+        verify(analysisBulkRepository, never()).stageDailyAnalyses(any());
     }
 
     @Test
@@ -162,15 +195,35 @@ class StrategyDailyAnalysisServiceTest {
         Long userId = user.getUserId();
 
         when(strategyRepository.findById(strategy.getStrategyId())).thenReturn(Optional.of(strategy));
-        when(dailyAnalysisRepository.findDailyAnalysisByStrategyAndDate(strategy, requestDailyAnalysis.getDate()))
-                .thenReturn(Optional.of(existingDailyAnalysisProceedNo));
+        when(dailyAnalysisRepository.findDailyDatesByStrategyAndDailyDateIn(any(Strategy.class), any()))
+                .thenReturn(List.of(requestDailyAnalysis.getDate()));
 
         BusinessException exception = assertThrows(BusinessException.class, () ->
                 strategyAnalysisService.createDailyAnalysis(strategyId, dailyAnalysisList,
                         userId));
 
         assertEquals(ErrorCode.DAILY_ANALYSIS_ALREADY_EXISTS, exception.getErrorCode());
-        verify(dailyAnalysisRepository, never()).save(any(DailyAnalysis.class));
+        verify(analysisBulkRepository, never()).stageDailyAnalyses(any());
+        verify(strategyRecalculationQueueRepository, never()).enqueue(any(), any());
+    }
+
+    @Test
+    @DisplayName("전략 일간 분석 등록 - 재계산을 기다리는 같은 일자가 있는 경우 예외 발생")
+    void 전략_일간_분석_등록_테스트_6() {
+        Long strategyId = strategy.getStrategyId();
+        List<TraderDailyAnalysisRequestDto> dailyAnalysisList = List.of(requestDailyAnalysis);
+        Long userId = user.getUserId();
+
+        when(strategyRepository.findById(strategy.getStrategyId())).thenReturn(Optional.of(strategy));
+        when(dailyAnalysisStagingRepository.findDailyDatesByStrategyAndDailyDateIn(any(Strategy.class), any()))
+                .thenReturn(List.of(requestDailyAnalysis.getDate()));
+
+        BusinessException exception = assertThrows(BusinessException.class, () ->
+                strategyAnalysisService.createDailyAnalysis(strategyId, dailyAnalysisList,
+                        userId));
+
+        assertEquals(ErrorCode.DAILY_ANALYSIS_ALREADY_EXISTS, exception.getErrorCode());
+        verify(analysisBulkRepository, never()).stageDailyAnalyses(any());
     }
 
     @Test
@@ -186,7 +239,76 @@ class StrategyDailyAnalysisServiceTest {
                         2L)); // 다른 userId
 
         assertEquals(ErrorCode.FORBIDDEN_ACCESS, exception.getErrorCode());
-        verify(dailyAnalysisRepository, never()).save(any(DailyAnalysis.class));
+        verify(analysisBulkRepository, never()).stageDailyAnalyses(any());
+    }
+
+    @Test
+    @DisplayName("전략 일간 분석 파일 등록 - chunk 마다 기존 일자 확인 후 batch insert, 가장 이른 일자부터 재계산 등록")
+    void 전략_일간_분석_파일_등록_테스트_1() {
+        MockMultipartFile file = new MockMultipartFile("file", "daily.csv", "text/csv", new byte[0]);
+        givenUploadedChunks(List.of(requestDailyAnalysis), List.of(TraderDailyAnalysisRequestDto.builder()
+                .date(date.minusDays(1))
+                .transaction(1000L)
+                .dailyProfitLoss(100L)
+                .build()));
+
+        when(strategyRepository.findById(strategy.getStrategyId())).thenReturn(Optional.of(strategy));
+        when(dailyAnalysisRepository.findDailyDatesByStrategyAndDailyDateIn(any(Strategy.class), anyList()))
+                .thenReturn(List.of());
+
+        DailyAnalysisImportResponse response = strategyAnalysisService.importDailyAnalyses(
+                strategy.getStrategyId(), file, user.getUserId());
+
+        assertEquals(2, response.getImportedCount());
+        assertEquals(date.minusDays(1), response.getFromDate());
+        verify(dailyAnalysisRepository, times(2))
+                .findDailyDatesByStrategyAndDailyDateIn(any(Strategy.class), anyList());
+        verify(dailyAnalysisStagingRepository, times(2))
+                .findDailyDatesByStrategyAndDailyDateIn(any(Strategy.class), anyList());
+        verify(analysisBulkRepository, times(2)).stageDailyAnalyses(argThat(stagedAnalyses ->
+                stagedAnalyses.size() == 1));
+        verify(analysisBulkRepository, never()).upsertDailyAnalyses(any());
+        verify(strategyRecalculationQueueRepository, times(1))
+                .enqueue(strategy.getStrategyId(), date.minusDays(1));
+    }
+
+    @Test
+    @DisplayName("전략 일간 분석 파일 등록 - 이미 등록된 일자가 있으면 예외 발생")
+    void 전략_일간_분석_파일_등록_테스트_2() {
+        Long strategyId = strategy.getStrategyId();
+        Long userId = user.getUserId();
+        MockMultipartFile file = new MockMultipartFile("file", "daily.csv", "text/csv", new byte[0]);
+        givenUploadedChunks(List.of(requestDailyAnalysis));
+
+        when(strategyRepository.findById(strategy.getStrategyId())).thenReturn(Optional.of(strategy));
+        when(dailyAnalysisRepository.findDailyDatesByStrategyAndDailyDateIn(any(Strategy.class), anyList()))
+                .thenReturn(List.of(date));
+
+        BusinessException exception = assertThrows(BusinessException.class, () ->
+                strategyAnalysisService.importDailyAnalyses(strategyId, file, userId));
+
+        assertEquals(ErrorCode.DAILY_ANALYSIS_ALREADY_EXISTS, exception.getErrorCode());
+        verify(analysisBulkRepository, never()).stageDailyAnalyses(any());
+        verify(strategyRecalculationQueueRepository, never()).enqueue(any(), any());
+    }
+
+    @Test
+    @DisplayName("전략 일간 분석 파일 등록 - 다른 chunk 에 같은 일자가 있으면 예외 발생")
+    void 전략_일간_분석_파일_등록_테스트_3() {
+        Long strategyId = strategy.getStrategyId();
+        Long userId = user.getUserId();
+        MockMultipartFile file = new MockMultipartFile("file", "daily.csv", "text/csv", new byte[0]);
+        givenUploadedChunks(List.of(requestDailyAnalysis), List.of(requestDailyAnalysis));
+
+        when(strategyRepository.findById(strategy.getStrategyId())).thenReturn(Optional.of(strategy));
+        when(dailyAnalysisRepository.findDailyDatesByStrategyAndDailyDateIn(any(Strategy.class), anyList()))
+                .thenReturn(List.of());
+
+        BusinessException exception = assertThrows(BusinessException.class, () ->
+                strategyAnalysisService.importDailyAnalyses(strategyId, file, userId));
+
+        assertEquals(ErrorCode.DUPLICATE_DATE_IN_REQUEST, exception.getErrorCode());
+        verify(strategyRecalculationQueueRepository, never()).enqueue(any(), any());
     }
 
     @Test
@@ -199,7 +321,10 @@ class StrategyDailyAnalysisServiceTest {
         strategyAnalysisService.deleteStrategyAllDailyAnalysis(strategyId, user.getUserId());
 
         verify(strategyRepository, times(1)).findById(strategyId);
+        verify(dailyAnalysisStagingRepository, times(1)).deleteAllByStrategy(strategy);
         verify(dailyAnalysisRepository, times(1)).deleteAllByStrategy(strategy);
+        verify(analysisRollupRepository, times(1)).deleteAllByStrategy(strategy);
+        verify(dailyAnalysisAccumulatorRepository, times(1)).deleteById(strategyId);
         verify(strategyRepository, never()).delete(strategy);
     }
 
@@ -237,42 +362,35 @@ class StrategyDailyAnalysisServiceTest {
 
 
     @Test
-    @DisplayName("전략 일간 분석 수정 - 진행 상태가 YES인 경우 새로운 데이터 저장")
+    @DisplayName("전략 일간 분석 수정 - 계산된 일간 분석이 있는 경우 스테이징에 수정 등록")
     void 전략_일간_분석_수정_테스트_1() {
         Long strategyId = strategy.getStrategyId();
 
         Mockito.when(strategyRepository.findById(strategyId)).thenReturn(Optional.of(strategy));
-        Mockito.when(dailyAnalysisRepository.findDailyAnalysisByStrategyAndDate(strategy, date))
-                .thenReturn(Optional.of(existingDailyAnalysisProceedYes));
+        Mockito.when(dailyAnalysisRepository.existsByStrategyAndDailyDate(strategy, date)).thenReturn(true);
 
         strategyAnalysisService.modifyDailyAnalysis(strategyId, requestDailyAnalysis, user.getUserId());
 
-        verify(dailyAnalysisRepository, times(1)).save(argThat(newData ->
-                newData.getStrategy().equals(strategy) &&
-                        newData.getDailyDate().equals(date) &&
-                        newData.getTransaction().equals(requestDailyAnalysis.getTransaction()) &&
-                        newData.getDailyProfitLoss().equals(requestDailyAnalysis.getDailyProfitLoss()) &&
-                        newData.getProceed() == Proceed.NO
-        ));
+        verify(analysisBulkRepository, times(1)).stageDailyAnalyses(argThat(stagedAnalyses ->
+                stagedAnalyses.size() == 1 && isStagedRequest(stagedAnalyses.iterator().next())));
+        verify(dailyAnalysisRepository, never()).save(any(DailyAnalysis.class));
+        verify(strategyRecalculationQueueRepository, times(1)).enqueue(strategyId, date);
     }
 
     @Test
-    @DisplayName("일간 분석 수정 - 진행 상태가 NO인 경우 기존 데이터 수정")
+    @DisplayName("일간 분석 수정 - 재계산을 기다리는 일간 분석만 있는 경우 스테이징 갱신")
     void 전략_일간_분석_수정_테스트_2() {
         Long strategyId = strategy.getStrategyId();
 
         when(strategyRepository.findById(strategyId)).thenReturn(Optional.of(strategy));
-        when(dailyAnalysisRepository.findDailyAnalysisByStrategyAndDate(strategy, date))
-                .thenReturn(Optional.of(existingDailyAnalysisProceedNo));
-
-        doNothing().when(existingDailyAnalysisProceedNo)
-                .modifyDailyAnalysis(requestDailyAnalysis.getTransaction(), requestDailyAnalysis.getDailyProfitLoss());
+        when(dailyAnalysisRepository.existsByStrategyAndDailyDate(strategy, date)).thenReturn(false);
+        when(dailyAnalysisStagingRepository.existsByStrategyAndDailyDate(strategy, date)).thenReturn(true);
 
         strategyAnalysisService.modifyDailyAnalysis(strategyId, requestDailyAnalysis, user.getUserId());
 
-        verify(existingDailyAnalysisProceedNo, times(1))
-                .modifyDailyAnalysis(requestDailyAnalysis.getTransaction(), requestDailyAnalysis.getDailyProfitLoss());
-        verify(dailyAnalysisRepository, never()).save(any(DailyAnalysis.class));
+        verify(analysisBulkRepository, times(1)).stageDailyAnalyses(argThat(stagedAnalyses ->
+                stagedAnalyses.size() == 1 && isStagedRequest(stagedAnalyses.iterator().next())));
+        verify(strategyRecalculationQueueRepository, times(1)).enqueue(strategyId, date);
     }
 
     @Test
@@ -290,7 +408,7 @@ class StrategyDailyAnalysisServiceTest {
 
         assertEquals(ErrorCode.STRATEGY_NOT_FOUND, exception.getErrorCode());
         verify(strategyRepository).findById(1L);
-        verify(dailyAnalysisRepository, never()).findDailyAnalysisByStrategyAndDate(any(), any());
+        verify(analysisBulkRepository, never()).stageDailyAnalyses(any());
     }
 
     @Test
@@ -300,8 +418,8 @@ class StrategyDailyAnalysisServiceTest {
         Long userId = user.getUserId();
 
         when(strategyRepository.findById(1L)).thenReturn(Optional.of(strategy));
-        when(dailyAnalysisRepository.findDailyAnalysisByStrategyAndDate(strategy, LocalDate.now()))
-                .thenReturn(Optional.empty());
+        when(dailyAnalysisRepository.existsByStrategyAndDailyDate(strategy, date)).thenReturn(false);
+        when(dailyAnalysisStagingRepository.existsByStrategyAndDailyDate(strategy, date)).thenReturn(false);
 
         BusinessException exception = assertThrows(
                 BusinessException.class,
@@ -310,7 +428,7 @@ class StrategyDailyAnalysisServiceTest {
 
         assertEquals(ErrorCode.DAILY_ANALYSIS_NOT_FOUND, exception.getErrorCode());
         verify(strategyRepository).findById(1L);
-        verify(dailyAnalysisRepository).findDailyAnalysisByStrategyAndDate(strategy, LocalDate.now());
+        verify(analysisBulkRepository, never()).stageDailyAnalyses(any());
     }
 
 
@@ -318,26 +436,28 @@ class StrategyDailyAnalysisServiceTest {
     @DisplayName("전략 일간 분석 삭제 - 성공 테스트")
     void 전략_일간_분석_단일_삭제_테스트_1() {
         Long strategyId = strategy.getStrategyId();
-        Long analysisId = existingDailyAnalysisProceedNo.getDailyAnalysisId();
+        Long analysisId = existingDailyAnalysis.getDailyAnalysisId();
 
         when(strategyRepository.findById(strategyId)).thenReturn(Optional.of(strategy));
         when(dailyAnalysisRepository.findByDailyAnalysisId(
                 analysisId)).thenReturn(
-                Optional.of(existingDailyAnalysisProceedNo));
-        when(dailyAnalysisRepository.findByAfterDate(strategy, existingDailyAnalysisProceedNo.getDailyDate()))
-                .thenReturn(Optional.empty());
+                Optional.of(existingDailyAnalysis));
 
         strategyAnalysisService.deleteStrategyDailyAnalysis(strategyId, analysisId, user.getUserId());
 
+        verify(dailyAnalysisStagingRepository, times(1))
+                .deleteByStrategyAndDailyDate(strategy, existingDailyAnalysis.getDailyDate());
         verify(dailyAnalysisRepository, times(1))
                 .deleteByStrategyAndDailyAnalysisId(strategy, analysisId);
+        verify(strategyRecalculationQueueRepository, times(1))
+                .enqueue(strategyId, existingDailyAnalysis.getDailyDate());
     }
 
     @Test
     @DisplayName("전략 일간 분석 삭제 - 해당 일간 분석이 존재하지 않을 경우 예외 발생")
     void 전략_일간_분석_단일_삭제_테스트_2() {
         Long strategyId = strategy.getStrategyId();
-        Long analysisId = existingDailyAnalysisProceedNo.getDailyAnalysisId();
+        Long analysisId = existingDailyAnalysis.getDailyAnalysisId();
 
         when(strategyRepository.findById(strategyId)).thenReturn(Optional.of(strategy));
         when(dailyAnalysisRepository.findByDailyAnalysisId(
@@ -352,4 +472,22 @@ class StrategyDailyAnalysisServiceTest {
         verify(dailyAnalysisRepository, never())
                 .deleteByStrategyAndDailyAnalysisId(strategy, analysisId);
     }
+
+    private boolean isStagedRequest(DailyAnalysisStaging stagedAnalysis) {
+        return stagedAnalysis.getStrategy().equals(strategy)
+                && stagedAnalysis.getDailyDate().equals(requestDailyAnalysis.getDate())
+                && stagedAnalysis.getTransaction().equals(requestDailyAnalysis.getTransaction())
+                && stagedAnalysis.getDailyProfitLoss().equals(requestDailyAnalysis.getDailyProfitLoss());
+    }
+
+    @SafeVarargs
+    private void givenUploadedChunks(List<TraderDailyAnalysisRequestDto>... chunks) {
+        doAnswer(invocation -> {
+            Consumer<List<TraderDailyAnalysisRequestDto>> chunkConsumer = invocation.getArgument(2);
+            for (List<TraderDailyAnalysisRequestDto> chunk : chunks) {
+                chunkConsumer.accept(chunk);
+            }
+            return null;
+        }).when(dailyAnalysisUploadReader).read(any(), anyInt(), any());
+    }
 }
@@ -6,14 +6,20 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import com.investmetic.domain.TestEntity.TestEntityFactory;
 import com.investmetic.domain.strategy.dto.response.StrategyAnalysisResponse;
 import com.investmetic.domain.strategy.model.AnalysisOption;
+import com.investmetic.domain.strategy.model.RollupResolution;
+import com.investmetic.domain.strategy.model.entity.AnalysisRollup;
+import com.investmetic.domain.strategy.model.entity.DailyAnalysis;
 import com.investmetic.domain.strategy.model.entity.Strategy;
 import com.investmetic.domain.strategy.model.entity.TradeType;
+import com.investmetic.domain.strategy.repository.AnalysisRollupRepository;
+import com.investmetic.domain.strategy.repository.DailyAnalysisRepository;
 import com.investmetic.domain.strategy.repository.StrategyRepository;
 import com.investmetic.domain.strategy.repository.TradeTypeRepository;
 import com.investmetic.domain.user.model.entity.User;
 import com.investmetic.domain.user.repository.UserRepository;
 import com.investmetic.global.exception.BusinessException;
 import com.investmetic.global.exception.ErrorCode;
+import java.time.LocalDate;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -38,6 +44,12 @@ class StrategyDetailServiceTest {
     @Autowired
     private TradeTypeRepository tradeTypeRepository;
 
+    @Autowired
+    private DailyAnalysisRepository dailyAnalysisRepository;
+
+    @Autowired
+    private AnalysisRollupRepository analysisRollupRepository;
+
     @Autowired
     private StrategyDetailService strategyDetailService;
 
@@ -105,4 +117,55 @@ class StrategyDetailServiceTest {
         assertThat(response.getData()).containsKeys(AnalysisOption.BALANCE.name(), AnalysisOption.PRINCIPAL.name());
     }
 
-}
\ No newline at end of file
+    @Test
+    @DisplayName("maxPoints가 1보다 작을 때 BusinessException 발생 테스트")
+    void strategyAnalysisTest5() {
+        assertThatThrownBy(() -> strategyDetailService.getStrategyAnalysis(testStrategy.getStrategyId(),
+                AnalysisOption.BALANCE, AnalysisOption.PRINCIPAL, 0))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining(ErrorCode.INVALID_INPUT_VALUE.getMessage());
+    }
+
+    @Test
+    @DisplayName("일간 분석이 maxPoints보다 많으면 maxPoints 이하인 가장 세밀한 집계로 조회되는지 테스트")
+    void strategyAnalysisTest6() {
+        // 2주에 걸친 일간 분석 3건
+        saveDailyAnalysis(LocalDate.of(2024, 11, 1));
+        saveDailyAnalysis(LocalDate.of(2024, 11, 4));
+        saveDailyAnalysis(LocalDate.of(2024, 11, 5));
+        saveRollup(RollupResolution.WEEK, LocalDate.of(2024, 11, 1));
+        saveRollup(RollupResolution.WEEK, LocalDate.of(2024, 11, 5));
+        saveRollup(RollupResolution.MONTH, LocalDate.of(2024, 11, 5));
+        saveRollup(RollupResolution.YEAR, LocalDate.of(2024, 11, 5));
+
+        StrategyAnalysisResponse daily = strategyDetailService.getStrategyAnalysis(
+                testStrategy.getStrategyId(), AnalysisOption.BALANCE, AnalysisOption.PRINCIPAL, 3);
+        StrategyAnalysisResponse weekly = strategyDetailService.getStrategyAnalysis(
+                testStrategy.getStrategyId(), AnalysisOption.BALANCE, AnalysisOption.PRINCIPAL, 2);
+        StrategyAnalysisResponse monthly = strategyDetailService.getStrategyAnalysis(
+                testStrategy.getStrategyId(), AnalysisOption.BALANCE, AnalysisOption.BALANCE, 1);
+
+        assertThat(daily.getDates()).hasSize(3);
+        assertThat(weekly.getDates()).containsExactly("2024-11-01", "2024-11-05");
+        assertThat(monthly.getDates()).containsExactly("2024-11-05");
+        assertThat(monthly.getData().get(AnalysisOption.BALANCE.name())).containsExactly(1_000_000.0);
+    }
+
+    private void saveDailyAnalysis(LocalDate dailyDate) {
+        dailyAnalysisRepository.save(DailyAnalysis.builder()
+                .strategy(testStrategy)
+                .dailyDate(dailyDate)
+                .build());
+    }
+
+    private void saveRollup(RollupResolution resolution, LocalDate periodDate) {
+        analysisRollupRepository.save(AnalysisRollup.builder()
+                .strategy(testStrategy)
+                .resolution(resolution)
+                .periodDate(periodDate)
+                .balance(1_000_000L)
+                .principal(1_000_000L)
+                .build());
+    }
+
+}
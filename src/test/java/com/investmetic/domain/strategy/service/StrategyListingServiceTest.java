@@ -1,17 +1,24 @@
 package com.investmetic.domain.strategy.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import com.investmetic.domain.strategy.dto.StockTypeInfo;
 import com.investmetic.domain.strategy.dto.request.SearchRequest;
 import com.investmetic.domain.strategy.dto.response.common.StrategySimpleResponse;
+import com.investmetic.domain.strategy.model.AlgorithmType;
+import com.investmetic.domain.strategy.repository.StrategyLeaderboardRepository;
 import com.investmetic.domain.strategy.repository.StrategyRepository;
+import com.investmetic.domain.strategy.repository.StrategySearchCacheRepository;
 import com.investmetic.global.common.PageResponseDto;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -21,10 +28,17 @@ import org.mockito.MockitoAnnotations;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.test.util.ReflectionTestUtils;
 class StrategyListingServiceTest {
     @Mock
     private StrategyRepository strategyRepository;
 
+    @Mock
+    private StrategyLeaderboardRepository strategyLeaderboardRepository;
+
+    @Mock
+    private StrategySearchCacheRepository strategySearchCacheRepository;
+
     @InjectMocks
     private StrategyListingService strategyListingService;
 
@@ -133,4 +147,99 @@ class StrategyListingServiceTest {
         assertThat(response.getContent().get(0).getIsSubscribed()).isTrue(); // 구독된 상태
         assertThat(response.getContent().get(1).getIsSubscribed()).isTrue(); // 구독된 상태
     }
+
+    @Test
+    @DisplayName("알고리즘 정렬만 요청하면 순위표 순서대로 조회 테스트")
+    void testSearchByLeaderboard() {
+        SearchRequest request = new SearchRequest();
+        ReflectionTestUtils.setField(request, "algorithmType", AlgorithmType.EFFICIENT_STRATEGY);
+        PageRequest pageable = PageRequest.of(1, 2);
+
+        when(strategyLeaderboardRepository.count(AlgorithmType.EFFICIENT_STRATEGY)).thenReturn(5L);
+        when(strategyLeaderboardRepository.findStrategyIds(AlgorithmType.EFFICIENT_STRATEGY, 2L, 2))
+                .thenReturn(List.of(2L, 1L));
+        // DB 는 순위와 다른 순서로 반환
+        when(strategyRepository.findSimpleResponsesByIds(List.of(2L, 1L))).thenReturn(List.of(
+                new StrategySimpleResponse(1L, "전략 1", "user1Img",
+                        "user1", "icon1", "매매유형1", 10L, 5.0, 15.0, 10.0, 100, 4.5, 20),
+                new StrategySimpleResponse(2L, "전략 2", "user2Img",
+                        "user2", "icon2", "매매유형2", 20L, 6.0, 25.0, 15.0, 200, 4.0, 30)));
+        when(strategyRepository.findStockTypeInfoMap(anyList())).thenReturn(Map.of());
+
+        PageResponseDto<StrategySimpleResponse> response = strategyListingService.search(request, null, pageable);
+
+        assertThat(response.getContent()).extracting(StrategySimpleResponse::getStrategyId)
+                .containsExactly(2L, 1L);
+        assertThat(response.getTotalElements()).isEqualTo(5L);
+        verify(strategyRepository, never()).searchBy(any(), any());
+    }
+
+    @Test
+    @DisplayName("순위표 갱신 후 비공개된 전략이 있으면 DB 정렬로 조회 테스트")
+    void testSearchByLeaderboardFallback() {
+        SearchRequest request = new SearchRequest();
+        ReflectionTestUtils.setField(request, "algorithmType", AlgorithmType.ATTACK_STRATEGY);
+        PageRequest pageable = PageRequest.of(0, 2);
+        Page<StrategySimpleResponse> mockPage = new PageImpl<>(List.of());
+
+        when(strategyLeaderboardRepository.count(AlgorithmType.ATTACK_STRATEGY)).thenReturn(2L);
+        when(strategyLeaderboardRepository.findStrategyIds(AlgorithmType.ATTACK_STRATEGY, 0L, 2))
+                .thenReturn(List.of(1L, 2L));
+        when(strategyRepository.findSimpleResponsesByIds(List.of(1L, 2L))).thenReturn(List.of(
+                new StrategySimpleResponse(1L, "전략 1", "user1Img",
+                        "user1", "icon1", "매매유형1", 10L, 5.0, 15.0, 10.0, 100, 4.5, 20)));
+        when(strategyRepository.searchBy(request, pageable)).thenReturn(mockPage);
+        when(strategyRepository.findStockTypeInfoMap(anyList())).thenReturn(Map.of());
+
+        strategyListingService.search(request, null, pageable);
+
+        verify(strategyRepository).searchBy(request, pageable);
+    }
+
+    @Test
+    @DisplayName("캐시된 검색 결과 순서로 조회 후 구독 여부는 회원별로 반영 테스트")
+    void testSearchByCache() {
+        SearchRequest request = new SearchRequest();
+        Long userId = 1L;
+        PageRequest pageable = PageRequest.of(0, 2);
+
+        when(strategySearchCacheRepository.key(request, pageable)).thenReturn("cacheKey");
+        when(strategySearchCacheRepository.find("cacheKey", pageable))
+                .thenReturn(Optional.of(new PageImpl<>(List.of(2L, 1L), pageable, 7L)));
+        when(strategyRepository.findSimpleResponsesByIds(List.of(2L, 1L))).thenReturn(List.of(
+                new StrategySimpleResponse(1L, "전략 1", "user1Img",
+                        "user1", "icon1", "매매유형1", 10L, 5.0, 15.0, 10.0, 100, 4.5, 20),
+                new StrategySimpleResponse(2L, "전략 2", "user2Img",
+                        "user2", "icon2", "매매유형2", 20L, 6.0, 25.0, 15.0, 200, 4.0, 30)));
+        when(strategyRepository.findBySubscriptionMap(eq(userId), anyList())).thenReturn(Map.of(2L, true));
+        when(strategyRepository.findStockTypeInfoMap(anyList())).thenReturn(Map.of());
+
+        PageResponseDto<StrategySimpleResponse> response = strategyListingService.search(request, userId, pageable);
+
+        assertThat(response.getContent()).extracting(StrategySimpleResponse::getStrategyId)
+                .containsExactly(2L, 1L);
+        assertThat(response.getContent()).extracting(StrategySimpleResponse::getIsSubscribed)
+                .containsExactly(true, false);
+        assertThat(response.getTotalElements()).isEqualTo(7L);
+        verify(strategyRepository, never()).searchBy(any(), any());
+    }
+
+    @Test
+    @DisplayName("캐시된 검색 결과가 없으면 DB 검색 결과를 캐시 테스트")
+    void testSearchCacheMiss() {
+        SearchRequest request = new SearchRequest();
+        PageRequest pageable = PageRequest.of(0, 10);
+        Page<StrategySimpleResponse> mockPage = new PageImpl<>(List.of(
+                new StrategySimpleResponse(3L, "전략 3", "user3Img",
+                        "user3", "icon3", "매매유형3", 10L, 5.0, 15.0, 10.0, 100, 4.5, 20)), pageable, 1L);
+
+        when(strategySearchCacheRepository.key(request, pageable)).thenReturn("cacheKey");
+        when(strategySearchCacheRepository.find("cacheKey", pageable)).thenReturn(Optional.empty());
+        when(strategyRepository.searchBy(request, pageable)).thenReturn(mockPage);
+        when(strategyRepository.findStockTypeInfoMap(anyList())).thenReturn(Map.of());
+
+        strategyListingService.search(request, null, pageable);
+
+        verify(strategySearchCacheRepository).save("cacheKey", List.of(3L), 1L);
+    }
 }
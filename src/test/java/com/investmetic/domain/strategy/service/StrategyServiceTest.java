@@ -35,10 +35,15 @@ import com.investmetic.domain.strategy.model.entity.StockType;
 import com.investmetic.domain.strategy.model.entity.StockTypeGroup;
 import com.investmetic.domain.strategy.model.entity.Strategy;
 import com.investmetic.domain.strategy.model.entity.TradeType;
+import com.investmetic.domain.strategy.repository.AnalysisRollupRepository;
+import com.investmetic.domain.strategy.repository.DailyAnalysisAccumulatorRepository;
 import com.investmetic.domain.strategy.repository.DailyAnalysisRepository;
+import com.investmetic.domain.strategy.repository.DailyAnalysisStagingRepository;
 import com.investmetic.domain.strategy.repository.MonthlyAnalysisRepository;
 import com.investmetic.domain.strategy.repository.StockTypeGroupRepository;
 import com.investmetic.domain.strategy.repository.StockTypeRepository;
+import com.investmetic.domain.strategy.repository.StrategyLeaderboardRepository;
+import com.investmetic.domain.strategy.repository.StrategySearchCacheRepository;
 import com.investmetic.domain.strategy.repository.StrategyRepository;
 import com.investmetic.domain.strategy.repository.StrategyStatisticsRepository;
 import com.investmetic.domain.strategy.repository.TradeTypeRepository;
@@ -94,9 +99,24 @@ class StrategyServiceTest {
     @Mock
     private DailyAnalysisRepository dailyAnalysisRepository;
 
+    @Mock
+    private DailyAnalysisStagingRepository dailyAnalysisStagingRepository;
+
     @Mock
     private MonthlyAnalysisRepository monthlyAnalysisRepository;
 
+    @Mock
+    private AnalysisRollupRepository analysisRollupRepository;
+
+    @Mock
+    private DailyAnalysisAccumulatorRepository dailyAnalysisAccumulatorRepository;
+
+    @Mock
+    private StrategyLeaderboardRepository strategyLeaderboardRepository;
+
+    @Mock
+    private StrategySearchCacheRepository strategySearchCacheRepository;
+
     @Mock
     private SubscriptionRepository subscriptionRepository;
 
@@ -175,6 +195,8 @@ class StrategyServiceTest {
         strategyService.updateVisibility(strategyId, userId);
 
         assertEquals(IsPublic.PRIVATE, publicStrategy.getIsPublic());
+        verify(strategyLeaderboardRepository).updateStrategy(publicStrategy);
+        verify(strategySearchCacheRepository).invalidate();
     }
 
     @Test
@@ -266,6 +288,8 @@ class StrategyServiceTest {
         verify(stockTypeGroupRepository).deleteAllByStrategy(strategy);
         verify(dailyAnalysisRepository).deleteAllByStrategy(strategy);
         verify(monthlyAnalysisRepository).deleteAllByStrategy(strategy);
+        verify(analysisRollupRepository).deleteAllByStrategy(strategy);
+        verify(dailyAnalysisAccumulatorRepository).deleteById(strategyId);
         verify(subscriptionRepository).deleteAllByStrategy(strategy);
         verify(reviewRepository).deleteAllByStrategy(strategy);
 
@@ -277,6 +301,8 @@ class StrategyServiceTest {
         verify(strategyRepository).deleteById(strategyId);
 
         verify(s3FileService).deleteStrategyFolder(strategyId);
+        verify(strategyLeaderboardRepository).remove(strategyId);
+        verify(strategySearchCacheRepository).invalidate();
     }
 
     @Test
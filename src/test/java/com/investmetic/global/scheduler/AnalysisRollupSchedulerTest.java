@@ -0,0 +1,91 @@
+package com.investmetic.global.scheduler;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.investmetic.domain.strategy.model.DailyAnalysisSeries;
+import com.investmetic.domain.strategy.model.entity.DailyAnalysis;
+import com.investmetic.domain.strategy.model.entity.Strategy;
+import com.investmetic.domain.strategy.repository.AnalysisRollupRepository;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class AnalysisRollupSchedulerTest {
+
+    @InjectMocks
+    private AnalysisRollupScheduler analysisRollupScheduler;
+
+    @Mock
+    private AnalysisRollupRepository analysisRollupRepository;
+
+    private Strategy testStrategy;
+
+    @BeforeEach
+    void setUp() {
+        testStrategy = Strategy.builder()
+                .strategyId(1L)
+                .build();
+    }
+
+    @DisplayName("재계산 일자가 속한 주, 월, 연의 시작 일자부터 다시 집계")
+    @Test
+    void 재계산_기간부터_집계() {
+        DailyAnalysisSeries series = DailyAnalysisSeries.from(testStrategy, List.of(
+                DailyAnalysis.builder().strategy(testStrategy).dailyDate(LocalDate.of(2024, 11, 6)).build()));
+        series.setRecalculatedFrom(LocalDate.of(2024, 11, 6)); // 수요일
+        when(analysisRollupRepository.existsByStrategyStrategyId(1L)).thenReturn(true);
+
+        analysisRollupScheduler.calculateRollups(series);
+
+        verify(analysisRollupRepository).deleteFromPeriod(1L, "WEEK", LocalDate.of(2024, 11, 4));
+        verify(analysisRollupRepository).insertFromPeriod(1L, "WEEK", LocalDate.of(2024, 11, 4));
+        verify(analysisRollupRepository).deleteFromPeriod(1L, "MONTH", LocalDate.of(2024, 11, 1));
+        verify(analysisRollupRepository).insertFromPeriod(1L, "MONTH", LocalDate.of(2024, 11, 1));
+        verify(analysisRollupRepository).deleteFromPeriod(1L, "YEAR", LocalDate.of(2024, 1, 1));
+        verify(analysisRollupRepository).insertFromPeriod(1L, "YEAR", LocalDate.of(2024, 1, 1));
+    }
+
+    @DisplayName("일간 분석이 모두 삭제된 전략은 집계 삭제만 수행")
+    @Test
+    void 빈_전략_집계_삭제() {
+        DailyAnalysisSeries series = new DailyAnalysisSeries(testStrategy, 0);
+        series.setRecalculatedFrom(LocalDate.of(2024, 11, 6));
+        when(analysisRollupRepository.existsByStrategyStrategyId(1L)).thenReturn(true);
+
+        analysisRollupScheduler.calculateRollups(series);
+
+        verify(analysisRollupRepository).deleteFromPeriod(1L, "WEEK", LocalDate.of(2024, 11, 4));
+        verify(analysisRollupRepository, never()).insertFromPeriod(anyLong(), anyString(), any());
+    }
+
+    @DisplayName("집계가 없는 전략은 재계산 일자와 관계없이 첫 일자부터 전체 집계")
+    @Test
+    void 집계_없는_전략_전체_집계() {
+        DailyAnalysisSeries series = DailyAnalysisSeries.from(testStrategy, List.of(
+                DailyAnalysis.builder().strategy(testStrategy).dailyDate(LocalDate.of(2023, 3, 15)).build(),
+                DailyAnalysis.builder().strategy(testStrategy).dailyDate(LocalDate.of(2024, 11, 6)).build()));
+        series.setRecalculatedFrom(LocalDate.of(2024, 11, 6));
+        when(analysisRollupRepository.existsByStrategyStrategyId(1L)).thenReturn(false);
+
+        analysisRollupScheduler.calculateRollups(series);
+
+        verify(analysisRollupRepository).deleteFromPeriod(1L, "WEEK", LocalDate.of(2023, 3, 13));
+        verify(analysisRollupRepository).insertFromPeriod(1L, "WEEK", LocalDate.of(2023, 3, 13));
+        verify(analysisRollupRepository).deleteFromPeriod(1L, "MONTH", LocalDate.of(2023, 3, 1));
+        verify(analysisRollupRepository).insertFromPeriod(1L, "MONTH", LocalDate.of(2023, 3, 1));
+        verify(analysisRollupRepository).deleteFromPeriod(1L, "YEAR", LocalDate.of(2023, 1, 1));
+        verify(analysisRollupRepository).insertFromPeriod(1L, "YEAR", LocalDate.of(2023, 1, 1));
+    }
+}
@@ -0,0 +1,264 @@
+package com.investmetic.global.scheduler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.lenient;
+
+import com.investmetic.domain.strategy.model.DailyAnalysisSeries;
+import com.investmetic.domain.strategy.model.entity.DailyAnalysis;
+import com.investmetic.domain.strategy.model.entity.DailyAnalysisAccumulator;
+import com.investmetic.domain.strategy.model.entity.DailyAnalysisStaging;
+import com.investmetic.domain.strategy.model.entity.Proceed;
+import com.investmetic.domain.strategy.model.entity.Strategy;
+import com.investmetic.domain.strategy.repository.AnalysisBulkRepository;
+import com.investmetic.domain.strategy.repository.DailyAnalysisAccumulatorRepository;
+import com.investmetic.domain.strategy.repository.DailyAnalysisRepository;
+import com.investmetic.domain.strategy.repository.DailyAnalysisSeriesRepository;
+import com.investmetic.domain.strategy.repository.DailyAnalysisStagingRepository;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.TreeMap;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Mockito;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class DailyAnalysisSchedulerTest {
+
+    private static final LocalDate START_DATE = LocalDate.of(2024, 11, 1);
+
+    // 입출금, 일간 손익
+    private static final long[][] SERIES = {
+            {1_000_000L, 10_000L},
+            {0L, -5_000L},
+            {500_000L, 20_000L},
+            {0L, -30_000L},
+            {-200_000L, 15_000L}
+    };
+
+    @InjectMocks
+    private DailyAnalysisScheduler dailyAnalysisScheduler;
+
+    @Mock
+    private DailyAnalysisRepository dailyAnalysisRepository;
+
+    @Mock
+    private DailyAnalysisAccumulatorRepository dailyAnalysisAccumulatorRepository;
+
+    @Mock
+    private AnalysisBulkRepository analysisBulkRepository;
+
+    @Mock
+    private DailyAnalysisStagingRepository dailyAnalysisStagingRepository;
+
+    @Mock
+    private DailyAnalysisSeriesRepository dailyAnalysisSeriesRepository;
+
+    private Strategy testStrategy;
+
+    // 날짜별로 저장된 일간 분석 (DB 대용)
+    private TreeMap<LocalDate, DailyAnalysis> savedAnalyses;
+
+    // 날짜별로 재계산을 기다리는 스테이징 (DB 대용)
+    private TreeMap<LocalDate, DailyAnalysisStaging> stagedAnalyses;
+
+    // 마지막 upsert 로 저장된 일간 분석
+    private List<DailyAnalysis> lastSavedAnalyses;
+
+    private DailyAnalysisAccumulator savedAccumulator;
+
+    @BeforeEach
+    void setUp() {
+        testStrategy = Strategy.builder()
+                .strategyId(1L)
+                .build();
+        savedAnalyses = new TreeMap<>();
+        stagedAnalyses = new TreeMap<>();
+        lastSavedAnalyses = List.of();
+        savedAccumulator = null;
+
+        for (int day = 0; day < SERIES.length; day++) {
+            DailyAnalysisStaging staged = stagedAnalysis(day, SERIES[day][0], SERIES[day][1]);
+            stagedAnalyses.put(staged.getDailyDate(), staged);
+        }
+
+        lenient().when(dailyAnalysisSeriesRepository.findByStrategy(testStrategy))
+                .thenAnswer(invocation -> DailyAnalysisSeries.from(testStrategy,
+                        new ArrayList<>(savedAnalyses.values())));
+        lenient().when(dailyAnalysisStagingRepository.findByStrategyId(1L))
+                .thenAnswer(invocation -> new ArrayList<>(stagedAnalyses.values()));
+        // 새 일간 분석은 id 를 부여하여 저장
+        lenient().doAnswer(invocation -> {
+                    List<DailyAnalysis> dailyAnalyses = invocation.getArgument(0);
+                    dailyAnalyses.forEach(dailyAnalysis -> savedAnalyses.put(dailyAnalysis.getDailyDate(),
+                            dailyAnalysis.getDailyAnalysisId() != null ? dailyAnalysis : dailyAnalysis.toBuilder()
+                                    .dailyAnalysisId((long) savedAnalyses.size() + 1)
+                                    .build()));
+                    lastSavedAnalyses = dailyAnalyses;
+                    return null;
+                }).when(analysisBulkRepository).upsertDailyAnalyses(anyList());
+        lenient().doAnswer(invocation -> {
+                    List<DailyAnalysisStaging> unstaged = invocation.getArgument(0);
+                    unstaged.forEach(stagedAnalysis -> stagedAnalyses.remove(stagedAnalysis.getDailyDate()));
+                    return null;
+                }).when(analysisBulkRepository).unstageDailyAnalyses(anyList());
+        lenient().when(dailyAnalysisAccumulatorRepository.findById(1L))
+                .thenAnswer(invocation -> Optional.ofNullable(savedAccumulator));
+        lenient().when(dailyAnalysisAccumulatorRepository.save(any(DailyAnalysisAccumulator.class)))
+                .thenAnswer(invocation -> savedAccumulator = invocation.getArgument(0));
+    }
+
+    @DisplayName("첫 거래일부터 스테이징을 반영하여 전체 일간 분석 재계산 후 batch upsert, 스테이징 삭제")
+    @Test
+    void 전체_재계산() {
+        DailyAnalysisSeries result = dailyAnalysisScheduler.recalculateDailyAnalyses(testStrategy, START_DATE);
+
+        assertEquals(1_010_000L, result.getBalance(0)); // 잔고
+        assertEquals(1010.0, result.getReferencePrice(0)); // 기준가
+
+        DailyAnalysis last = result.getLastDailyAnalysis();
+        assertEquals(5, last.getTradingDays()); // 거래일수
+        assertEquals(1_297_176L, last.getPrincipal()); // 원금
+        assertEquals(1_310_000L, last.getBalance()); // 잔고
+        assertEquals(1_300_000L, last.getCumulativeTransactionAmount()); // 누적 입출금
+        assertEquals(500_000L, last.getCumulativeDeposit()); // 누적 입금
+        assertEquals(-200_000L, last.getCumulativeWithdrawal()); // 누적 출금
+        assertEquals(10_000L, last.getCumulativeProfitLoss()); // 누적 손익
+        assertEquals(25_000L, last.getMaxCumulativeProfitLoss()); // 최대 누적 손익
+        assertEquals(-15_000L, last.getCurrentDrawdown()); // 현재 자본인하금액
+        assertEquals(-15_000L, last.getMaxDrawdown()); // 최대 자본인하금액
+        assertEquals(-30_000L, last.getMaxDailyLoss()); // 최대 일간 손실
+        assertEquals(2L, last.getDaysSincePeak()); // 고점 후 경과일
+        assertEquals(0.0133, last.getMaxDailyProfitRate(), 0.0001); // 최대 일간 이익률
+        assertEquals(-0.0197, last.getMaxDailyLossRate(), 0.0001); // 최대 일간 손실률
+        assertEquals(-0.0847, last.getMaxDrawdownRate(), 0.0001); // 최대 자본인하율
+        assertEquals(0.6, last.getWinRate(), 0.0001); // 승률
+        assertEquals(0.6667, last.getRoa(), 0.0001); // ROA
+        assertEquals(902.7735, last.getCoefficientOfVariation(), 0.0001); // 변동계수
+        assertEquals(0.1108, last.getSharpRatio(), 0.0001); // 샤프 비율
+        assertEquals(Proceed.YES, last.getProceed());
+
+        assertEquals(SERIES.length, lastSavedAnalyses.size());
+        assertEquals(SERIES.length, savedAccumulator.getTradingDays());
+        assertEquals(START_DATE.plusDays(SERIES.length - 1), savedAccumulator.getLastDailyDate());
+        assertTrue(stagedAnalyses.isEmpty());
+
+        Mockito.verify(dailyAnalysisSeriesRepository, Mockito.times(1)).findByStrategy(testStrategy);
+        Mockito.verify(dailyAnalysisStagingRepository, Mockito.times(1)).findByStrategyId(1L);
+        Mockito.verify(analysisBulkRepository, Mockito.times(1)).upsertDailyAnalyses(anyList());
+        Mockito.verify(analysisBulkRepository, Mockito.times(1)).unstageDailyAnalyses(anyList());
+    }
+
+    @DisplayName("과거 일자 수정 시 수정 일자부터만 재계산하며 누적 상태는 조회한 데이터로 재구성")
+    @Test
+    void 수정일자부터_재계산() {
+        dailyAnalysisScheduler.recalculateDailyAnalyses(testStrategy, START_DATE);
+        Long modifiedAnalysisId = savedAnalyses.get(START_DATE.plusDays(3)).getDailyAnalysisId();
+
+        // 4일차 일간 손익 수정
+        DailyAnalysisStaging modified = stagedAnalysis(3, 0L, -40_000L);
+        stagedAnalyses.put(modified.getDailyDate(), modified);
+
+        DailyAnalysisSeries result = dailyAnalysisScheduler.recalculateDailyAnalyses(testStrategy,
+                modified.getDailyDate());
+
+        // 수정 일자와 그 이후 일자만 저장, 같은 일자의 일간 분석은 id 를 유지한 채 대체
+        assertEquals(2, lastSavedAnalyses.size());
+        assertEquals(SERIES.length, result.size());
+        assertEquals(modifiedAnalysisId, lastSavedAnalyses.get(0).getDailyAnalysisId());
+        assertTrue(stagedAnalyses.isEmpty());
+
+        DailyAnalysis last = result.getLastDailyAnalysis();
+        assertEquals(0L, result.getCumulativeProfitLoss(SERIES.length - 1)); // 누적 손익
+        assertEquals(0L, last.getCumulativeProfitLoss());
+        assertEquals(-40_000L, last.getMaxDailyLoss()); // 최대 일간 손실
+        assertEquals(2L, last.getLossDays()); // 손실일수
+        assertEquals(-22_500L, last.getAverageLoss()); // 평균 손실
+        assertEquals(-5_000L, last.getMaxDrawdown()); // 최대 자본인하금액
+        assertEquals(-0.1514, last.getMaxDrawdownRate(), 0.0001); // 최대 자본인하율
+
+        assertEquals(SERIES.length, savedAccumulator.getTradingDays());
+        assertEquals(0L, savedAccumulator.getProfitLossSum());
+    }
+
+    @DisplayName("다음 거래일 추가 시 누적 상태로 계산한 KP Ratio 가 전체 일자로 계산한 값과 같음")
+    @Test
+    void 누적_KP_Ratio_계산() {
+        dailyAnalysisScheduler.recalculateDailyAnalyses(testStrategy, START_DATE);
+
+        DailyAnalysisStaging added = stagedAnalysis(SERIES.length, 0L, 30_000L);
+        stagedAnalyses.put(added.getDailyDate(), added);
+
+        DailyAnalysisSeries result = dailyAnalysisScheduler.recalculateDailyAnalyses(testStrategy,
+                added.getDailyDate());
+
+        assertEquals(1, lastSavedAnalyses.size());
+        double kpRatio = new StrategyCalculatorScheduler(null, null).calculateKpRatio(result);
+        assertNotEquals(0.0, kpRatio);
+        assertEquals(kpRatio, result.getKpRatio());
+        assertEquals(SERIES.length + 1, savedAccumulator.getKpRatioState().getCount());
+    }
+
+    @DisplayName("재계산할 일자가 없으면 저장하지 않고 통계에 필요한 마지막 일자만 조회")
+    @Test
+    void 재계산_대상없음() {
+        dailyAnalysisScheduler.recalculateDailyAnalyses(testStrategy, START_DATE);
+        Mockito.clearInvocations(analysisBulkRepository, dailyAnalysisAccumulatorRepository);
+        DailyAnalysis latest = savedAnalyses.lastEntry().getValue();
+        lenient().when(dailyAnalysisRepository.findLatestStrategy(1L)).thenReturn(latest);
+
+        DailyAnalysisSeries result = dailyAnalysisScheduler.recalculateDailyAnalyses(
+                testStrategy, START_DATE.plusDays(SERIES.length));
+
+        assertEquals(SERIES.length, result.size());
+        assertEquals(latest, result.getLastDailyAnalysis());
+        Mockito.verify(analysisBulkRepository, Mockito.never()).upsertDailyAnalyses(anyList());
+        Mockito.verify(dailyAnalysisAccumulatorRepository, Mockito.never()).save(any(DailyAnalysisAccumulator.class));
+    }
+
+    @DisplayName("수정 미리보기는 수정 일자부터 재계산한 결과를 반환하고 저장하지 않음")
+    @Test
+    void 수정_미리보기() {
+        dailyAnalysisScheduler.recalculateDailyAnalyses(testStrategy, START_DATE);
+        DailyAnalysisAccumulator accumulatorBeforePreview = savedAccumulator;
+        long profitLossSumBeforePreview = savedAccumulator.getProfitLossSum();
+        Mockito.clearInvocations(analysisBulkRepository, dailyAnalysisAccumulatorRepository);
+
+        // 4일차 일간 손익 수정 미리보기 (수정_일자부터_재계산과 같은 결과)
+        DailyAnalysisSeries result = dailyAnalysisScheduler.previewDailyAnalyses(testStrategy,
+                List.of(stagedAnalysis(3, 0L, -40_000L)));
+
+        assertEquals(SERIES.length, result.size());
+        DailyAnalysis last = result.getLastDailyAnalysis();
+        assertEquals(0L, last.getCumulativeProfitLoss()); // 누적 손익
+        assertEquals(-5_000L, last.getMaxDrawdown()); // 최대 자본인하금액
+        assertEquals(-0.1514, last.getMaxDrawdownRate(), 0.0001); // 최대 자본인하율
+
+        // 저장된 일간 분석과 누적 상태는 그대로
+        assertEquals(10_000L, savedAnalyses.lastEntry().getValue().getCumulativeProfitLoss());
+        assertEquals(profitLossSumBeforePreview, accumulatorBeforePreview.getProfitLossSum());
+        Mockito.verify(analysisBulkRepository, Mockito.never()).upsertDailyAnalyses(anyList());
+        Mockito.verify(dailyAnalysisAccumulatorRepository, Mockito.never()).save(any(DailyAnalysisAccumulator.class));
+        Mockito.verify(analysisBulkRepository, Mockito.never()).unstageDailyAnalyses(anyList());
+    }
+
+    private DailyAnalysisStaging stagedAnalysis(int day, long transaction, long dailyProfitLoss) {
+        return DailyAnalysisStaging.builder()
+                .dailyAnalysisStagingId((long) day + 1)
+                .strategy(testStrategy)
+                .dailyDate(START_DATE.plusDays(day))
+                .transaction(transaction)
+                .dailyProfitLoss(dailyProfitLoss)
+                .build();
+    }
+}
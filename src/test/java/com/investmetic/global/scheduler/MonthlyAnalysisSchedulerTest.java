@@ -0,0 +1,122 @@
+package com.investmetic.global.scheduler;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.investmetic.domain.strategy.model.DailyAnalysisSeries;
+import com.investmetic.domain.strategy.model.entity.DailyAnalysis;
+import com.investmetic.domain.strategy.model.entity.MonthlyAnalysis;
+import com.investmetic.domain.strategy.model.entity.Strategy;
+import com.investmetic.domain.strategy.repository.AnalysisBulkRepository;
+import com.investmetic.domain.strategy.repository.MonthlyAnalysisRepository;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class MonthlyAnalysisSchedulerTest {
+
+    @InjectMocks
+    private MonthlyAnalysisScheduler monthlyAnalysisScheduler;
+
+    @Mock
+    private AnalysisBulkRepository analysisBulkRepository;
+
+    @Mock
+    private MonthlyAnalysisRepository monthlyAnalysisRepository;
+
+    private Strategy testStrategy;
+
+    @BeforeEach
+    void setUp() {
+        testStrategy = Strategy.builder()
+                .strategyId(1L)
+                .build();
+    }
+
+    @DisplayName("재계산 일자가 속한 월부터만 다시 집계")
+    @Test
+    void 재계산_월부터_집계() {
+        // 10월 1일치, 11월 2일치
+        DailyAnalysisSeries series = series(LocalDate.of(2024, 10, 31), LocalDate.of(2024, 11, 1),
+                LocalDate.of(2024, 11, 4));
+        series.setRecalculatedFrom(LocalDate.of(2024, 11, 4));
+        when(monthlyAnalysisRepository.findByStrategyIdFromMonthlyDate(1L, LocalDate.of(2024, 11, 30)))
+                .thenReturn(List.of(monthlyAnalysis(5L, LocalDate.of(2024, 11, 30))));
+
+        monthlyAnalysisScheduler.calculateMonthlyAnalysis(series);
+
+        List<MonthlyAnalysis> upserted = captureUpserted();
+        assertEquals(1, upserted.size());
+        MonthlyAnalysis november = upserted.get(0);
+        assertEquals(LocalDate.of(2024, 11, 30), november.getMonthlyDate());
+        assertEquals(2_000L, november.getMonthlyProfitLoss()); // 11월 일손익 합
+        assertEquals(0.025, november.getMonthlyProfitLossRate(), 0.00001); // 11월 일간 손익률 평균
+        verify(monthlyAnalysisRepository, never()).deleteAllByIdInBatch(any());
+    }
+
+    @DisplayName("일간 분석이 모두 삭제된 월의 월간 분석은 삭제")
+    @Test
+    void 빈_월_삭제() {
+        // 11월 일간 분석이 모두 삭제되어 12월만 남음
+        DailyAnalysisSeries series = series(LocalDate.of(2024, 10, 31), LocalDate.of(2024, 12, 2));
+        series.setRecalculatedFrom(LocalDate.of(2024, 11, 4));
+        when(monthlyAnalysisRepository.findByStrategyIdFromMonthlyDate(eq(1L), any()))
+                .thenReturn(List.of(monthlyAnalysis(5L, LocalDate.of(2024, 11, 30)),
+                        monthlyAnalysis(6L, LocalDate.of(2024, 12, 31))));
+
+        monthlyAnalysisScheduler.calculateMonthlyAnalysis(series);
+
+        List<MonthlyAnalysis> upserted = captureUpserted();
+        assertEquals(1, upserted.size());
+        assertEquals(LocalDate.of(2024, 12, 31), upserted.get(0).getMonthlyDate());
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<Collection<Long>> deleted = ArgumentCaptor.forClass(Collection.class);
+        verify(monthlyAnalysisRepository).deleteAllByIdInBatch(deleted.capture());
+        assertEquals(List.of(5L), new ArrayList<>(deleted.getValue()));
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<MonthlyAnalysis> captureUpserted() {
+        ArgumentCaptor<Collection<MonthlyAnalysis>> captor = ArgumentCaptor.forClass(Collection.class);
+        verify(analysisBulkRepository).upsertMonthlyAnalyses(captor.capture());
+        return new ArrayList<>(captor.getValue());
+    }
+
+    // 일손익 1,000, 일간 손익률은 날짜 순서대로 0.01, 0.02, ...
+    private DailyAnalysisSeries series(LocalDate... dailyDates) {
+        List<DailyAnalysis> dailyAnalyses = new ArrayList<>();
+        for (int i = 0; i < dailyDates.length; i++) {
+            dailyAnalyses.add(DailyAnalysis.builder()
+                    .strategy(testStrategy)
+                    .dailyDate(dailyDates[i])
+                    .transaction(0L)
+                    .dailyProfitLoss(1_000L)
+                    .dailyProfitLossRate(0.01 * (i + 1))
+                    .build());
+        }
+        return DailyAnalysisSeries.from(testStrategy, dailyAnalyses);
+    }
+
+    private MonthlyAnalysis monthlyAnalysis(Long monthlyAnalysisId, LocalDate monthlyDate) {
+        return MonthlyAnalysis.builder()
+                .monthlyAnalysisId(monthlyAnalysisId)
+                .strategy(testStrategy)
+                .monthlyDate(monthlyDate)
+                .build();
+    }
+}
@@ -0,0 +1,116 @@
+package com.investmetic.global.scheduler;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.investmetic.domain.strategy.repository.SchedulerFenceRepository;
+import java.time.Duration;
+import java.util.Optional;
+import java.util.function.Consumer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@ExtendWith(MockitoExtension.class)
+class SchedulerLeaderLeaseTest {
+
+    @InjectMocks
+    private SchedulerLeaderLease schedulerLeaderLease;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private SchedulerFenceRepository schedulerFenceRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @BeforeEach
+    void setUp() {
+        lenient().when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        lenient().doAnswer(invocation -> {
+            Consumer<TransactionStatus> action = invocation.getArgument(0);
+            action.accept(null);
+            return null;
+        }).when(transactionTemplate).executeWithoutResult(any());
+    }
+
+    @DisplayName("리더가 없으면 임대를 얻고 fencing token 을 DB 에 기록")
+    @Test
+    void 리더_임대_획득() {
+        givenLeaseAcquired(7L);
+
+        schedulerLeaderLease.renewOrAcquire();
+
+        assertTrue(schedulerLeaderLease.isLeader());
+        verify(schedulerFenceRepository).advance(SchedulerLeaderLease.SCHEDULER_NAME, 7L);
+    }
+
+    @DisplayName("다른 서버가 리더면 임대를 얻지 않음")
+    @Test
+    void 다른_서버가_리더() {
+        when(redisTemplate.hasKey(anyString())).thenReturn(true);
+
+        schedulerLeaderLease.renewOrAcquire();
+
+        assertFalse(schedulerLeaderLease.isLeader());
+        verify(valueOperations, never()).increment(anyString());
+        verify(schedulerFenceRepository, never()).advance(anyString(), anyLong());
+    }
+
+    @DisplayName("임대 연장에 실패하면 리더에서 물러남")
+    @Test
+    void 리더_임대_만료() {
+        givenLeaseAcquired(7L);
+        schedulerLeaderLease.renewOrAcquire();
+
+        when(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any())).thenReturn(0L);
+        schedulerLeaderLease.renewOrAcquire();
+
+        assertFalse(schedulerLeaderLease.isLeader());
+        assertThrows(SchedulerFencingException.class, () -> schedulerLeaderLease.verifyFencingToken());
+    }
+
+    @DisplayName("DB 의 fencing token 이 더 크면 (다른 서버가 리더가 됨) 재계산 트랜잭션 실패")
+    @Test
+    void fencing_token_확인() {
+        givenLeaseAcquired(7L);
+        schedulerLeaderLease.renewOrAcquire();
+
+        when(schedulerFenceRepository.findTokenForShare(SchedulerLeaderLease.SCHEDULER_NAME))
+                .thenReturn(Optional.of(7L), Optional.of(8L));
+
+        assertDoesNotThrow(() -> schedulerLeaderLease.verifyFencingToken());
+        assertThrows(SchedulerFencingException.class, () -> schedulerLeaderLease.verifyFencingToken());
+    }
+
+    private void givenLeaseAcquired(long token) {
+        when(redisTemplate.hasKey(anyString())).thenReturn(false);
+        when(valueOperations.increment(anyString())).thenReturn(token);
+        when(valueOperations.setIfAbsent(anyString(), anyString(), any(Duration.class))).thenReturn(true);
+    }
+}
@@ -0,0 +1,61 @@
+package com.investmetic.global.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.investmetic.domain.strategy.dto.response.StrategyAnalysisRunResponse;
+import com.investmetic.global.scheduler.StrategyAnalysisMetrics.Phase;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.concurrent.TimeUnit;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.batch.core.BatchStatus;
+import org.springframework.batch.core.JobExecution;
+import org.springframework.test.util.ReflectionTestUtils;
+
+class StrategyAnalysisMetricsTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private StrategyAnalysisMetrics strategyAnalysisMetrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        strategyAnalysisMetrics = new StrategyAnalysisMetrics(meterRegistry);
+        ReflectionTestUtils.setField(strategyAnalysisMetrics, "slowStrategyMillis", 5000L);
+    }
+
+    @DisplayName("단계별 실행 시간을 phase 태그 Timer 로 기록")
+    @Test
+    void 단계별_실행_시간_기록() {
+        int result = strategyAnalysisMetrics.recordPhase(Phase.STATISTICS, () -> 1);
+        strategyAnalysisMetrics.recordPhase(Phase.KP_RATIO, () -> { });
+
+        assertThat(result).isEqualTo(1);
+        assertThat(meterRegistry.get("strategy.analysis.phase").tag("phase", "statistics").timer().count())
+                .isEqualTo(1);
+        assertThat(meterRegistry.get("strategy.analysis.phase").tag("phase", "kpRatio").timer().count())
+                .isEqualTo(1);
+    }
+
+    @DisplayName("실행 단위로 전략 수, 조회/저장한 일간 분석 수, 가장 오래 걸린 전략 집계")
+    @Test
+    void 실행_요약_집계() {
+        strategyAnalysisMetrics.startRun();
+        strategyAnalysisMetrics.recordStrategy(1L, TimeUnit.MILLISECONDS.toNanos(30), 100, 10);
+        strategyAnalysisMetrics.recordStrategy(2L, TimeUnit.MILLISECONDS.toNanos(70), 200, 1);
+
+        JobExecution jobExecution = new JobExecution(1L);
+        jobExecution.setStatus(BatchStatus.COMPLETED);
+        StrategyAnalysisRunResponse summary = strategyAnalysisMetrics.finishRun(jobExecution);
+
+        assertThat(summary.getStrategyCount()).isEqualTo(2);
+        assertThat(summary.getDailyRowsRead()).isEqualTo(300);
+        assertThat(summary.getDailyRowsWritten()).isEqualTo(11);
+        assertThat(summary.getSlowestStrategyId()).isEqualTo(2L);
+        assertThat(summary.getSlowestStrategyMillis()).isEqualTo(70);
+        assertThat(summary.getStatus()).isEqualTo("COMPLETED");
+        assertThat(strategyAnalysisMetrics.getLastRun()).isSameAs(summary);
+        assertThat(meterRegistry.get("strategy.analysis.strategy").timer().count()).isEqualTo(2);
+    }
+}
@@ -0,0 +1,69 @@
+package com.investmetic.global.scheduler;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import com.investmetic.domain.strategy.repository.AnalysisBulkRepository;
+import com.investmetic.domain.strategy.repository.StrategyRepository;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+class StrategyCalculatorSchedulerTest {
+
+    @InjectMocks
+    private StrategyCalculatorScheduler strategyCalculatorScheduler;
+
+    @Mock
+    private StrategyRepository strategyRepository;
+
+    @Mock
+    private AnalysisBulkRepository analysisBulkRepository;
+
+    @DisplayName("KP Ratio 또는 SM Score 가 바뀐 전략만 갱신")
+    @Test
+    void SM_Score_변경_전략만_갱신() {
+        // KP Ratio 평균 0, 표준편차 1 -> SM Score 는 -1 이면 15.8655, 1 이면 84.1345
+        when(strategyRepository.findSmScoreSources()).thenReturn(List.of(
+                new Object[]{1L, -1.0, -1.0, 15.8655},
+                new Object[]{2L, 1.0, 1.0, 10.0},
+                new Object[]{3L, 1.0, 0.5, 84.1345},
+                new Object[]{4L, -1.0, -1.0, 15.8655}));
+
+        strategyCalculatorScheduler.calculateSmScores();
+
+        ArgumentCaptor<long[]> strategyIds = ArgumentCaptor.forClass(long[].class);
+        ArgumentCaptor<double[]> kpRatios = ArgumentCaptor.forClass(double[].class);
+        ArgumentCaptor<double[]> smScores = ArgumentCaptor.forClass(double[].class);
+        verify(analysisBulkRepository).updateStrategyScores(strategyIds.capture(), kpRatios.capture(),
+                smScores.capture(), eq(2));
+
+        assertThat(strategyIds.getValue()).startsWith(2L, 3L);
+        assertThat(kpRatios.getValue()).startsWith(1.0, 1.0);
+        assertThat(smScores.getValue()).startsWith(84.1345, 84.1345);
+    }
+
+    @DisplayName("KP Ratio 가 모두 같으면 SM Score 는 100")
+    @Test
+    void 표준편차_0_SM_Score() {
+        when(strategyRepository.findSmScoreSources()).thenReturn(List.of(
+                new Object[]{1L, 0.0, 0.0, 0.0},
+                new Object[]{2L, 0.0, 0.0, null}));
+
+        strategyCalculatorScheduler.calculateSmScores();
+
+        ArgumentCaptor<double[]> smScores = ArgumentCaptor.forClass(double[].class);
+        verify(analysisBulkRepository).updateStrategyScores(any(long[].class),
+                any(double[].class), smScores.capture(), eq(2));
+        assertThat(smScores.getValue()).containsExactly(100.0, 100.0);
+    }
+}
@@ -1,7 +1,10 @@
 package com.investmetic.global.scheduler;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import com.investmetic.domain.strategy.model.DailyAnalysisSeries;
 import com.investmetic.domain.strategy.model.entity.DailyAnalysis;
 import com.investmetic.domain.strategy.model.entity.Strategy;
 import com.investmetic.domain.strategy.model.entity.StrategyStatistics;
@@ -29,7 +32,7 @@ class StrategyStatisticsSchedulerTest {
     @Mock
     private StrategyStatisticsRepository strategyStatisticsRepository;
 
-    private List<DailyAnalysis> dailyAnalyses;
+    private DailyAnalysisSeries dailyAnalyses;
 
     private Strategy testStrategy;
 
@@ -39,10 +42,10 @@ class StrategyStatisticsSchedulerTest {
                 .strategyId(1L) // 테스트용 전략 ID
                 .build();
 
-        dailyAnalyses = new ArrayList<>();
+        List<DailyAnalysis> dailyAnalysisList = new ArrayList<>();
 
         // 현재 날짜 기준 3일치 간단한 테스트 데이터를 생성
-        dailyAnalyses.add(DailyAnalysis.builder()
+        dailyAnalysisList.add(DailyAnalysis.builder()
                 .strategy(testStrategy)
                 .dailyDate(LocalDate.now().minusDays(2)) // 첫 번째 데이터: 2일 전
                 .transaction(100L) // 입출금 거래
@@ -55,7 +58,7 @@ class StrategyStatisticsSchedulerTest {
                 .maxDailyProfit(50L) // 최대 일간 이익
                 .build());
 
-        dailyAnalyses.add(DailyAnalysis.builder()
+        dailyAnalysisList.add(DailyAnalysis.builder()
                 .strategy(testStrategy)
                 .dailyDate(LocalDate.now().minusDays(1)) // 두 번째 데이터: 1일 전
                 .transaction(200L) // 입출금 거래
@@ -68,7 +71,7 @@ class StrategyStatisticsSchedulerTest {
                 .maxDailyProfit(100L) // 최대 일간 이익
                 .build());
 
-        dailyAnalyses.add(DailyAnalysis.builder()
+        dailyAnalysisList.add(DailyAnalysis.builder()
                 .strategy(testStrategy)
                 .dailyDate(LocalDate.now()) // 세 번째 데이터: 오늘
                 .transaction(300L) // 입출금 거래
@@ -80,6 +83,8 @@ class StrategyStatisticsSchedulerTest {
                 .cumulativeProfitLoss(300L) // 누적 손익
                 .maxDailyProfit(150L) // 최대 일간 이익
                 .build());
+
+        dailyAnalyses = DailyAnalysisSeries.from(testStrategy, dailyAnalysisList);
     }
 
     @DisplayName("통계 계산 데이터값 테스트")
@@ -146,4 +151,64 @@ class StrategyStatisticsSchedulerTest {
                 .save(Mockito.any(StrategyStatistics.class));
 
     }
-}
\ No newline at end of file
+
+    @DisplayName("연속 이익/손실 일수와 표준편차를 한 번의 순회로 계산")
+    @Test
+    void 연속_손익일수_테스트() {
+        // 이익, 손실, 손실, 보합, 손실, 이익, 이익
+        long[] dailyProfitLosses = {10L, -10L, -20L, 0L, -5L, 30L, 40L};
+        double[] dailyProfitLossRates = {1.0, -1.0, -2.0, 0.0, -0.5, 3.0, 4.0};
+        List<DailyAnalysis> dailyAnalysisList = new ArrayList<>();
+        for (int i = 0; i < dailyProfitLosses.length; i++) {
+            dailyAnalysisList.add(DailyAnalysis.builder()
+                    .strategy(testStrategy)
+                    .dailyDate(LocalDate.now().minusDays(dailyProfitLosses.length - 1 - i))
+                    .dailyProfitLoss(dailyProfitLosses[i])
+                    .dailyProfitLossRate(dailyProfitLossRates[i])
+                    .balance(1000L)
+                    .build());
+        }
+
+        StrategyStatistics statistics = strategyStatisticsScheduler.createStrategyStatistics(
+                DailyAnalysisSeries.from(testStrategy, dailyAnalysisList));
+
+        assertEquals(2, statistics.getMaxConsecutiveProfitDays()); // 마지막 이틀
+        assertEquals(2, statistics.getMaxConsecutiveLossDays()); // 보합일에서 끊김
+        assertEquals(2, statistics.getCurrentConsecutiveProfitLossDays());
+        assertEquals(7, statistics.getTotalTradeDays());
+        assertEquals(2.013, statistics.getDailyProfitLossStdDev(), 0.001); // 모표준편차
+    }
+
+    @DisplayName("순위 계산 값이 바뀌었을 때만 순위 갱신 필요")
+    @Test
+    void 순위_갱신_필요_테스트() {
+        StrategyStatistics calculated = strategyStatisticsScheduler.createStrategyStatistics(dailyAnalyses);
+        StrategyStatistics sameRankValues = StrategyStatistics.builder()
+                .strategyStatisticsId(1L)
+                .maxDrawdownRate(calculated.getMaxDrawdownRate())
+                .dailyProfitLossStdDev(calculated.getDailyProfitLossStdDev())
+                .winRate(calculated.getWinRate())
+                .build();
+        StrategyStatistics otherWinRate = StrategyStatistics.builder()
+                .strategyStatisticsId(1L)
+                .maxDrawdownRate(calculated.getMaxDrawdownRate())
+                .dailyProfitLossStdDev(calculated.getDailyProfitLossStdDev())
+                .winRate(50.0)
+                .build();
+
+        Mockito.when(strategyStatisticsRepository.findById(testStrategy.getStrategyId()))
+                .thenReturn(Optional.of(sameRankValues), Optional.of(otherWinRate));
+
+        assertFalse(strategyStatisticsScheduler.calculateStatistics(dailyAnalyses));
+        assertTrue(strategyStatisticsScheduler.calculateStatistics(dailyAnalyses));
+    }
+
+    @DisplayName("최근 1년 수익률은 오늘로부터 1년 전 이후 일간 분석 기준으로 갱신")
+    @Test
+    void 최근_1년_수익률_갱신_테스트() {
+        Mockito.when(strategyStatisticsRepository.updateRecentYearProfitRates(LocalDate.now().minusYears(1)))
+                .thenReturn(3);
+
+        assertEquals(3, strategyStatisticsScheduler.refreshRecentYearProfitRates());
+    }
+}
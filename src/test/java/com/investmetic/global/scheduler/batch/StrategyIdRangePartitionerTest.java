@@ -0,0 +1,74 @@
+package com.investmetic.global.scheduler.batch;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.when;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.batch.item.ExecutionContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+@ExtendWith(MockitoExtension.class)
+class StrategyIdRangePartitionerTest {
+
+    @InjectMocks
+    private StrategyIdRangePartitioner strategyIdRangePartitioner;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @DisplayName("재계산 대상 전략 ID 범위를 겹치지 않는 구간으로 나눔")
+    @Test
+    void 전략ID_구간_분할() {
+        givenPendingStrategyIdRange(3L, 102L);
+
+        Map<String, ExecutionContext> partitions = strategyIdRangePartitioner.partition(4);
+
+        List<ExecutionContext> ranges = partitions.values().stream()
+                .sorted(Comparator.comparingLong(context -> context.getLong(StrategyIdRangePartitioner.MIN_ID)))
+                .toList();
+
+        assertEquals(4, ranges.size());
+        assertEquals(3L, ranges.get(0).getLong(StrategyIdRangePartitioner.MIN_ID));
+        assertEquals(102L, ranges.get(3).getLong(StrategyIdRangePartitioner.MAX_ID));
+        for (int i = 1; i < ranges.size(); i++) {
+            assertEquals(ranges.get(i - 1).getLong(StrategyIdRangePartitioner.MAX_ID) + 1,
+                    ranges.get(i).getLong(StrategyIdRangePartitioner.MIN_ID));
+        }
+    }
+
+    @DisplayName("전략 수가 gridSize 보다 적으면 전략 하나씩 구간 생성")
+    @Test
+    void 전략수가_적은_경우() {
+        givenPendingStrategyIdRange(7L, 8L);
+
+        Map<String, ExecutionContext> partitions = strategyIdRangePartitioner.partition(4);
+
+        assertEquals(2, partitions.size());
+    }
+
+    @DisplayName("재계산 대상이 없으면 파티션 없음")
+    @Test
+    void 재계산_대상없음() {
+        givenPendingStrategyIdRange(null, null);
+
+        assertTrue(strategyIdRangePartitioner.partition(4).isEmpty());
+    }
+
+    @SuppressWarnings("unchecked")
+    private void givenPendingStrategyIdRange(Long minId, Long maxId) {
+        when(jdbcTemplate.queryForObject(anyString(), any(RowMapper.class)))
+                .thenReturn(new Long[]{minId, maxId});
+    }
+}
@@ -0,0 +1,96 @@
+package com.investmetic.global.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.Arrays;
+import java.util.Random;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class RunningVarianceTest {
+
+    // 기존 일간 분석 계산식: 평균을 구한 뒤 편차 제곱의 평균
+    private static double batchStandardDeviation(double[] values, int size) {
+        double mean = Arrays.stream(values, 0, size).average().orElse(0.0);
+        return Math.sqrt(Arrays.stream(values, 0, size)
+                .map(x -> Math.pow(x - mean, 2))
+                .average()
+                .orElse(0.0));
+    }
+
+    private static double[] syntheticProfitLosses(int size, double offset, double scale, long seed) {
+        Random random = new Random(seed);
+        double[] values = new double[size];
+        for (int i = 0; i < size; i++) {
+            values[i] = Math.round(offset + random.nextGaussian() * scale);
+        }
+        return values;
+    }
+
+    @DisplayName("10년치 일간 손익의 표준편차가 기존 배치 계산과 일치")
+    @Test
+    void 장기_일간손익_표준편차() {
+        double[] profitLosses = syntheticProfitLosses(3_650, 50_000, 300_000, 42L);
+
+        RunningVariance runningVariance = new RunningVariance();
+        for (int i = 0; i < profitLosses.length; i++) {
+            runningVariance.add(profitLosses[i]);
+
+            double expected = batchStandardDeviation(profitLosses, i + 1);
+            double actual = runningVariance.getPopulationStandardDeviation();
+            assertEquals(expected, actual, Math.max(1e-9, expected * 1e-12));
+        }
+        assertEquals(profitLosses.length, runningVariance.getCount());
+    }
+
+    @DisplayName("평균이 표준편차보다 매우 큰 경우에도 자릿수 손실 없이 계산")
+    @Test
+    void 큰_평균값_표준편차() {
+        double[] profitLosses = syntheticProfitLosses(100_000, 1_000_000_000L, 1_000, 7L);
+
+        RunningVariance runningVariance = new RunningVariance();
+        for (double profitLoss : profitLosses) {
+            runningVariance.add(profitLoss);
+        }
+
+        double expected = batchStandardDeviation(profitLosses, profitLosses.length);
+        double relativeError = Math.abs(runningVariance.getPopulationStandardDeviation() - expected) / expected;
+        assertTrue(relativeError < 1e-9, "relative error: " + relativeError);
+    }
+
+    @DisplayName("변동계수와 샤프 비율이 반올림 후 기존 배치 계산과 일치")
+    @Test
+    void 변동계수_샤프비율() {
+        double[] profitLosses = syntheticProfitLosses(2_000, 20_000, 150_000, 2024L);
+
+        RunningVariance runningVariance = new RunningVariance();
+        long cumulativeProfitLoss = 0;
+        for (int i = 0; i < profitLosses.length; i++) {
+            runningVariance.add(profitLosses[i]);
+            cumulativeProfitLoss += (long) profitLosses[i];
+            long averageProfitLoss = cumulativeProfitLoss / (i + 1);
+
+            double batch = batchStandardDeviation(profitLosses, i + 1);
+            double streaming = runningVariance.getPopulationStandardDeviation();
+
+            if (averageProfitLoss != 0) {
+                assertEquals(RoundUtil.roundToFifth(batch / averageProfitLoss * 100),
+                        RoundUtil.roundToFifth(streaming / averageProfitLoss * 100), 0.0001);
+            }
+            if (batch != 0) {
+                assertEquals(RoundUtil.roundToFifth(averageProfitLoss / batch),
+                        RoundUtil.roundToFifth(averageProfitLoss / streaming), 0.0001);
+            }
+        }
+    }
+
+    @DisplayName("값이 없으면 분산과 표준편차는 0")
+    @Test
+    void 빈_누적통계() {
+        RunningVariance runningVariance = new RunningVariance();
+
+        assertEquals(0.0, runningVariance.getPopulationVariance());
+        assertEquals(0.0, runningVariance.getPopulationStandardDeviation());
+    }
+}
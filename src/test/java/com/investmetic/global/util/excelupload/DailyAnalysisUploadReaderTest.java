@@ -0,0 +1,125 @@
+package com.investmetic.global.util.excelupload;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.investmetic.domain.strategy.dto.request.TraderDailyAnalysisRequestDto;
+import com.investmetic.global.exception.BusinessException;
+import com.investmetic.global.exception.ErrorCode;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.poi.ss.usermodel.CellStyle;
+import org.apache.poi.ss.usermodel.Row;
+import org.apache.poi.ss.usermodel.Sheet;
+import org.apache.poi.xssf.usermodel.XSSFWorkbook;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockMultipartFile;
+
+class DailyAnalysisUploadReaderTest {
+
+    private final DailyAnalysisUploadReader dailyAnalysisUploadReader = new DailyAnalysisUploadReader();
+
+    @DisplayName("CSV 제목 행을 건너뛰고 chunkSize 개씩 전달")
+    @Test
+    void CSV_읽기() {
+        String csv = """
+                일자,입출금,일손익
+                2024-01-02,"1,000,000",5000
+                2024/01/03,0,-3000
+
+                2024.01.04,-200000,1200
+                """;
+        MockMultipartFile file = new MockMultipartFile("file", "daily.csv", "text/csv",
+                csv.getBytes(StandardCharsets.UTF_8));
+
+        List<List<TraderDailyAnalysisRequestDto>> chunks = new ArrayList<>();
+        dailyAnalysisUploadReader.read(file, 2, chunks::add);
+
+        assertEquals(2, chunks.size());
+        assertEquals(2, chunks.get(0).size());
+        assertEquals(1, chunks.get(1).size());
+
+        TraderDailyAnalysisRequestDto first = chunks.get(0).get(0);
+        assertEquals(LocalDate.of(2024, 1, 2), first.getDate());
+        assertEquals(1_000_000L, first.getTransaction());
+        assertEquals(5000L, first.getDailyProfitLoss());
+        assertEquals(LocalDate.of(2024, 1, 3), chunks.get(0).get(1).getDate());
+        assertEquals(-200_000L, chunks.get(1).get(0).getTransaction());
+    }
+
+    @DisplayName("XLSX 날짜 서식 셀과 숫자 셀 읽기")
+    @Test
+    void XLSX_읽기() throws IOException {
+        MockMultipartFile file = new MockMultipartFile("file", "daily.xlsx",
+                "application/vnd.openxmlformats-officedocument.spreadsheetml.sheet", createWorkbook());
+
+        List<TraderDailyAnalysisRequestDto> rows = new ArrayList<>();
+        dailyAnalysisUploadReader.read(file, 100, rows::addAll);
+
+        assertEquals(2, rows.size());
+        assertEquals(LocalDate.of(2024, 1, 2), rows.get(0).getDate());
+        assertEquals(10_000_000L, rows.get(0).getTransaction());
+        assertEquals(-25_000L, rows.get(0).getDailyProfitLoss());
+        assertEquals(LocalDate.of(2024, 1, 3), rows.get(1).getDate());
+    }
+
+    @DisplayName("날짜 형식이 잘못된 행이 있으면 예외 발생")
+    @Test
+    void 잘못된_날짜() {
+        MockMultipartFile file = new MockMultipartFile("file", "daily.csv", "text/csv",
+                "2024-01-02,0,100\n2024-13-01,0,100\n".getBytes(StandardCharsets.UTF_8));
+
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> dailyAnalysisUploadReader.read(file, 100, rows -> { }));
+
+        assertEquals(ErrorCode.INVALID_DATE, exception.getErrorCode());
+    }
+
+    @DisplayName("CSV, XLSX 가 아닌 파일은 예외 발생")
+    @Test
+    void 지원하지_않는_파일() {
+        MockMultipartFile file = new MockMultipartFile("file", "daily.xls", "application/vnd.ms-excel",
+                new byte[0]);
+
+        BusinessException exception = assertThrows(BusinessException.class,
+                () -> dailyAnalysisUploadReader.read(file, 100, rows -> { }));
+
+        assertEquals(ErrorCode.DAILY_ANALYSIS_EXCEL_UPLOAD_FAILED, exception.getErrorCode());
+    }
+
+    private byte[] createWorkbook() throws IOException {
+        try (XSSFWorkbook workbook = new XSSFWorkbook(); ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            CellStyle dateStyle = workbook.createCellStyle();
+            dateStyle.setDataFormat(workbook.getCreationHelper().createDataFormat().getFormat("yyyy.mm.dd"));
+            CellStyle amountStyle = workbook.createCellStyle();
+            amountStyle.setDataFormat(workbook.getCreationHelper().createDataFormat().getFormat("#,##0"));
+
+            Sheet sheet = workbook.createSheet();
+            Row header = sheet.createRow(0);
+            header.createCell(0).setCellValue("일자");
+            header.createCell(1).setCellValue("입출금");
+            header.createCell(2).setCellValue("일손익");
+
+            Object[][] values = {
+                    {LocalDate.of(2024, 1, 2), 10_000_000, -25_000},
+                    {LocalDate.of(2024, 1, 3), 0, 12_000}
+            };
+            for (int i = 0; i < values.length; i++) {
+                Row row = sheet.createRow(i + 1);
+                row.createCell(0).setCellValue((LocalDate) values[i][0]);
+                row.getCell(0).setCellStyle(dateStyle);
+                row.createCell(1).setCellValue((int) values[i][1]);
+                row.getCell(1).setCellStyle(amountStyle);
+                row.createCell(2).setCellValue((int) values[i][2]);
+            }
+
+            workbook.write(out);
+            return out.toByteArray();
+        }
+    }
+}